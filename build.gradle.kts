@@ -76,6 +76,10 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
     systemProperty("file.encoding", "UTF-8")
+    // 벤치마크 설정(-Dbenchmark.*)을 테스트 JVM 으로 전달 - ProductFullTextBenchmarkTest 등
+    System.getProperties()
+        .filter { (key, _) -> key.toString().startsWith("benchmark.") }
+        .forEach { (key, value) -> systemProperty(key.toString(), value) }
 }
 
 // QueryDSL 설정 - 생성된 Q클래스들이 저장될 디렉토리 설정
@@ -4,6 +4,7 @@ import com.backend.domain.bid.dto.*;
 import com.backend.domain.bid.service.BidPaymentService;
 import com.backend.domain.bid.service.BidService;
 import com.backend.domain.member.repository.MemberRepository;
+import com.backend.global.page.dto.CursorPageDto;
 import com.backend.global.response.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -61,6 +62,17 @@ public class ApiV1BidController {
         return bidService.getBidStatus(productId);
     }
 
+    @Operation(summary = "시청자 수 조회", description = "특정 상품을 지금 보고 있는 사용자 수 조회 (실시간 입찰 구독 수).")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "시청자 수 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    @GetMapping("/products/{productId}/watchers")
+    public RsData<ProductWatcherDto> getWatcherCount(
+            @Parameter(description = "상품 ID", required = true) @PathVariable Long productId) {
+        return bidService.getWatcherCount(productId);
+    }
+
     @Operation(summary = "내 입찰 내역 조회", description = "현재 사용자의 입찰 내역을 페이지네이션으로 조회.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "내 입찰 내역 조회 성공",
@@ -77,6 +89,22 @@ public class ApiV1BidController {
         return bidService.getMyBids(memberId, page, size);
     }
 
+    @Operation(summary = "내 입찰 내역 커서 조회", description = "마지막으로 받은 입찰 ID(cursor) 이후의 입찰 내역을 조회. 전체 개수 없이 nextCursor 반환.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내 입찰 내역 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    @GetMapping("/me/cursor")
+    public RsData<CursorPageDto<MyBidResponseDto.MyBidItem>> getMyBidsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "120") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        Long memberId = extractMemberId(user);
+        return bidService.getMyBidsByCursor(memberId, cursor, size);
+    }
+
     @Operation(summary = "낙찰 결제", description = "내가 낙찰한 입찰 건에 대해 지갑에서 출금하고 결제 완료로 표시합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "결제 성공",
@@ -0,0 +1,8 @@
+package com.backend.domain.bid.dto;
+
+// 구독 시점 입찰 현황 스냅샷 (sequence 이하의 입찰 브로드캐스트는 이미 반영된 상태)
+public record BidSnapshotDto(
+        Long sequence,
+        BidCurrentResponseDto bidStatus
+) {
+}
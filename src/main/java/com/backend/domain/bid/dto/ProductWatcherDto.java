@@ -0,0 +1,8 @@
+package com.backend.domain.bid.dto;
+
+// 상품을 지금 보고 있는 사용자 수 (상품 입찰 토픽 구독 수)
+public record ProductWatcherDto(
+        Long productId,
+        Long watchingCount
+) {
+}
@@ -10,7 +10,12 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", indexes = {
+        // 내 입찰내역 커서 조회용 (bidder_id = ? AND status = ? AND id < ? ORDER BY id DESC)
+        @Index(name = "idx_bid_bidder_status_id", columnList = "bidder_id, status, id DESC"),
+        // 상품별 입찰내역 조회용
+        @Index(name = "idx_bid_product_status_id", columnList = "product_id, status, id DESC")
+})
 @Getter
 @Setter
 @Builder
@@ -37,6 +37,10 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
     @Query("SELECT b FROM Bid b JOIN FETCH b.product p WHERE b.member.id = :memberId AND b.status = 'BIDDING' ORDER BY b.createDate DESC")
     Page<Bid> findMyBids(@Param("memberId") Long memberId, Pageable pageable);
 
+    // 내 입찰내역 커서 조회 (id < cursor, idx_bid_bidder_status_id 범위 탐색)
+    @Query("SELECT b FROM Bid b JOIN FETCH b.product p LEFT JOIN FETCH p.seller WHERE b.member.id = :memberId AND b.status = 'BIDDING' AND b.id < :cursor ORDER BY b.id DESC")
+    List<Bid> findMyBidsBefore(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
+
     // 상품들 현재 최고 입찰가 조회
     @Query("""
             SELECT b.product.id AS productId, MAX(b.bidPrice) AS currentPrice
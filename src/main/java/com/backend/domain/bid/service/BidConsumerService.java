@@ -14,16 +14,19 @@ import com.backend.domain.product.event.helper.ProductChangeTracker;
 import com.backend.domain.product.repository.jpa.ProductRepository;
 import com.backend.global.exception.ServiceException;
 import com.backend.global.lock.DistributedLock;
+import com.backend.global.outbox.OutboxEventPublisher;
 import com.backend.global.websocket.service.WebSocketService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -33,6 +36,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BidConsumerService {
 
+    // processBid 를 프록시로 호출해야 분산락 + 트랜잭션(AopForTransaction)이 적용됨 (아웃박스 저장은 트랜잭션 필수)
+    @Autowired
+    @Lazy
+    private BidConsumerService self;
+
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
     private final ProductRepository productRepository;
@@ -40,7 +48,8 @@ public class BidConsumerService {
     private final BidRepository bidRepository;
     private final WebSocketService webSocketService;
     private final BidNotificationService bidNotificationService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final BidSnapshotService bidSnapshotService;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     @Scheduled(fixedDelay = 100) // 0.1초마다 실행
     public void consumeBidQueue() {
@@ -49,7 +58,7 @@ public class BidConsumerService {
         if (messageJson != null) {
             try {
                 BidMessageDto messageDto = objectMapper.readValue(messageJson, BidMessageDto.class);
-                processBid(messageDto);
+                self.processBid(messageDto);
             } catch (JsonProcessingException e) {
                 log.error("입찰 메시지 역직렬화 실패: {}", messageJson, e);
             } catch (Exception e) {
@@ -92,11 +101,10 @@ public class BidConsumerService {
         // 상품 업데이트
         updateProduct(product, savedBid, price);
 
-        // 응답 생성
-        BidResponseDto bidResponse = createBidResponse(savedBid);
-
-        // 실시간 브로드캐스트
-        webSocketService.broadcastBidUpdate(productId, bidResponse);
+        // 스냅샷 무효화 + 실시간 브로드캐스트는 커밋 후에만
+        // - 커밋 전에 sequence 를 올리면 그 사이 구독자가 (새 sequence, 입찰 전 가격) 스냅샷을 받아 캐시하고 새 프레임을 버림
+        // - 롤백되면 브로드캐스트도 sequence 소모도 없어야 함
+        afterCommit(() -> publishBidUpdate(productId, savedBid));
 
         // 입찰 성공 알림 (현재 입찰자에게)
         bidNotificationService.notifyBidSuccess(bidderId, product, price);
@@ -186,7 +194,33 @@ public class BidConsumerService {
 
         productRepository.save(product); // 변경사항을 명시적으로 저장
 
-        tracker.publishChanges(eventPublisher, product);
+        tracker.publishChanges(outboxEventPublisher, product);
+    }
+
+    // 커밋된 입찰 반영: 스냅샷을 먼저 비우고 브로드캐스트 (이후 구독자는 커밋된 상태로 스냅샷 생성)
+    private void publishBidUpdate(Long productId, Bid savedBid) {
+        bidSnapshotService.evict(productId);
+        try {
+            // 상품 토픽 구독자가 있을 때만 메시지 생성
+            if (webSocketService.hasWatchers(productId)) {
+                webSocketService.broadcastBidUpdate(productId, createBidResponse(savedBid));
+            }
+        } catch (Exception e) {
+            log.warn("입찰 브로드캐스트 실패 - 상품: {}", productId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     private BidResponseDto createBidResponse(Bid bid) {
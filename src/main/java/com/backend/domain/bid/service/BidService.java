@@ -11,12 +11,13 @@ import com.backend.domain.product.enums.AuctionStatus;
 import com.backend.domain.product.event.helper.ProductChangeTracker;
 import com.backend.domain.product.repository.jpa.ProductRepository;
 import com.backend.global.exception.ServiceException;
+import com.backend.global.outbox.OutboxEventPublisher;
+import com.backend.global.page.dto.CursorPageDto;
 import com.backend.global.response.RsData;
 import com.backend.global.websocket.service.WebSocketService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -39,7 +40,7 @@ public class BidService {
     private final MemberRepository memberRepository;
     private final WebSocketService webSocketService;
     private final BidNotificationService bidNotificationService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
 
@@ -97,6 +98,12 @@ public class BidService {
         return RsData.ok("입찰 현황이 조회되었습니다.", response);
     }
 
+    // 상품을 지금 보고 있는 사용자 수 (WebSocket 상품 토픽 구독 수)
+    public RsData<ProductWatcherDto> getWatcherCount(Long productId) {
+        long watchingCount = webSocketService.getWatcherCount(productId);
+        return RsData.ok("시청자 수가 조회되었습니다.", new ProductWatcherDto(productId, watchingCount));
+    }
+
     @Transactional(readOnly = true)
     public RsData<MyBidResponseDto> getMyBids(Long memberId, int page, int size) {
         // 페이지 설정
@@ -111,10 +118,10 @@ public class BidService {
         }
 
         // 상품별 현재 최고가 조회
-        Map<Long, Long> currentPricesMap = getCurrentPricesMap(bidPage);
+        Map<Long, Long> currentPricesMap = getCurrentPricesMap(bidPage.getContent());
 
         // 응답 데이터 생성
-        List<MyBidResponseDto.MyBidItem> myBidItems = createMyBidItems(bidPage, currentPricesMap);
+        List<MyBidResponseDto.MyBidItem> myBidItems = createMyBidItems(bidPage.getContent(), currentPricesMap);
 
         MyBidResponseDto response = new MyBidResponseDto(
                 myBidItems,
@@ -128,6 +135,24 @@ public class BidService {
         return RsData.ok("내 입찰 내역이 조회되었습니다.", response);
     }
 
+    @Transactional(readOnly = true)
+    public RsData<CursorPageDto<MyBidResponseDto.MyBidItem>> getMyBidsByCursor(Long memberId, Long cursor, int size) {
+        int pageSize = (size > 0 && size <= 100) ? size : 20;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (COUNT 쿼리 없음)
+        List<Bid> bids = bidRepository.findMyBidsBefore(memberId, CursorPageDto.upperBound(cursor), PageRequest.of(0, pageSize + 1));
+        List<Bid> pageBids = bids.size() > pageSize ? bids.subList(0, pageSize) : bids;
+
+        // 상품별 현재 최고가 조회
+        Map<Long, Long> currentPricesMap = pageBids.isEmpty() ? Map.of() : getCurrentPricesMap(pageBids);
+        List<MyBidResponseDto.MyBidItem> myBidItems = createMyBidItems(pageBids, currentPricesMap);
+
+        boolean hasNext = bids.size() > pageSize;
+        Long nextCursor = hasNext ? pageBids.get(pageBids.size() - 1).getId() : null;
+
+        return RsData.ok("내 입찰 내역이 조회되었습니다.", new CursorPageDto<>(myBidItems, nextCursor, pageSize, hasNext));
+    }
+
     private Product getProductById(Long productId) {
         return productRepository.findById(productId)
                 .orElseThrow(() -> ServiceException.notFound("존재하지 않는 상품입니다."));
@@ -151,8 +176,8 @@ public class BidService {
         return RsData.ok("내 빈 입찰내역 조회 성공.", emptyBids);
     }
 
-    private Map<Long, Long> getCurrentPricesMap(Page<Bid> bidPage) {
-        Set<Long> productIds = bidPage.getContent().stream()
+    private Map<Long, Long> getCurrentPricesMap(List<Bid> bids) {
+        Set<Long> productIds = bids.stream()
                 .map(bid -> bid.getProduct().getId())
                 .collect(Collectors.toSet());
 
@@ -163,8 +188,8 @@ public class BidService {
                 ));
     }
 
-    private List<MyBidResponseDto.MyBidItem> createMyBidItems(Page<Bid> bidPage, Map<Long, Long> currentPricesMap) {
-        return bidPage.getContent().stream()
+    private List<MyBidResponseDto.MyBidItem> createMyBidItems(List<Bid> bids, Map<Long, Long> currentPricesMap) {
+        return bids.stream()
                 .map(bid -> {
                     Product product = bid.getProduct();
                     Long currentHighestPrice = currentPricesMap.getOrDefault(product.getId(), 0L);
@@ -264,7 +289,7 @@ public class BidService {
         product.addBid(savedBid);
         product.setCurrentPrice(newPrice);
 
-        tracker.publishChanges(eventPublisher, product);
+        tracker.publishChanges(outboxEventPublisher, product);
     }
 
     // ======================================= helper methods ======================================= //
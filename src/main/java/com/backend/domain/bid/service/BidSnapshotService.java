@@ -0,0 +1,84 @@
+package com.backend.domain.bid.service;
+
+import com.backend.domain.bid.dto.BidCurrentResponseDto;
+import com.backend.domain.bid.dto.BidSnapshotDto;
+import com.backend.global.websocket.service.BidBroadcastConflater;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 상품 토픽 구독 시점 입찰 현황 스냅샷
+ * - 상품 페이지 진입마다 REST 입찰 현황 조회를 따로 하지 않도록 구독 응답으로 현재 상태 전달
+ * - 현재 sequence 를 DB 조회보다 먼저 읽어서 스냅샷과 함께 캐시
+ *   → 클라이언트는 sequence 이하의 토픽 메시지를 버리면 REST 조회와 첫 푸시 사이의 경합이 없어짐
+ * - 새 입찰이 커밋되면 캐시를 비우고(브로드캐스트보다 먼저), 경매 상태 변경은 짧은 TTL 로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BidSnapshotService {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "bid:snapshot:";
+
+    private final BidService bidService;
+    private final BidBroadcastConflater bidBroadcastConflater;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${websocket.bid-snapshot.ttl-seconds:3}")
+    private long ttlSeconds;
+
+    public BidSnapshotDto getSnapshot(Long productId) {
+        BidSnapshotDto cached = readCache(productId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // sequence 를 먼저 읽어야 스냅샷이 항상 sequence 이후 상태를 포함함
+        Long sequence = bidBroadcastConflater.currentSequence(productId);
+        BidCurrentResponseDto bidStatus = bidService.getBidStatus(productId).data();
+        BidSnapshotDto snapshot = new BidSnapshotDto(sequence, bidStatus);
+
+        // sequence 를 알 수 없는 스냅샷은 캐시하지 않음 (다음 구독자가 다시 조회)
+        if (sequence != null) {
+            writeCache(productId, snapshot);
+        }
+        return snapshot;
+    }
+
+    // 새 입찰 커밋 후, 브로드캐스트 전에 호출 (다음 구독자는 커밋된 상태로 스냅샷 생성)
+    public void evict(Long productId) {
+        try {
+            redisTemplate.delete(SNAPSHOT_KEY_PREFIX + productId);
+        } catch (Exception e) {
+            log.warn("입찰 스냅샷 캐시 삭제 실패 - 상품: {}", productId, e);
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    // 캐시 장애 시에도 DB 조회로 스냅샷 제공
+    private BidSnapshotDto readCache(Long productId) {
+        try {
+            String json = redisTemplate.opsForValue().get(SNAPSHOT_KEY_PREFIX + productId);
+            return json != null ? objectMapper.readValue(json, BidSnapshotDto.class) : null;
+        } catch (Exception e) {
+            log.warn("입찰 스냅샷 캐시 조회 실패 - 상품: {}", productId, e);
+            return null;
+        }
+    }
+
+    private void writeCache(Long productId, BidSnapshotDto snapshot) {
+        try {
+            redisTemplate.opsForValue().set(SNAPSHOT_KEY_PREFIX + productId,
+                    objectMapper.writeValueAsString(snapshot), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("입찰 스냅샷 캐시 저장 실패 - 상품: {}", productId, e);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.backend.domain.cash.controller;
 
 import com.backend.domain.cash.dto.response.CashResponse;
+import com.backend.domain.cash.dto.response.CashTransactionItemResponse;
 import com.backend.domain.cash.dto.response.CashTransactionResponse;
 import com.backend.domain.cash.dto.response.CashTransactionsResponse;
 import com.backend.domain.cash.service.CashService;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.service.MemberService;
+import com.backend.global.page.dto.CursorPageDto;
 import com.backend.global.response.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -78,6 +80,27 @@ public class ApiV1CashController {
         return RsData.ok("지갑 원장 목록이 조회되었습니다.", data);
     }
 
+    @GetMapping("/transactions/cursor")
+    @Operation(summary = "내 원장 목록 커서 조회", description = "cursor(마지막 원장 ID) 이후 목록, 전체 개수 없이 nextCursor 반환. 지갑 미생성 시 404 반환")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "원장 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "404", description = "지갑 없음",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    @Transactional(readOnly = true)
+    public RsData<CursorPageDto<CashTransactionItemResponse>> getMyTransactionsByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Member actor = getActor(user);
+        CursorPageDto<CashTransactionItemResponse> data = cashService.getMyTransactionsByCursor(actor, cursor, size);
+        return RsData.ok("지갑 원장 목록이 조회되었습니다.", data);
+    }
+
     @GetMapping("/transactions/{transactionId}")
     @Operation(summary = "내 원장 단건 상세", description = "해당 거래가 없으면 404를 반환합니다.")
     @ApiResponses(value = {
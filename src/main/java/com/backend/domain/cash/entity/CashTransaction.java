@@ -12,6 +12,11 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(
+        indexes = {
+                @Index(name = "idx_cash_tx_cash_id", columnList = "cash_id, id DESC") // 원장 커서 목록 조회용..
+        }
+)
 public class CashTransaction extends BaseEntity {
 
     // 어떤 지갑의 거래인가요?
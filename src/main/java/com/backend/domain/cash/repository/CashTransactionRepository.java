@@ -7,6 +7,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CashTransactionRepository extends JpaRepository<CashTransaction, Long> {
@@ -14,6 +15,9 @@ public interface CashTransactionRepository extends JpaRepository<CashTransaction
     // 최신순 목록..
     Page<CashTransaction> findAllByCashOrderByIdDesc(Cash cash, Pageable pageable);
 
+    // 커서 목록(id < cursor).. COUNT 없이 idx_cash_tx_cash_id 범위 탐색..
+    List<CashTransaction> findByCashAndIdLessThanOrderByIdDesc(Cash cash, Long cursor, Pageable pageable);
+
     // 단건 상세..
     Optional<CashTransaction> findByIdAndCash(Long id, Cash cash);
 
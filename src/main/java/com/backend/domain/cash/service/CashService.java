@@ -12,6 +12,7 @@ import com.backend.domain.cash.entity.CashTransaction;
 import com.backend.domain.cash.repository.CashRepository;
 import com.backend.domain.cash.repository.CashTransactionRepository;
 import com.backend.domain.member.entity.Member;
+import com.backend.global.page.dto.CursorPageDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -70,6 +71,19 @@ public class CashService {
                 .build();
     }
 
+    // 원장 커서 목록 조회(전체 개수 없이 다음 커서만)..
+    @Transactional(readOnly = true)
+    public CursorPageDto<CashTransactionItemResponse> getMyTransactionsByCursor(Member member, Long cursor, int size) {
+        Cash cash = cashRepository.findByMember(member)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "지갑이 아직 생성되지 않았습니다."));
+
+        int pageSize = (size > 0 && size <= 100) ? size : 20;
+        List<CashTransaction> rows = cashTransactionRepository.findByCashAndIdLessThanOrderByIdDesc(
+                cash, CursorPageDto.upperBound(cursor), PageRequest.of(0, pageSize + 1)); // 1건 더 읽어서 hasNext 판단..
+
+        return CursorPageDto.of(rows, pageSize, CashTransaction::getId, this::toItem);
+    }
+
     private CashTransactionItemResponse toItem(CashTransaction tx) {
         String createdAt = tx.getCreateDate() != null
                 ? tx.getCreateDate().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
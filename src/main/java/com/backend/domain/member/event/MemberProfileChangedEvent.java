@@ -0,0 +1,8 @@
+package com.backend.domain.member.event;
+
+/**
+ * 상품 목록에 노출되는 판매자 정보(닉네임, 프로필 이미지, 신용 점수, 리뷰 수) 변경 이벤트
+ */
+public record MemberProfileChangedEvent(
+        Long memberId
+) {}
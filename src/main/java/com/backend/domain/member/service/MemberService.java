@@ -2,12 +2,16 @@ package com.backend.domain.member.service;
 
 import com.backend.domain.member.dto.*;
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.event.MemberProfileChangedEvent;
 import com.backend.domain.member.repository.MemberRepository;
 import com.backend.global.exception.ServiceException;
 import com.backend.global.file.service.FileService;
-import com.backend.global.redis.RedisUtil;
+import com.backend.global.outbox.OutboxEventPublisher;
+import com.backend.global.outbox.enums.AggregateType;
 import com.backend.global.response.RsData;
 import com.backend.global.security.JwtUtil;
+import com.backend.global.security.PrincipalCache;
+import com.backend.global.security.TokenBlacklist;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,8 +28,10 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-    private final RedisUtil redisUtil;
     private final FileService fileService;
+    private final PrincipalCache principalCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     public RsData<MemberSignUpResponseDto> signup(MemberSignUpRequestDto memberSignUpRequestDto) {
         checkEmailDuplication(memberSignUpRequestDto.email());
@@ -60,16 +66,16 @@ public class MemberService {
     }
 
     public void logout(String accessToken) {
-        long remainingExpirationMillis = jwtUtil.getRemainingExpirationMillis(accessToken);
-        redisUtil.setData(accessToken, "logout", remainingExpirationMillis);
+        JwtUtil.VerifiedToken verified = jwtUtil.verify(accessToken)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 Access Token 입니다."));
+        tokenBlacklist.add(verified.jti(), verified.remainingMillis());
+        principalCache.evict(verified.subject());
     }
 
     public RsData<LoginResponseDto> reissue(String refreshToken) {
-        if (!jwtUtil.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 Refresh Token 입니다.");
-        }
-
-        String email = jwtUtil.getEmailFromToken(refreshToken);
+        String email = jwtUtil.verify(refreshToken)
+                .map(JwtUtil.VerifiedToken::subject)
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 Refresh Token 입니다."));
         Member member = findMemberByEmail(email);
 
         if (!member.getRefreshToken().equals(refreshToken)) {
@@ -117,6 +123,9 @@ public class MemberService {
         );
 
         Member modifiedMember = memberRepository.save(member);
+        principalCache.evict(email);
+        // 상품 문서의 판매자 정보 동기화
+        outboxEventPublisher.append(AggregateType.MEMBER, modifiedMember.getId(), new MemberProfileChangedEvent(modifiedMember.getId()));
 
         MemberMyInfoResponseDto responseDto = new MemberMyInfoResponseDto(
                 modifiedMember.getId(),
@@ -172,6 +181,7 @@ public class MemberService {
     public RsData<Void> withdraw(String email) {
         Member member = findMemberByEmail(email);
         memberRepository.delete(member);
+        principalCache.evict(email);
         return new RsData<>("200-5", "회원 탈퇴가 완료되었습니다.", null);
     }
 
@@ -179,5 +189,6 @@ public class MemberService {
         int newCreditScore = member.getCreditScore() + creditScore;
         member.updateCreditScore(newCreditScore);
         memberRepository.save(member);
+        outboxEventPublisher.append(AggregateType.MEMBER, member.getId(), new MemberProfileChangedEvent(member.getId()));
     }
 }
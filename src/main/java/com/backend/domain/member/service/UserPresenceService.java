@@ -1,158 +1,367 @@
 package com.backend.domain.member.service;
 
-import com.backend.global.redis.RedisUtil;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+import com.backend.global.config.NodeIdentity;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 사용자 온라인/오프라인 상태 관리 서비스
  * WebSocket 연결 상태와 Redis를 활용하여 사용자의 실시간 접속 상태를 추적
+ * - 노드 로컬: 세션 → 이메일, 이메일 → (회원 ID, 세션 수) 역방향 맵으로 연결/해제 O(1) 처리
+ * - Redis: 노드별 회원 ID 비트맵(presence:node:{nodeId})에 자기 노드의 접속자만 기록
+ * - 노드는 갱신형 lease(presence:lease:{nodeId})를 유지하고, 전체 온라인 상태는 lease 가 살아있는 노드 비트맵의 합집합
+ * - 재시작한 노드는 자기 비트맵만 다시 만들고, lease 가 만료된 노드의 비트맵은 다른 노드가 정리
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserPresenceService {
-    
-    private final RedisUtil redisUtil;
-    
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MemberRepository memberRepository;
+    private final NodeIdentity nodeIdentity;
+
     // WebSocket 세션과 사용자 이메일 매핑 (메모리 캐시)
     private final ConcurrentHashMap<String, String> sessionUserMap = new ConcurrentHashMap<>();
-    
-    // 온라인 사용자 키 접두사
-    private static final String ONLINE_USER_KEY_PREFIX = "online:user:";
-    private static final String ONLINE_USERS_SET_KEY = "online:users";
-    
-    // 온라인 상태 TTL (5분 - 주기적으로 갱신됨)
-    private static final Duration ONLINE_STATUS_TTL = Duration.ofMinutes(5);
-    
+    // 사용자 이메일 → 회원 ID / 로컬 세션 수 (세션 해제 시 다른 세션 확인을 O(1)로)
+    private final ConcurrentHashMap<String, LocalPresence> localUsers = new ConcurrentHashMap<>();
+
+    // 노드별 온라인 회원 비트맵 (offset = 회원 ID) / 노드 lease / 등록된 노드 목록
+    private static final String NODE_BITMAP_KEY_PREFIX = "presence:node:";
+    private static final String NODE_LEASE_KEY_PREFIX = "presence:lease:";
+    private static final String NODES_SET_KEY = "presence:nodes";
+    private static final String COUNT_TEMP_KEY_PREFIX = "presence:count:";
+
+    // 비트맵 재구성 시 파이프라인 한 번에 보내는 회원 수
+    private static final int REBUILD_CHUNK = 1000;
+
+    // lease TTL (갱신 주기의 3배 이상 권장)
+    @Value("${presence.lease-ttl-seconds:30}")
+    private long leaseTtlSeconds;
+
+    private record LocalPresence(Long memberId, int sessions) {
+    }
+
     /**
      * 사용자를 온라인 상태로 설정
      */
     public void setUserOnline(String userEmail, String sessionId) {
         try {
-            // Redis에 온라인 상태 저장
-            String userKey = ONLINE_USER_KEY_PREFIX + userEmail;
-            redisUtil.setDataExpire(userKey, sessionId, ONLINE_STATUS_TTL.toSeconds());
-            
-            // 온라인 사용자 Set에 추가
-            redisUtil.setSAdd(ONLINE_USERS_SET_KEY, userEmail);
-            
-            // 메모리 캐시에 저장
-            sessionUserMap.put(sessionId, userEmail);
-            
+            if (sessionUserMap.putIfAbsent(sessionId, userEmail) != null) {
+                return;
+            }
+
+            // 이 노드의 첫 세션일 때만 회원 ID 조회 및 Redis 반영
+            LocalPresence existing = localUsers.get(userEmail);
+            Long memberId = existing != null ? existing.memberId() : resolveMemberId(userEmail);
+            LocalPresence presence = localUsers.compute(userEmail, (email, current) -> current == null
+                    ? new LocalPresence(memberId, 1)
+                    : new LocalPresence(current.memberId(), current.sessions() + 1));
+
+            if (presence.sessions() == 1 && presence.memberId() != null) {
+                markOnline(presence.memberId());
+            }
+
             log.info("사용자 온라인 상태 설정: {} (세션: {})", userEmail, sessionId);
         } catch (Exception e) {
             log.error("사용자 온라인 상태 설정 실패: {}", userEmail, e);
         }
     }
-    
+
     /**
      * 사용자를 오프라인 상태로 설정
      */
     public void setUserOffline(String sessionId) {
         try {
             String userEmail = sessionUserMap.remove(sessionId);
-            
-            if (userEmail != null) {
-                // 다른 세션이 있는지 확인
-                boolean hasOtherSessions = sessionUserMap.values().stream()
-                    .anyMatch(email -> email.equals(userEmail));
-                
-                if (!hasOtherSessions) {
-                    // Redis에서 온라인 상태 제거
-                    String userKey = ONLINE_USER_KEY_PREFIX + userEmail;
-                    redisUtil.deleteData(userKey);
-                    
-                    // 온라인 사용자 Set에서 제거
-                    redisUtil.setSRem(ONLINE_USERS_SET_KEY, userEmail);
-                    
-                    log.info("사용자 오프라인 상태 설정: {} (세션: {})", userEmail, sessionId);
-                } else {
-                    log.debug("사용자 {}의 다른 세션이 존재함", userEmail);
+            if (userEmail == null) {
+                return;
+            }
+
+            LocalPresence[] lastSession = {null};
+            localUsers.computeIfPresent(userEmail, (email, current) -> {
+                if (current.sessions() <= 1) {
+                    lastSession[0] = current;
+                    return null;
+                }
+                return new LocalPresence(current.memberId(), current.sessions() - 1);
+            });
+
+            if (lastSession[0] != null) {
+                if (lastSession[0].memberId() != null) {
+                    markOffline(lastSession[0].memberId());
                 }
+                log.info("사용자 오프라인 상태 설정: {} (세션: {})", userEmail, sessionId);
+            } else {
+                log.debug("사용자 {}의 다른 세션이 존재함", userEmail);
             }
         } catch (Exception e) {
             log.error("사용자 오프라인 상태 설정 실패: 세션 {}", sessionId, e);
         }
     }
-    
+
     /**
-     * 사용자가 온라인인지 확인
+     * 회원 ID로 온라인 상태 확인
      */
-    public boolean isUserOnline(String userEmail) {
-        try {
-            String userKey = ONLINE_USER_KEY_PREFIX + userEmail;
-            return redisUtil.existData(userKey);
-        } catch (Exception e) {
-            log.error("사용자 온라인 상태 확인 실패: {}", userEmail, e);
+    public boolean isUserOnlineById(Long memberId) {
+        if (memberId == null) {
             return false;
         }
+        return !getOnlineMemberIds(List.of(memberId)).isEmpty();
     }
-    
+
     /**
-     * 사용자 ID로 온라인 상태 확인
+     * 여러 회원의 온라인 상태를 한 번에 확인
+     * 노드 lease 확인과 노드별 GETBIT 를 한 번의 파이프라인으로 조회하여
+     * lease 가 살아있는 노드 중 하나라도 접속 중인 회원 ID만 반환
      */
-    public boolean isUserOnlineById(Long userId) {
-        // 이 메서드는 MemberRepository를 주입받아 이메일을 조회하는 로직이 필요
-        // 순환 참조를 피하기 위해 별도 처리 필요
-        return false;
+    public Set<Long> getOnlineMemberIds(Collection<Long> memberIds) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Set.of();
+        }
+
+        try {
+            List<String> nodes = getRegisteredNodes();
+            if (nodes.isEmpty()) {
+                return Set.of();
+            }
+            List<Long> ids = memberIds.stream().filter(Objects::nonNull).distinct().toList();
+
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String node : nodes) {
+                    connection.keyCommands().exists(bytes(NODE_LEASE_KEY_PREFIX + node));
+                }
+                for (String node : nodes) {
+                    byte[] bitmapKey = bytes(NODE_BITMAP_KEY_PREFIX + node);
+                    for (Long id : ids) {
+                        connection.stringCommands().getBit(bitmapKey, id);
+                    }
+                }
+                return null;
+            });
+
+            Set<Long> onlineIds = new HashSet<>();
+            for (int n = 0; n < nodes.size(); n++) {
+                if (!Boolean.TRUE.equals(results.get(n))) {
+                    continue; // lease 가 만료된 노드는 제외
+                }
+                int offset = nodes.size() + n * ids.size();
+                for (int i = 0; i < ids.size(); i++) {
+                    if (Boolean.TRUE.equals(results.get(offset + i))) {
+                        onlineIds.add(ids.get(i));
+                    }
+                }
+            }
+            return onlineIds;
+        } catch (Exception e) {
+            log.error("사용자 온라인 상태 일괄 확인 실패: {}명", memberIds.size(), e);
+            return Set.of();
+        }
     }
-    
+
     /**
-     * 온라인 사용자 목록 조회
+     * 온라인 사용자 수 조회 (살아있는 노드 비트맵 BITOP OR → BITCOUNT)
      */
-    public Set<Object> getOnlineUsers() {
+    public long getOnlineUserCount() {
         try {
-            return redisUtil.setSMembers(ONLINE_USERS_SET_KEY);
+            List<String> liveNodes = getLiveNodes();
+            if (liveNodes.isEmpty()) {
+                return 0L;
+            }
+            byte[][] bitmapKeys = liveNodes.stream()
+                    .map(node -> bytes(NODE_BITMAP_KEY_PREFIX + node))
+                    .toArray(byte[][]::new);
+            byte[] tempKey = bytes(COUNT_TEMP_KEY_PREFIX + nodeIdentity.getNodeId());
+
+            Long count = stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+                connection.stringCommands().bitOp(RedisStringCommands.BitOperation.OR, tempKey, bitmapKeys);
+                Long bitCount = connection.stringCommands().bitCount(tempKey);
+                connection.keyCommands().del(tempKey);
+                return bitCount;
+            });
+            return count != null ? count : 0L;
         } catch (Exception e) {
-            log.error("온라인 사용자 목록 조회 실패", e);
-            return Set.of();
+            log.error("온라인 사용자 수 조회 실패", e);
+            return 0L;
         }
     }
-    
+
     /**
      * 사용자의 온라인 상태 갱신 (Heartbeat)
+     * 접속 상태는 세션 연결/해제와 노드 lease 로 관리되므로 메시지마다 Redis 를 호출하지 않음
      */
     public void refreshUserOnlineStatus(String userEmail) {
-        try {
-            if (isUserOnline(userEmail)) {
-                String userKey = ONLINE_USER_KEY_PREFIX + userEmail;
-                redisUtil.setDataExpire(userKey, "active", ONLINE_STATUS_TTL.toSeconds());
-                log.debug("사용자 온라인 상태 갱신: {}", userEmail);
-            }
-        } catch (Exception e) {
-            log.error("사용자 온라인 상태 갱신 실패: {}", userEmail, e);
+        if (!localUsers.containsKey(userEmail)) {
+            log.debug("이 노드에 연결되지 않은 사용자의 heartbeat: {}", userEmail);
+            return;
         }
+        log.debug("사용자 온라인 상태 갱신: {}", userEmail);
     }
-    
+
     /**
      * 세션 ID로 사용자 이메일 조회
      */
     public String getUserEmailBySessionId(String sessionId) {
         return sessionUserMap.get(sessionId);
     }
-    
+
+    // ======================================= node lease methods ======================================= //
     /**
-     * 모든 온라인 상태 초기화 (서버 재시작 시)
+     * 노드 시작 (서버 재시작 시)
+     * 이전 실행에서 남은 이 노드의 접속 기록만 지우고 현재 세션으로 다시 구성 (다른 노드 상태는 건드리지 않음)
      */
-    public void clearAllOnlineStatus() {
+    public void startNode() {
+        rebuildNodePresence();
+        log.info("노드 접속 상태 초기화 완료 - nodeId: {}", nodeIdentity.getNodeId());
+    }
+
+    /**
+     * 노드 lease 갱신
+     * lease 가 이미 만료되어 다른 노드가 비트맵을 정리했을 수 있으면 로컬 세션으로 다시 구성
+     */
+    public void renewLease() {
         try {
-            Set<Object> onlineUsers = getOnlineUsers();
-            for (Object userEmail : onlineUsers) {
-                String userKey = ONLINE_USER_KEY_PREFIX + userEmail;
-                redisUtil.deleteData(userKey);
+            Boolean renewed = stringRedisTemplate.expire(leaseKey(), Duration.ofSeconds(leaseTtlSeconds));
+            if (!Boolean.TRUE.equals(renewed)) {
+                log.warn("노드 lease 가 만료되어 접속 상태 재구성 - nodeId: {}", nodeIdentity.getNodeId());
+                rebuildNodePresence();
             }
-            redisUtil.deleteData(ONLINE_USERS_SET_KEY);
-            sessionUserMap.clear();
-            
-            log.info("모든 온라인 상태 초기화 완료");
         } catch (Exception e) {
-            log.error("온라인 상태 초기화 실패", e);
+            log.error("노드 lease 갱신 실패 - nodeId: {}", nodeIdentity.getNodeId(), e);
+        }
+    }
+
+    /**
+     * lease 가 만료된 노드(비정상 종료 등)의 접속 기록 정리
+     */
+    public int reapDeadNodes() {
+        try {
+            List<String> nodes = getRegisteredNodes();
+            List<Boolean> alive = checkLeases(nodes);
+
+            List<String> deadNodes = new ArrayList<>();
+            for (int i = 0; i < nodes.size(); i++) {
+                if (!alive.get(i) && !nodes.get(i).equals(nodeIdentity.getNodeId())) {
+                    deadNodes.add(nodes.get(i));
+                }
+            }
+            for (String deadNode : deadNodes) {
+                stringRedisTemplate.delete(NODE_BITMAP_KEY_PREFIX + deadNode);
+                stringRedisTemplate.opsForSet().remove(NODES_SET_KEY, deadNode);
+                log.info("만료된 노드 접속 상태 정리 - nodeId: {}", deadNode);
+            }
+            return deadNodes.size();
+        } catch (Exception e) {
+            log.error("만료된 노드 접속 상태 정리 실패", e);
+            return 0;
+        }
+    }
+
+    // 정상 종료 시 이 노드의 접속 기록과 lease 반납
+    @PreDestroy
+    public void releaseNode() {
+        try {
+            String nodeId = nodeIdentity.getNodeId();
+            stringRedisTemplate.delete(List.of(NODE_BITMAP_KEY_PREFIX + nodeId, leaseKey()));
+            stringRedisTemplate.opsForSet().remove(NODES_SET_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("노드 접속 상태 반납 실패 - nodeId: {}", nodeIdentity.getNodeId(), e);
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    private Long resolveMemberId(String userEmail) {
+        Long memberId = memberRepository.findByEmail(userEmail).map(Member::getId).orElse(null);
+        if (memberId == null) {
+            log.warn("온라인 상태 설정 대상 회원을 찾을 수 없음: {}", userEmail);
         }
+        return memberId;
+    }
+
+    private void markOnline(Long memberId) {
+        stringRedisTemplate.opsForValue().setBit(bitmapKey(), memberId, true);
+    }
+
+    private void markOffline(Long memberId) {
+        stringRedisTemplate.opsForValue().setBit(bitmapKey(), memberId, false);
+    }
+
+    // 이 노드 비트맵을 로컬 세션 기준으로 다시 만들고 lease 등록
+    private void rebuildNodePresence() {
+        List<Long> memberIds = localUsers.values().stream()
+                .map(LocalPresence::memberId)
+                .filter(Objects::nonNull)
+                .toList();
+
+        stringRedisTemplate.delete(bitmapKey());
+        for (int from = 0; from < memberIds.size(); from += REBUILD_CHUNK) {
+            List<Long> chunk = memberIds.subList(from, Math.min(from + REBUILD_CHUNK, memberIds.size()));
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] key = bytes(bitmapKey());
+                chunk.forEach(id -> connection.stringCommands().setBit(key, id, true));
+                return null;
+            });
+        }
+        stringRedisTemplate.opsForValue().set(leaseKey(), String.valueOf(System.currentTimeMillis()),
+                Duration.ofSeconds(leaseTtlSeconds));
+        stringRedisTemplate.opsForSet().add(NODES_SET_KEY, nodeIdentity.getNodeId());
+    }
+
+    private List<String> getRegisteredNodes() {
+        Set<String> nodes = stringRedisTemplate.opsForSet().members(NODES_SET_KEY);
+        return nodes != null ? List.copyOf(nodes) : List.of();
+    }
+
+    private List<String> getLiveNodes() {
+        List<String> nodes = getRegisteredNodes();
+        List<Boolean> alive = checkLeases(nodes);
+        List<String> liveNodes = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            if (alive.get(i)) {
+                liveNodes.add(nodes.get(i));
+            }
+        }
+        return liveNodes;
+    }
+
+    private List<Boolean> checkLeases(List<String> nodes) {
+        if (nodes.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            nodes.forEach(node -> connection.keyCommands().exists(bytes(NODE_LEASE_KEY_PREFIX + node)));
+            return null;
+        });
+        return results.stream().map(Boolean.TRUE::equals).toList();
+    }
+
+    private String bitmapKey() {
+        return NODE_BITMAP_KEY_PREFIX + nodeIdentity.getNodeId();
+    }
+
+    private String leaseKey() {
+        return NODE_LEASE_KEY_PREFIX + nodeIdentity.getNodeId();
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 }
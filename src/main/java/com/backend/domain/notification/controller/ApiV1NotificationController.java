@@ -4,6 +4,7 @@ import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.repository.MemberRepository;
 import com.backend.domain.notification.dto.NotificationListResponseDto;
 import com.backend.domain.notification.service.NotificationService;
+import com.backend.global.page.dto.CursorPageDto;
 import com.backend.global.response.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -42,6 +43,23 @@ public class ApiV1NotificationController {
         return notificationService.getNotifications(memberId, page, size, isRead);
     }
 
+    @Operation(summary = "알림 목록 커서 조회", description = "마지막으로 받은 알림 ID(cursor) 이후의 알림을 조회. 전체 개수 없이 nextCursor 반환.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "알림 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    @GetMapping("/cursor")
+    public RsData<CursorPageDto<NotificationListResponseDto.NotificationItem>> getNotificationsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "120") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "읽음 상태 필터 (true: 읽음, false: 안읽음, null: 전체)", example = "false") @RequestParam(required = false) Boolean isRead,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        Long memberId = getCurrentMemberId(user);
+        return notificationService.getNotificationsByCursor(memberId, cursor, size, isRead);
+    }
+
     @Operation(summary = "알림 읽음 처리", description = "특정 알림을 읽음 상태로 변경.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "알림 읽음 처리 성공",
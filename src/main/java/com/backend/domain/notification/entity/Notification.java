@@ -9,7 +9,14 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        // 커서 기반 알림 목록 조회용 (member_id = ? AND id < ? ORDER BY id DESC)
+        @Index(name = "idx_notification_member_id", columnList = "member_id, id DESC"),
+        // 읽음 상태 필터가 있는 커서 조회용
+        @Index(name = "idx_notification_member_read_id", columnList = "member_id, is_read, id DESC"),
+        // 큐 스캔용 (queue_status = 'PENDING' ORDER BY create_date) - 발송 완료 건이 쌓여도 대기 구간만 탐색
+        @Index(name = "idx_notification_queue_status_create", columnList = "queue_status, create_date")
+})
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,50 @@
+package com.backend.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간이 지난 알림 (콜드 저장소)
+ * - notifications(핫 테이블)에서 옮겨온 발송 완료 알림을 원본 id 그대로 보관
+ * - 조회/감사용이므로 회원/상품은 FK 없이 id 만 저장
+ * - 큐 관련 상태(재시도 횟수, 예약 시간, 에러 메시지)는 옮기지 않음
+ */
+@Entity
+@Table(name = "notifications_archive", indexes = {
+        @Index(name = "idx_notification_archive_member_id", columnList = "member_id, id DESC")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false, length = 255)
+    private String message;
+
+    @Column(name = "notification_type", nullable = false, length = 50)
+    private String notificationType;
+
+    @Column(name = "is_read", nullable = false)
+    private Boolean isRead;
+
+    @Column(name = "sent_time")
+    private LocalDateTime sentTime;
+
+    @Column(name = "create_date")
+    private LocalDateTime createDate;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,18 @@
+package com.backend.domain.notification.repository;
+
+import com.backend.domain.notification.entity.NotificationArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+    // 핫 테이블 알림을 보관 테이블로 복사 (INSERT ... SELECT 한 번으로 배치 처리)
+    @Modifying
+    @Query("INSERT INTO NotificationArchive (id, memberId, productId, message, notificationType, isRead, sentTime, createDate, archivedAt) " +
+           "SELECT n.id, n.member.id, n.product.id, n.message, n.notificationType, n.isRead, n.sentTime, n.createDate, LOCAL DATETIME " +
+           "FROM Notification n WHERE n.id IN :ids")
+    int archiveByIds(@Param("ids") List<Long> ids);
+}
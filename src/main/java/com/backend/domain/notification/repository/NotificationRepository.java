@@ -22,6 +22,12 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 읽은 알람만 조회
     @Query("SELECT n FROM Notification n WHERE n.member.id = :memberId AND n.isRead = true ORDER BY n.createDate DESC")
     Page<Notification> findReadNotifications(@Param("memberId") Long memberId, Pageable pageable);
+    // 커서 기반 알림 목록 조회 (id < cursor, idx_notification_member_id 범위 탐색으로 깊은 페이지도 size + 1 건만 읽음)
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.product WHERE n.member.id = :memberId AND n.id < :cursor ORDER BY n.id DESC")
+    List<Notification> findByMemberIdBefore(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
+    // 커서 기반 읽음 상태별 알림 목록 조회 (idx_notification_member_read_id)
+    @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.product WHERE n.member.id = :memberId AND n.isRead = :isRead AND n.id < :cursor ORDER BY n.id DESC")
+    List<Notification> findByMemberIdAndIsReadBefore(@Param("memberId") Long memberId, @Param("isRead") Boolean isRead, @Param("cursor") Long cursor, Pageable pageable);
     // 읽지 않은 알람 개수 조회
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.member.id = :memberId AND n.isRead = false")
     Integer countUnreadNotifications(@Param("memberId") Long memberId);
@@ -34,13 +40,16 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     int markAllAsRead(@Param("memberId") Long memberId);
 
     // 처리 대기중인 알림들 조회 (스케줄된 시간이 지났거나 즉시 처리할 것들)
-    @Query("SELECT n FROM Notification n WHERE n.queueStatus = 'PENDING' " +
+    // 배치 처리 시 member/product 지연 로딩을 피하기 위해 fetch join
+    @Query("SELECT n FROM Notification n JOIN FETCH n.member LEFT JOIN FETCH n.product " +
+           "WHERE n.queueStatus = 'PENDING' " +
            "AND (n.scheduledTime IS NULL OR n.scheduledTime <= :now) " +
            "ORDER BY n.createDate ASC")
     List<Notification> findPendingNotifications(@Param("now") LocalDateTime now, Pageable pageable);
 
     // 실패한 알림 중 재시도 가능한 것들 조회
-    @Query("SELECT n FROM Notification n WHERE n.queueStatus = 'FAILED' " +
+    @Query("SELECT n FROM Notification n JOIN FETCH n.member LEFT JOIN FETCH n.product " +
+           "WHERE n.queueStatus = 'FAILED' " +
            "AND n.retryCount < 3 " +
            "ORDER BY n.createDate ASC")
     List<Notification> findRetryableFailedNotifications(Pageable pageable);
@@ -50,6 +59,35 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
            "AND n.modifyDate < :timeThreshold")
     List<Notification> findStuckProcessingNotifications(@Param("timeThreshold") LocalDateTime timeThreshold);
 
+    // 병합 윈도우 안의 알림을 최신 메시지로 갱신하고 윈도우 종료 시점에 다시 발송되도록 대기 상태로 전환
+    @Modifying
+    @Query("UPDATE Notification n SET n.message = :message, n.queueStatus = 'PENDING', n.scheduledTime = :deliverAt, " +
+           "n.retryCount = 0, n.errorMessage = null " +
+           "WHERE n.id = :notificationId AND n.member.id = :memberId " +
+           "AND n.isRead = false AND n.queueStatus <> 'PROCESSING'")
+    int coalesceInto(@Param("notificationId") Long notificationId, @Param("memberId") Long memberId,
+                     @Param("message") String message, @Param("deliverAt") LocalDateTime deliverAt);
+
+    // 보관 기간이 지난 알림 id 조회 (발송 완료/재시도 소진 건만, 오래된 순)
+    // 읽은 알림은 readThreshold, 읽지 않은 알림은 unreadThreshold 이전 생성분
+    @Query("SELECT n.id FROM Notification n " +
+           "WHERE n.createDate < :readThreshold " +
+           "AND (n.isRead = true OR n.createDate < :unreadThreshold) " +
+           "AND (n.queueStatus = 'SENT' OR (n.queueStatus = 'FAILED' AND n.retryCount >= 3)) " +
+           "ORDER BY n.id ASC")
+    List<Long> findRetentionTargetIds(@Param("readThreshold") LocalDateTime readThreshold,
+                                      @Param("unreadThreshold") LocalDateTime unreadThreshold,
+                                      Pageable pageable);
+
+    // 읽지 않은 알림이 포함된 회원 id (삭제 시 읽지 않은 개수 카운터 무효화용)
+    @Query("SELECT DISTINCT n.member.id FROM Notification n WHERE n.id IN :ids AND n.isRead = false")
+    List<Long> findUnreadMemberIdsByIds(@Param("ids") List<Long> ids);
+
+    // 알림 일괄 삭제 (보관/정리 배치)
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
     // 큐 상태별 개수 조회
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.queueStatus = :status")
     Long countByQueueStatus(@Param("status") Notification.QueueStatus status);
@@ -1,5 +1,6 @@
 package com.backend.domain.notification.service;
 
+import com.backend.domain.notification.entity.Notification;
 import com.backend.domain.product.entity.Product;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.repository.MemberRepository;
@@ -18,6 +19,7 @@ public class BidNotificationService {
     private final WebSocketService webSocketService;
     private final NotificationQueueService notificationQueueService;
     private final MemberRepository memberRepository;
+    private final NotificationCoalescer notificationCoalescer;
 
     //  입찰 성공 알림
     public void notifyBidSuccess(Long userId, Product product, Long bidAmount) {
@@ -59,10 +61,18 @@ public class BidNotificationService {
         // userId로 Member 조회 후 email로 전송
         Member member = memberRepository.findById(userId).orElse(null);
         if (member != null) {
+            // 입찰 경쟁 중 반복되는 밀림 알림은 병합 윈도우 안의 기존 알림에 최신 가격만 반영
+            if (notificationCoalescer.tryCoalesce(member.getId(), product.getId(), "BID_OUTBID", message)) {
+                log.debug("입찰 밀림 알림 병합 - 사용자: {}, 상품: {}, 최고가: {}",
+                    userId, product.getId(), newHighestBid);
+                return;
+            }
+
             webSocketService.sendNotificationToUser(member.getEmail(), message, data);
             
             // DB 큐에도 저장
-            notificationQueueService.enqueueNotification(member, message, "BID_OUTBID", product);
+            Notification notification = notificationQueueService.enqueueNotification(member, message, "BID_OUTBID", product);
+            notificationCoalescer.open(member.getId(), product.getId(), "BID_OUTBID", notification.getId());
             
             log.info("입찰 밀림 알림 전송 - 사용자: {} ({}), 상품: {}", 
                 userId, member.getEmail(), product.getId());
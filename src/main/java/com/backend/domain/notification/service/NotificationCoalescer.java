@@ -0,0 +1,86 @@
+package com.backend.domain.notification.service;
+
+import com.backend.domain.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 병합(coalescing) 윈도우
+ * - (회원, 상품, 알림 타입) 별로 마지막 알림 id 를 Redis 에 윈도우 시간만큼 보관
+ * - 윈도우 안에서 같은 알림이 반복되면 새로 저장/푸시하지 않고 기존 알림의 메시지를 최신 내용으로 갱신
+ * - 갱신된 알림은 윈도우 종료 시점에 큐에서 한 번 더 발송 (최신 가격 유실 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationCoalescer {
+
+    private static final String COALESCE_KEY_PREFIX = "notification:coalesce:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    @Value("${notification.coalesce.window-seconds:60}")
+    private long windowSeconds;
+
+    /**
+     * 윈도우 안의 기존 알림에 병합 시도
+     * - 별도 트랜잭션에서 갱신 (병합이 실패해도 호출한 입찰 트랜잭션이 rollback-only 로 바뀌지 않도록)
+     * @return 병합되었으면 true (호출자는 저장/푸시 생략), 병합 대상이 없으면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryCoalesce(Long memberId, Long productId, String notificationType, String message) {
+        String key = getKey(memberId, productId, notificationType);
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached == null) {
+                return false;
+            }
+
+            Long notificationId = Long.valueOf(cached.toString());
+            Long remainingSeconds = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+            LocalDateTime deliverAt = LocalDateTime.now().plusSeconds(
+                    remainingSeconds != null && remainingSeconds > 0 ? remainingSeconds : 0);
+
+            // 아직 읽지 않았고 처리중이 아닌 알림만 갱신 (읽었거나 삭제되었으면 새 알림으로 시작)
+            int updated = notificationRepository.coalesceInto(notificationId, memberId, message, deliverAt);
+            if (updated == 0) {
+                redisTemplate.delete(key);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("알림 병합 실패 - 개별 알림으로 처리: memberId={}, productId={}, type={}",
+                    memberId, productId, notificationType, e);
+            return false;
+        }
+    }
+
+    // 새 알림 저장 후 병합 윈도우 시작
+    public void open(Long memberId, Long productId, String notificationType, Long notificationId) {
+        if (windowSeconds <= 0) {
+            return; // 0 이하면 병합 비활성화
+        }
+        try {
+            redisTemplate.opsForValue().set(getKey(memberId, productId, notificationType),
+                    String.valueOf(notificationId), Duration.ofSeconds(windowSeconds));
+        } catch (Exception e) {
+            log.warn("알림 병합 윈도우 등록 실패: memberId={}, productId={}, type={}",
+                    memberId, productId, notificationType, e);
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    private String getKey(Long memberId, Long productId, String notificationType) {
+        return COALESCE_KEY_PREFIX + notificationType + ":" + memberId + ":" + productId;
+    }
+}
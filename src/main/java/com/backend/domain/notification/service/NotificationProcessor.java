@@ -7,7 +7,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 알림 처리기
@@ -22,9 +24,20 @@ public class NotificationProcessor {
     private final WebSocketService webSocketService;
 
     /**
-     * 알림 처리 - 온라인/오프라인 상태에 따라 적절한 채널로 전송
+     * 배치 처리용 수신자 온라인 상태 일괄 조회
+     * 알림마다 Redis를 조회하지 않고 배치당 한 번만 조회
      */
-    public boolean processNotification(Notification notification) {
+    public Set<Long> resolveOnlineRecipients(List<Notification> notifications) {
+        List<Long> memberIds = notifications.stream()
+                .map(notification -> notification.getMember().getId())
+                .toList();
+        return userPresenceService.getOnlineMemberIds(memberIds);
+    }
+
+    /**
+     * 알림 처리 - 미리 조회한 온라인 상태로 전송
+     */
+    public boolean processNotification(Notification notification, boolean isOnline) {
         try {
             String userEmail = notification.getMember().getEmail();
             String message = notification.getMessage();
@@ -43,8 +56,6 @@ public class NotificationProcessor {
                     "createdAt", notification.getCreateDate()
             );
 
-            boolean isOnline = userPresenceService.isUserOnline(userEmail);
-
             if (isOnline) {
                 // 온라인 상태: WebSocket으로 실시간 알림 전송
                 try {
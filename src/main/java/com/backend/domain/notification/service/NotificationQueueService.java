@@ -8,13 +8,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -24,6 +24,7 @@ public class NotificationQueueService {
     
     private final NotificationRepository notificationRepository;
     private final NotificationProcessor notificationProcessor;
+    private final NotificationUnreadCounter notificationUnreadCounter;
     
     // 알림을 큐에 추가 (즉시 처리)
     public Notification enqueueNotification(Member member, String message, String notificationType, Product product) {
@@ -36,7 +37,9 @@ public class NotificationQueueService {
         notification.setRetryCount(0);
         // scheduledTime이 null이면 즉시 처리
         
-        return notificationRepository.save(notification);
+        Notification savedNotification = notificationRepository.save(notification);
+        notificationUnreadCounter.increment(member.getId(), member.getEmail());
+        return savedNotification;
     }
     
     // 알림을 큐에 추가 (예약 발송)
@@ -51,7 +54,9 @@ public class NotificationQueueService {
         notification.setRetryCount(0);
         notification.setScheduledTime(scheduledTime);
         
-        return notificationRepository.save(notification);
+        Notification savedNotification = notificationRepository.save(notification);
+        notificationUnreadCounter.increment(member.getId(), member.getEmail());
+        return savedNotification;
     }
     
     // 큐 처리 스케줄러 - 매 30초마다 실행
@@ -76,22 +81,17 @@ public class NotificationQueueService {
         List<Notification> pendingNotifications = notificationRepository.findPendingNotifications(
             LocalDateTime.now(), pageable);
         
-        for (Notification notification : pendingNotifications) {
-            processNotificationAsync(notification);
-        }
-        
         log.info("대기중인 알림 {}개 처리 시작", pendingNotifications.size());
+        
+        processNotificationBatch(pendingNotifications);
     }
     
     private void retryFailedNotifications() {
         Pageable pageable = PageRequest.of(0, 10); // 재시도는 더 적게
         List<Notification> retryableNotifications = notificationRepository.findRetryableFailedNotifications(pageable);
         
-        for (Notification notification : retryableNotifications) {
-            notification.resetToPending();
-            notificationRepository.save(notification);
-            processNotificationAsync(notification);
-        }
+        retryableNotifications.forEach(Notification::resetToPending);
+        processNotificationBatch(retryableNotifications);
         
         if (!retryableNotifications.isEmpty()) {
             log.info("실패한 알림 {}개 재시도", retryableNotifications.size());
@@ -112,30 +112,37 @@ public class NotificationQueueService {
         }
     }
     
-    @Async
-    public void processNotificationAsync(Notification notification) {
-        try {
-            // 처리 중으로 상태 변경
-            notification.markAsProcessing();
-            notificationRepository.save(notification);
-            
-            // 실제 알림 처리
-            boolean success = notificationProcessor.processNotification(notification);
-            
-            if (success) {
-                notification.markAsSent();
-                log.debug("알림 처리 성공: ID={}", notification.getId());
-            } else {
-                notification.markAsFailed("처리 실패");
-                log.warn("알림 처리 실패: ID={}", notification.getId());
+    // 배치 단위 처리 - 수신자 온라인 상태를 한 번에 조회하고 상태 변경도 한 번에 저장
+    private void processNotificationBatch(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+
+        // 처리 중으로 상태 변경
+        notifications.forEach(Notification::markAsProcessing);
+        notificationRepository.saveAll(notifications);
+
+        Set<Long> onlineMemberIds = notificationProcessor.resolveOnlineRecipients(notifications);
+
+        for (Notification notification : notifications) {
+            try {
+                boolean isOnline = onlineMemberIds.contains(notification.getMember().getId());
+                boolean success = notificationProcessor.processNotification(notification, isOnline);
+
+                if (success) {
+                    notification.markAsSent();
+                    log.debug("알림 처리 성공: ID={}", notification.getId());
+                } else {
+                    notification.markAsFailed("처리 실패");
+                    log.warn("알림 처리 실패: ID={}", notification.getId());
+                }
+            } catch (Exception e) {
+                notification.markAsFailed("예외 발생: " + e.getMessage());
+                log.error("알림 처리 중 예외 발생: ID={}", notification.getId(), e);
             }
-            
-        } catch (Exception e) {
-            notification.markAsFailed("예외 발생: " + e.getMessage());
-            log.error("알림 처리 중 예외 발생: ID={}", notification.getId(), e);
-        } finally {
-            notificationRepository.save(notification);
         }
+
+        notificationRepository.saveAll(notifications);
     }
     
     // 큐 상태 조회
@@ -0,0 +1,54 @@
+package com.backend.domain.notification.service;
+
+import com.backend.domain.notification.repository.NotificationArchiveRepository;
+import com.backend.domain.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 보관/정리 서비스
+ * - notifications 테이블이 큐 + 알림함 역할을 함께 하므로 발송 완료 건이 계속 쌓임
+ * - 보관 기간이 지난 알림을 작은 배치 단위로 notifications_archive 로 옮기거나(archive) 삭제(purge)
+ * - 배치마다 별도 트랜잭션으로 처리해 락 보유 시간과 undo 로그를 작게 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+
+    /**
+     * 보관 기간이 지난 알림 한 배치 처리
+     * @return 처리한 알림 수 (batchSize 미만이면 더 처리할 대상 없음)
+     */
+    @Transactional
+    public int processBatch(LocalDateTime readThreshold, LocalDateTime unreadThreshold, int batchSize, boolean archive) {
+        List<Long> ids = notificationRepository.findRetentionTargetIds(
+                readThreshold, unreadThreshold, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // 읽지 않은 알림이 빠지는 회원은 카운터 재계산 대상
+        List<Long> unreadMemberIds = notificationRepository.findUnreadMemberIdsByIds(ids);
+
+        if (archive) {
+            notificationArchiveRepository.archiveByIds(ids);
+        }
+        int deleted = notificationRepository.deleteAllByIds(ids);
+
+        unreadMemberIds.forEach(notificationUnreadCounter::invalidate);
+
+        log.debug("알림 보관 배치 처리: {}건 (archive={}, 카운터 무효화 회원 {}명)", deleted, archive, unreadMemberIds.size());
+        return deleted;
+    }
+}
@@ -1,9 +1,12 @@
 package com.backend.domain.notification.service;
 
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
 import com.backend.domain.notification.dto.NotificationListResponseDto;
 import com.backend.domain.notification.entity.Notification;
 import com.backend.domain.notification.repository.NotificationRepository;
 import com.backend.domain.product.entity.Product;
+import com.backend.global.page.dto.CursorPageDto;
 import com.backend.global.response.RsData;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,6 +21,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class NotificationService {
     private final NotificationRepository notificationRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final MemberRepository memberRepository;
 
     // ======================================= find/get methods ======================================= //
     @Transactional(readOnly = true)
@@ -28,8 +33,8 @@ public class NotificationService {
         // 조건에 따른 알림 조회
         Page<Notification> notificationPage = getNotificationsByReadStatus(memberId, isRead, pageable);
 
-        // 읽지 않은 알림 개수 조회
-        Integer unreadCount = notificationRepository.countUnreadNotifications(memberId);
+        // 읽지 않은 알림 개수 조회 (Redis 카운터)
+        Integer unreadCount = notificationUnreadCounter.getUnreadCount(memberId);
 
         // 응답 데이터 생성
         List<NotificationListResponseDto.NotificationItem> notificationItems = notificationPage.getContent().stream()
@@ -49,9 +54,27 @@ public class NotificationService {
         return RsData.ok("알림 목록 조회가 완료되었습니다.", response);
     }
 
+    @Transactional(readOnly = true)
+    public RsData<CursorPageDto<NotificationListResponseDto.NotificationItem>> getNotificationsByCursor(
+            Long memberId, Long cursor, int size, Boolean isRead) {
+        int pageSize = (size > 0 && size <= 100) ? size : 20;
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (COUNT 쿼리 없음)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        long upperBound = CursorPageDto.upperBound(cursor);
+
+        List<Notification> notifications = isRead == null
+                ? notificationRepository.findByMemberIdBefore(memberId, upperBound, limit)
+                : notificationRepository.findByMemberIdAndIsReadBefore(memberId, isRead, upperBound, limit);
+
+        CursorPageDto<NotificationListResponseDto.NotificationItem> response =
+                CursorPageDto.of(notifications, pageSize, Notification::getId, this::convertToNotificationItem);
+
+        return RsData.ok("알림 목록 조회가 완료되었습니다.", response);
+    }
+
     @Transactional(readOnly = true)
     public RsData<Integer> getUnreadCount(Long memberId) {
-        Integer unreadCount = notificationRepository.countUnreadNotifications(memberId);
+        Integer unreadCount = notificationUnreadCounter.getUnreadCount(memberId);
         return RsData.ok("읽지 않은 알림 개수가 조회되었습니다.", unreadCount);
     }
 
@@ -75,9 +98,12 @@ public class NotificationService {
         Notification notification = notificationRepository.findByIdAndMemberId(notificationId, memberId)
                 .orElseThrow(() -> com.backend.global.exception.ServiceException.notFound("알림을 찾을 수 없습니다."));
 
-        // 읽음 처리
-        notification.setIsRead(true);
-        notificationRepository.save(notification);
+        // 읽음 처리 (이미 읽은 알림이면 카운터 변경 없음)
+        if (!notification.getIsRead()) {
+            notification.setIsRead(true);
+            notificationRepository.save(notification);
+            notificationUnreadCounter.decrement(memberId, notification.getMember().getEmail(), 1);
+        }
 
         return RsData.ok("알림이 읽음 처리되었습니다.", null);
     }
@@ -85,6 +111,10 @@ public class NotificationService {
     @Transactional
     public RsData<Integer> markAllAsRead(Long memberId) {
         int updatedCount = notificationRepository.markAllAsRead(memberId);
+        if (updatedCount > 0) {
+            String userEmail = memberRepository.findById(memberId).map(Member::getEmail).orElse(null);
+            notificationUnreadCounter.reset(memberId, userEmail);
+        }
         return RsData.ok("모든 알림이 읽음 처리되었습니다.", updatedCount);
     }
 
@@ -0,0 +1,157 @@
+package com.backend.domain.notification.service;
+
+import com.backend.domain.notification.repository.NotificationRepository;
+import com.backend.global.websocket.service.WebSocketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원별 읽지 않은 알림 개수 카운터 (Redis)
+ * - 알림 목록/헤더 조회마다 COUNT(*) 쿼리를 실행하지 않도록 Redis에 개수를 유지
+ * - 키가 없으면(만료, 유실) DB에서 다시 계산해 채움 (self-healing)
+ * - 개수가 바뀌면 사용자 WebSocket 큐로 푸시하여 클라이언트 폴링 제거
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 반영 (롤백 시 카운터 오염 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+    private static final String UNREAD_COUNT_KEY_PREFIX = "notification:unread:";
+    private static final Duration UNREAD_COUNT_TTL = Duration.ofDays(1);
+
+    // 키가 있을 때만 증감 (없으면 -1 반환 → 다음 조회 시 DB에서 재계산)
+    private static final RedisScript<Long> ADJUST_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  local v = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "  if v < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') v = 0 end " +
+            "  return v " +
+            "else return -1 end",
+            Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final WebSocketService webSocketService;
+
+    /**
+     * 읽지 않은 알림 개수 조회
+     * - Redis 카운터 우선, 없으면 DB COUNT 후 캐싱
+     */
+    public int getUnreadCount(Long memberId) {
+        String key = getKey(memberId);
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Integer.parseInt(cached.toString());
+            }
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 캐시 조회 실패: memberId={}", memberId, e);
+        }
+
+        return recompute(memberId);
+    }
+
+    // 새 알림 등록 시 (+1)
+    public void increment(Long memberId, String userEmail) {
+        afterCommit(() -> adjustAndPush(memberId, userEmail, 1));
+    }
+
+    // 알림 읽음 처리 시 (-count)
+    public void decrement(Long memberId, String userEmail, int count) {
+        if (count <= 0) {
+            return;
+        }
+        afterCommit(() -> adjustAndPush(memberId, userEmail, -count));
+    }
+
+    // 모든 알림 읽음 처리 시 (0으로 초기화)
+    public void reset(Long memberId, String userEmail) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForValue().set(getKey(memberId), "0", UNREAD_COUNT_TTL);
+            } catch (Exception e) {
+                log.warn("읽지 않은 알림 개수 초기화 실패: memberId={}", memberId, e);
+                evict(memberId);
+            }
+            push(userEmail, 0);
+        });
+    }
+
+    // 읽지 않은 알림이 일괄 삭제된 경우 (다음 조회 시 DB에서 재계산)
+    public void invalidate(Long memberId) {
+        afterCommit(() -> evict(memberId));
+    }
+
+    // ======================================= helper methods ======================================= //
+    private void adjustAndPush(Long memberId, String userEmail, int delta) {
+        long count;
+        try {
+            Long result = redisTemplate.execute(
+                    ADJUST_IF_EXISTS_SCRIPT, List.of(getKey(memberId)), String.valueOf(delta));
+            count = (result == null || result < 0) ? recompute(memberId) : result;
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 갱신 실패: memberId={}, delta={}", memberId, delta, e);
+            evict(memberId);
+            return;
+        }
+        push(userEmail, (int) count);
+    }
+
+    private int recompute(Long memberId) {
+        Integer count = notificationRepository.countUnreadNotifications(memberId);
+        int unreadCount = count != null ? count : 0;
+        try {
+            // 동시에 증감된 값이 먼저 들어갔다면 덮어쓰지 않음
+            redisTemplate.opsForValue().setIfAbsent(getKey(memberId), String.valueOf(unreadCount), UNREAD_COUNT_TTL);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 캐시 저장 실패: memberId={}", memberId, e);
+        }
+        return unreadCount;
+    }
+
+    private void evict(Long memberId) {
+        try {
+            redisTemplate.delete(getKey(memberId));
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 캐시 삭제 실패: memberId={}", memberId, e);
+        }
+    }
+
+    private void push(String userEmail, int unreadCount) {
+        if (userEmail == null) {
+            return;
+        }
+        try {
+            webSocketService.sendUnreadCountToUser(userEmail, unreadCount);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 개수 전송 실패: {}", userEmail, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String getKey(Long memberId) {
+        return UNREAD_COUNT_KEY_PREFIX + memberId;
+    }
+}
@@ -7,6 +7,7 @@ import com.backend.domain.payment.dto.request.TossIssueBillingKeyRequest;
 import com.backend.domain.payment.dto.response.*;
 import com.backend.domain.payment.service.PaymentService;
 import com.backend.domain.payment.service.TossBillingClientService;
+import com.backend.global.page.dto.CursorPageDto;
 import com.backend.global.response.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -159,6 +160,26 @@ public class ApiV1PaymentController {
         return RsData.ok("내 결제 내역이 조회되었습니다.", data);
     }
 
+    @GetMapping("/me/cursor")
+    @Operation(summary="내 결제 내역 커서 조회", description = "cursor(마지막 결제 ID) 이후 목록, 전체 개수 없이 nextCursor 반환")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내역 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    @Transactional(readOnly = true)
+    public RsData<CursorPageDto<MyPaymentListItemResponse>> getMyPaymentsByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Member actor = getActor(user);
+        CursorPageDto<MyPaymentListItemResponse> data = paymentService.getMyPaymentsByCursor(actor, cursor, size);
+
+        return RsData.ok("내 결제 내역이 조회되었습니다.", data);
+    }
+
     @GetMapping("/me/{paymentId}")
     @Operation(summary = "내 결제 단건 상세")
     @ApiResponses({
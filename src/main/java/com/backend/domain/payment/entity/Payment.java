@@ -22,6 +22,9 @@ import java.time.LocalDateTime;
                         name = "ux_payment_member_id_idempotency",
                         columnNames = {"member_id", "idempotency_key"} // 멱등키는 회원 단위로만 유니크(전역 유니크 X)..
                 )
+        },
+        indexes = {
+                @Index(name = "idx_payment_member_id", columnList = "member_id, id DESC") // 내 결제 내역 커서 조회용..
         }
 )
 
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
@@ -16,6 +17,9 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     // 내 결제 내역 목록..
     Page<Payment> findAllByMemberOrderByIdDesc(Member member, Pageable pageable);
 
+    // 내 결제 내역 커서 목록(id < cursor).. COUNT 없이 idx_payment_member_id 범위 탐색..
+    List<Payment> findByMemberAndIdLessThanOrderByIdDesc(Member member, Long cursor, Pageable pageable);
+
     // 내 결제 단건 상세..
     Optional<Payment> findByIdAndMember(Long id, Member member);
 }
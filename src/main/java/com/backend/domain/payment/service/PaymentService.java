@@ -15,6 +15,7 @@ import com.backend.domain.payment.entity.Payment;
 import com.backend.domain.payment.entity.PaymentMethod;
 import com.backend.domain.payment.repository.PaymentMethodRepository;
 import com.backend.domain.payment.repository.PaymentRepository;
+import com.backend.global.page.dto.CursorPageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -25,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.*;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -172,6 +174,16 @@ public class PaymentService {
                 .build();
     }
 
+    // 내 결제 내역 커서 목록(전체 개수 없이 다음 커서만)..
+    @Transactional(readOnly = true)
+    public CursorPageDto<MyPaymentListItemResponse> getMyPaymentsByCursor(Member member, Long cursor, int size) {
+        int pageSize = (size > 0 && size <= 100) ? size : 20;
+        List<Payment> rows = paymentRepository.findByMemberAndIdLessThanOrderByIdDesc(
+                member, CursorPageDto.upperBound(cursor), PageRequest.of(0, pageSize + 1)); // 1건 더 읽어서 hasNext 판단..
+
+        return CursorPageDto.of(rows, pageSize, Payment::getId, this::toListItem);
+    }
+
     // 목록에서 보일 간단한 모양으로 바꾸기..
     private MyPaymentListItemResponse toListItem(Payment p) {
         String provider   = p.getProvider();
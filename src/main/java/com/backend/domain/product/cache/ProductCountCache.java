@@ -0,0 +1,74 @@
+package com.backend.domain.product.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 상품 목록 전체 개수(COUNT) 캐시
+ * - 정규화한 필터 조합별로 Redis product:count:{md5} 에 짧은 TTL 로 저장 (노드 간 공유)
+ * - TTL 동안은 등록/상태 변경이 반영되지 않는 근삿값 (목록 자체는 항상 최신)
+ * - Redis 장애 시 매번 직접 COUNT
+ * - ttl-seconds 가 0 이면 캐시하지 않음
+ * - product.count.cache{result=hit|miss} 로 적중률 확인
+ */
+@Slf4j
+@Component
+public class ProductCountCache {
+
+    private static final String KEY_PREFIX = "product:count:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProductCountCache(StringRedisTemplate stringRedisTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${product.count-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofSeconds(Math.max(0, ttlSeconds));
+        this.hits = meterRegistry.counter("product.count.cache", "result", "hit");
+        this.misses = meterRegistry.counter("product.count.cache", "result", "miss");
+    }
+
+    /**
+     * 캐시된 개수 반환, 없으면 counter 로 세어서 저장
+     *
+     * @param filterKey 정규화한 필터 조합 (같은 조건이면 같은 문자열)
+     * @param counter 실제 COUNT 쿼리
+     */
+    public long get(String filterKey, LongSupplier counter) {
+        if (ttl.isZero()) {
+            return counter.getAsLong();
+        }
+
+        String key = KEY_PREFIX + DigestUtils.md5DigestAsHex(filterKey.getBytes(StandardCharsets.UTF_8));
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                hits.increment();
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.debug("상품 개수 캐시 조회 실패 - 직접 집계: {}", e.getMessage());
+        }
+
+        misses.increment();
+        long count = counter.getAsLong();
+        try {
+            stringRedisTemplate.opsForValue().set(key, String.valueOf(count), ttl);
+        } catch (Exception e) {
+            log.debug("상품 개수 캐시 저장 실패: {}", e.getMessage());
+        }
+        return count;
+    }
+}
@@ -0,0 +1,205 @@
+package com.backend.domain.product.cache;
+
+import com.backend.domain.product.dto.response.ProductResponse;
+import com.backend.global.config.NodeIdentity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 상품 상세(ProductResponse) 2단계 캐시
+ * - 1단계: 노드 로컬 (짧은 TTL), 2단계: Redis product:detail:{id} (JSON)
+ * - 둘 다 없을 때만 DB 조회(상품, 판매자, 이미지, 리뷰)
+ * - 가격/상태/입찰자 수 변경 이벤트, 상품 수정/삭제 시 evict
+ *   → Redis 삭제 후 product:detail:invalidate 채널로 다른 노드의 로컬 캐시도 제거
+ * - 조회 중 evict 가 일어나면 조회 결과를 저장하지 않음 (상품별 마지막 evict 시각 비교, 이전 값으로 다시 채우는 경우 방지)
+ *   evict 기록은 로컬 TTL 보다 오래되면 주기적으로 정리 (조회되지 않는 상품의 기록이 계속 쌓이지 않도록)
+ * - product.detail.cache{result=local|redis|miss} 로 적중률 확인
+ */
+@Slf4j
+@Component
+public class ProductDetailCache implements MessageListener {
+
+    public static final String INVALIDATE_CHANNEL = "product:detail:invalidate";
+    private static final String KEY_PREFIX = "product:detail:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final Map<Long, CachedProduct> localCache = new ConcurrentHashMap<>();
+    // productId → 마지막 evict 시각 (nanoTime)
+    private final Map<Long, Long> evictedAt = new ConcurrentHashMap<>();
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final long localTtlMillis;
+    private final Duration redisTtl;
+    private final int maxSize;
+
+    private record CachedProduct(ProductResponse response, long expiresAt) {
+    }
+
+    public ProductDetailCache(StringRedisTemplate stringRedisTemplate,
+                              ObjectMapper objectMapper,
+                              NodeIdentity nodeIdentity,
+                              MeterRegistry meterRegistry,
+                              @Value("${product.detail-cache.local-ttl-seconds:10}") long localTtlSeconds,
+                              @Value("${product.detail-cache.redis-ttl-seconds:60}") long redisTtlSeconds,
+                              @Value("${product.detail-cache.max-size:5000}") int maxSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.localTtlMillis = localTtlSeconds * 1000;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.maxSize = maxSize;
+        this.localHits = Counter.builder("product.detail.cache").tag("result", "local").register(meterRegistry);
+        this.redisHits = Counter.builder("product.detail.cache").tag("result", "redis").register(meterRegistry);
+        this.misses = Counter.builder("product.detail.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("product.detail.cache.size", localCache, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 상품 상세 조회 (로컬 → Redis → loader 순)
+     * loader 에서 발생한 예외(상품 없음 등)는 그대로 전달하고 캐시하지 않음
+     */
+    public ProductResponse get(Long productId, Supplier<ProductResponse> loader) {
+        long now = System.currentTimeMillis();
+        CachedProduct cached = localCache.get(productId);
+        if (cached != null && cached.expiresAt() > now) {
+            localHits.increment();
+            return cached.response();
+        }
+
+        long startedAt = System.nanoTime();
+        ProductResponse response = readRedis(productId);
+        if (response != null) {
+            redisHits.increment();
+            putLocal(productId, response, startedAt, now);
+            return response;
+        }
+
+        misses.increment();
+        response = loader.get();
+        if (putLocal(productId, response, startedAt, now)) {
+            writeRedis(productId, response);
+        }
+        return response;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 제거 (커밋 전 다른 요청이 이전 정보로 다시 채우는 경우 방지)
+    public void evict(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        evictAll(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAll(productId);
+                }
+            });
+        }
+    }
+
+    // 만료된 로컬 캐시와 로컬 TTL 보다 오래된 evict 기록 정리
+    @Scheduled(fixedDelayString = "${product.detail-cache.prune-interval-ms:10000}")
+    public void pruneExpired() {
+        localCache.values().removeIf(entry -> entry.expiresAt() <= System.currentTimeMillis());
+        pruneEvictedAt();
+    }
+
+    // 다른 노드에서 evict 된 상품 (메시지 형식: {nodeId}:{productId})
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            evictLocal(Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 상품 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    private void evictAll(Long productId) {
+        evictLocal(productId);
+        try {
+            stringRedisTemplate.delete(KEY_PREFIX + productId);
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId + ":" + productId);
+        } catch (Exception e) {
+            // 다른 노드는 로컬 TTL, Redis 는 TTL 안에 반영
+            log.warn("상품 상세 캐시 무효화 실패 - productId: {}", productId, e);
+        }
+    }
+
+    private void evictLocal(Long productId) {
+        evictedAt.put(productId, System.nanoTime());
+        localCache.remove(productId);
+    }
+
+    // 조회 시작 이후 evict 되었으면 저장하지 않음
+    private boolean putLocal(Long productId, ProductResponse response, long startedAt, long now) {
+        Long lastEvictedAt = evictedAt.get(productId);
+        if (lastEvictedAt != null && lastEvictedAt - startedAt >= 0) {
+            return false;
+        }
+        if (localCache.size() >= maxSize) {
+            localCache.values().removeIf(entry -> entry.expiresAt() <= now);
+            pruneEvictedAt();
+        }
+        if (localCache.size() >= maxSize) {
+            Iterator<Long> iterator = localCache.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        localCache.put(productId, new CachedProduct(response, now + localTtlMillis));
+        return true;
+    }
+
+    // 진행 중인 조회보다 충분히 오래된 evict 기록 정리
+    private void pruneEvictedAt() {
+        long threshold = System.nanoTime() - Duration.ofMillis(localTtlMillis).toNanos();
+        evictedAt.values().removeIf(time -> time - threshold < 0);
+    }
+
+    private ProductResponse readRedis(Long productId) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + productId);
+            return json == null ? null : objectMapper.readValue(json, ProductResponse.class);
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 조회 실패 - productId: {}", productId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long productId, ProductResponse response) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + productId, objectMapper.writeValueAsString(response), redisTtl);
+        } catch (Exception e) {
+            log.warn("상품 상세 캐시 저장 실패 - productId: {}", productId, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.backend.domain.product.cache;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 상품 상세 캐시 노드 간 무효화용 Redis 구독 컨테이너
+@Configuration
+public class ProductDetailCacheConfig {
+
+    @Bean
+    public RedisMessageListenerContainer productDetailCacheListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                             ProductDetailCache productDetailCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(productDetailCache, new ChannelTopic(ProductDetailCache.INVALIDATE_CHANNEL));
+        return container;
+    }
+}
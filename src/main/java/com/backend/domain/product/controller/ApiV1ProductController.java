@@ -9,10 +9,13 @@ import com.backend.domain.product.enums.ProductSearchSortType;
 import com.backend.domain.product.enums.SaleStatus;
 import com.backend.domain.product.facade.ProductFacade;
 import com.backend.global.page.dto.PageDto;
+import com.backend.global.page.dto.SearchAfterPageDto;
+import com.backend.global.page.dto.SliceDto;
 import com.backend.global.response.RsData;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.transaction.annotation.Transactional;
@@ -55,6 +58,39 @@ public class ApiV1ProductController implements ApiV1ProductControllerDocs {
         return RsData.ok("상품 목록이 조회되었습니다", response);
     }
 
+    @GetMapping("/slice")
+    @Transactional(readOnly = true)
+    public RsData<SliceDto<ProductListItemDto>> getProductsSliced(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Integer[] category,
+            @RequestParam(required = false) String[] location,
+            @RequestParam(required = false) Boolean isDelivery,
+            @RequestParam(defaultValue = "BIDDING") AuctionStatus status,
+            @RequestParam(defaultValue = "LATEST") ProductSearchSortType sort
+    ) {
+        ProductSearchDto search = new ProductSearchDto(keyword, category, location, isDelivery, status);
+        SliceDto<ProductListItemDto> response = productFacade.getProductsSliced(page, size, sort, search);
+        return RsData.ok("상품 목록이 조회되었습니다", response);
+    }
+
+    @GetMapping("/search")
+    public RsData<PageDto<ProductListItemDto>> searchProducts(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Integer[] category,
+            @RequestParam(required = false) String[] location,
+            @RequestParam(required = false) Boolean isDelivery,
+            @RequestParam(defaultValue = "BIDDING") AuctionStatus status,
+            @RequestParam(defaultValue = "LATEST") ProductSearchSortType sort
+    ) {
+        ProductSearchDto search = new ProductSearchDto(keyword, category, location, isDelivery, status);
+        PageDto<ProductListItemDto> response = productFacade.searchProducts(page, size, sort, search);
+        return RsData.ok("상품 목록이 조회되었습니다", response);
+    }
+
     @GetMapping("/es")
     @Transactional(readOnly = true)
     public RsData<PageDto<ProductListItemDto>> getProductsByElasticsearch(
@@ -72,6 +108,26 @@ public class ApiV1ProductController implements ApiV1ProductControllerDocs {
         return RsData.ok("상품 목록이 조회되었습니다", response);
     }
 
+    @GetMapping("/es/cursor")
+    public RsData<SearchAfterPageDto<ProductListItemDto>> getProductsByElasticsearchCursor(
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Integer[] category,
+            @RequestParam(required = false) String[] location,
+            @RequestParam(required = false) Boolean isDelivery,
+            @RequestParam(defaultValue = "BIDDING") AuctionStatus status,
+            @RequestParam(required = false) ProductSearchSortType sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean pit,
+            @AuthenticationPrincipal User user
+    ) {
+        ProductSearchDto search = new ProductSearchDto(keyword, category, location, isDelivery, status);
+        // PIT 는 ES 노드 자원(max_open_pit_context)을 차지하므로 로그인 사용자만 사용 (비로그인은 PIT 없이 조회)
+        SearchAfterPageDto<ProductListItemDto> response =
+                productFacade.getProductsByElasticsearchCursor(size, sort, search, cursor, pit && user != null);
+        return RsData.ok("상품 목록이 조회되었습니다", response);
+    }
+
     @GetMapping("/{productId}")
     @Transactional(readOnly = true)
     public RsData<ProductResponse> getProduct(@PathVariable Long productId) {
@@ -116,6 +172,19 @@ public class ApiV1ProductController implements ApiV1ProductControllerDocs {
         return RsData.ok("내 상품 목록이 조회되었습니다", response);
     }
 
+    @GetMapping("/me/slice")
+    @Transactional(readOnly = true)
+    public RsData<SliceDto<MyProductListItemDto>> getMyProductsSliced(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) SaleStatus status,
+            @RequestParam(defaultValue = "LATEST") ProductSearchSortType sort,
+            @AuthenticationPrincipal User user
+    ) {
+        SliceDto<MyProductListItemDto> response = productFacade.getMyProductsSliced(page, size, sort, status, user);
+        return RsData.ok("내 상품 목록이 조회되었습니다", response);
+    }
+
     @GetMapping("/members/{memberId}")
     @Transactional(readOnly = true)
     public RsData<PageDto<ProductListByMemberItemDto>> getProductsByMember(
@@ -129,6 +198,19 @@ public class ApiV1ProductController implements ApiV1ProductControllerDocs {
         return RsData.ok("%d번 회원 상품 목록이 조회되었습니다".formatted(memberId), response);
     }
 
+    @GetMapping("/members/{memberId}/slice")
+    @Transactional(readOnly = true)
+    public RsData<SliceDto<ProductListByMemberItemDto>> getProductsByMemberSliced(
+            @PathVariable Long memberId,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "SELLING") SaleStatus status,
+            @RequestParam(defaultValue = "LATEST") ProductSearchSortType sort
+    ) {
+        SliceDto<ProductListByMemberItemDto> response = productFacade.getProductsByMemberSliced(memberId, page, size, sort, status);
+        return RsData.ok("%d번 회원 상품 목록이 조회되었습니다".formatted(memberId), response);
+    }
+
     /**
      * TODO: 관리자만 접근 가능하도록 변경 필요
      */
@@ -137,4 +219,16 @@ public class ApiV1ProductController implements ApiV1ProductControllerDocs {
     public RsData<ReloadAnalyzersResponse> reloadSearchAnalyzers() {
         return productFacade.reloadSearchAnalyzers();
     }
+
+    @PostMapping("/reindex")
+    @PreAuthorize("hasRole('ADMIN')")
+    public RsData<ReindexStatusResponse> reindexProducts() {
+        return productFacade.reindexProducts();
+    }
+
+    @GetMapping("/reindex")
+    @PreAuthorize("hasRole('ADMIN')")
+    public RsData<ReindexStatusResponse> getReindexStatus() {
+        return productFacade.getReindexStatus();
+    }
 }
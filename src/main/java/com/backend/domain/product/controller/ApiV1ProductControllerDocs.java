@@ -7,6 +7,8 @@ import com.backend.domain.product.enums.AuctionStatus;
 import com.backend.domain.product.enums.ProductSearchSortType;
 import com.backend.domain.product.enums.SaleStatus;
 import com.backend.global.page.dto.PageDto;
+import com.backend.global.page.dto.SearchAfterPageDto;
+import com.backend.global.page.dto.SliceDto;
 import com.backend.global.response.RsData;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -96,6 +98,50 @@ public interface ApiV1ProductControllerDocs {
     );
 
 
+    /**
+     * 상품 목록 슬라이스 조회 (RDB 기반)
+     * - 상품 목록 조회와 같은 조건, 전체 개수(COUNT)를 계산하지 않음
+     * - 무한 스크롤처럼 다음 페이지 여부만 필요할 때 사용
+     */
+    @Operation(summary = "상품 목록 슬라이스 조회", description = "전체 개수 없이 상품 목록과 다음 페이지 여부를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    RsData<SliceDto<ProductListItemDto>> getProductsSliced(
+            @Parameter(description = "페이지 번호 (1부터 시작)") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "상품명 검색어") @RequestParam(required = false) String keyword,
+            @Parameter(description = "상품 카테고리 (번호)") @RequestParam(required = false) Integer[] category,
+            @Parameter(description = "직거래 시 지역") @RequestParam(required = false) String[] location,
+            @Parameter(description = "배송 가능 여부") @RequestParam(required = false) Boolean isDelivery,
+            @Parameter(description = "경매 상태") @RequestParam(defaultValue = "BIDDING") AuctionStatus status,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "LATEST") ProductSearchSortType sort
+    );
+
+
+    /**
+     * 상품 목록 검색 (검색 단일 진입점)
+     * - 키워드가 있으면 Elasticsearch, 필터만 있으면 MySQL 에서 조회
+     * - Elasticsearch 가 느리거나 장애면 자동으로 MySQL 결과 반환
+     */
+    @Operation(summary = "상품 목록 검색", description = "검색 조건에 맞는 저장소(Elasticsearch/MySQL)에서 상품 목록을 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    RsData<PageDto<ProductListItemDto>> searchProducts(
+            @Parameter(description = "페이지 번호 (1부터 시작)") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "상품명 검색어") @RequestParam(required = false) String keyword,
+            @Parameter(description = "상품 카테고리 (번호)") @RequestParam(required = false) Integer[] category,
+            @Parameter(description = "직거래 시 지역") @RequestParam(required = false) String[] location,
+            @Parameter(description = "배송 가능 여부") @RequestParam(required = false) Boolean isDelivery,
+            @Parameter(description = "경매 상태") @RequestParam(defaultValue = "BIDDING") AuctionStatus status,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "LATEST") ProductSearchSortType sort
+    );
+
+
     /**
      * 상품 목록 조회 (Elasticsearch 기반)
      * - Elasticsearch의 전문 검색 기능 활용
@@ -119,6 +165,34 @@ public interface ApiV1ProductControllerDocs {
     );
 
 
+    /**
+     * 상품 목록 커서 조회 (Elasticsearch search_after 기반)
+     * - 무한 스크롤용, 깊은 페이지에서도 조회 비용이 일정 (10,000건 제한 없음)
+     * - 전체 개수는 제공하지 않음
+     * - 다음 페이지는 응답의 nextCursor 를 그대로 전달 (같은 검색 조건/정렬 유지)
+     * - PIT 는 로그인 사용자만 사용 (비로그인 요청은 pit=true 여도 PIT 없이 조회)
+     */
+    @Operation(summary = "상품 목록 커서 조회 (ElasticSearch)", description = "search_after 커서로 상품 목록을 조회합니다. 다음 페이지는 nextCursor 를 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 정렬 기준 불일치",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    RsData<SearchAfterPageDto<ProductListItemDto>> getProductsByElasticsearchCursor(
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "상품명 검색어") @RequestParam(required = false) String keyword,
+            @Parameter(description = "상품 카테고리 (번호)") @RequestParam(required = false) Integer[] category,
+            @Parameter(description = "직거래 시 지역") @RequestParam(required = false) String[] location,
+            @Parameter(description = "배송 가능 여부") @RequestParam(required = false) Boolean isDelivery,
+            @Parameter(description = "경매 상태") @RequestParam(defaultValue = "BIDDING") AuctionStatus status,
+            @Parameter(description = "정렬 기준") @RequestParam(required = false) ProductSearchSortType sort,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "PIT 사용 여부 (첫 페이지에서 지정, 스크롤 중 색인 변경과 무관한 일관된 결과, 로그인 사용자만 적용)") @RequestParam(defaultValue = "false") boolean pit,
+            @Parameter(description = "로그인 회원") @AuthenticationPrincipal User user
+    );
+
+
     /**
      * 상품 상세 조회
      * - 특정 상품의 모든 정보를 조회
@@ -226,6 +300,26 @@ public interface ApiV1ProductControllerDocs {
     );
 
 
+    /**
+     * 내 상품 목록 슬라이스 조회 (RDB 기반)
+     * - 내 상품 목록 조회와 같은 조건, 전체 개수(COUNT)를 계산하지 않음
+     */
+    @Operation(summary = "내 상품 슬라이스 조회", description = "전체 개수 없이 내가 올린 상품들과 다음 페이지 여부를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내 상품 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    RsData<SliceDto<MyProductListItemDto>> getMyProductsSliced(
+            @Parameter(description = "페이지 번호 (1부터 시작)") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "판매 상태") @RequestParam(defaultValue = "SELLING") SaleStatus status,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "LATEST") ProductSearchSortType sort,
+            @Parameter(description = "로그인 회원") @AuthenticationPrincipal User user
+    );
+
+
     /**
      * 특정 회원의 상품 목록 조회 (RDB 기반)
      * - 다른 회원이 등록한 상품 목록 조회
@@ -251,6 +345,28 @@ public interface ApiV1ProductControllerDocs {
     );
 
 
+    /**
+     * 특정 회원의 상품 목록 슬라이스 조회 (RDB 기반)
+     * - 특정 회원 상품 조회와 같은 조건, 전체 개수(COUNT)를 계산하지 않음
+     *
+     * @param memberId 조회할 회원의 ID
+     */
+    @Operation(summary = "특정 회원 상품 슬라이스 조회", description = "전체 개수 없이 특정 회원이 올린 상품들과 다음 페이지 여부를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "특정 회원 상품 조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    RsData<SliceDto<ProductListByMemberItemDto>> getProductsByMemberSliced(
+            @Parameter(description = "회원 ID", required = true) @PathVariable Long memberId,
+            @Parameter(description = "페이지 번호 (1부터 시작)") @RequestParam(defaultValue = "1") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "판매 상태") @RequestParam(defaultValue = "SELLING") SaleStatus status,
+            @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "LATEST") ProductSearchSortType sort
+    );
+
+
     /**
      * Elasticsearch 검색 분석기 재로드
      * 사용자 사전, 동의어 사전 변경 후 호출 필요
@@ -263,4 +379,32 @@ public interface ApiV1ProductControllerDocs {
                     content = @Content(schema = @Schema(implementation = RsData.class)))
     })
     RsData<ReloadAnalyzersResponse> reloadSearchAnalyzers();
+
+    /**
+     * 상품 전체 재인덱싱
+     * 새 버전 인덱스에 bulk 로 채운 뒤 alias 교체 (빌드 중에도 기존 인덱스로 검색 가능)
+     */
+    @Operation(summary = "상품 전체 재인덱싱", description = "MySQL 상품 데이터로 새 Elasticsearch 인덱스를 만들고 alias 를 교체합니다. 관리자만 호출할 수 있으며 백그라운드로 실행됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "재인덱싱 시작 (진행 상태는 GET /reindex 로 조회)",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "409", description = "이미 재인덱싱 진행 중",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    RsData<ReindexStatusResponse> reindexProducts();
+
+    /**
+     * 상품 재인덱싱 진행 상태
+     * 진행 여부와 마지막 완료 결과 (실패 비율 초과 시 swapped=false)
+     */
+    @Operation(summary = "상품 재인덱싱 상태 조회", description = "재인덱싱 진행 여부와 마지막 완료 결과를 조회합니다. 관리자만 호출할 수 있습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = RsData.class))),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음",
+                    content = @Content(schema = @Schema(implementation = RsData.class)))
+    })
+    RsData<ReindexStatusResponse> getReindexStatus();
 }
@@ -93,6 +93,16 @@ public class ProductDocument {
     
     @Field(type = FieldType.Text, analyzer = "nori_analyzer")
     private String sellerNickname;
+
+    // 목록 조회 시 회원 조회 없이 SellerDto 를 만들기 위한 판매자 비정규화 필드 (회원 정보 변경 시 동기화)
+    @Field(type = FieldType.Keyword, index = false)
+    private String sellerProfileImageUrl;
+
+    @Field(type = FieldType.Integer)
+    private Integer sellerCreditScore;
+
+    @Field(type = FieldType.Integer)
+    private Integer sellerReviewCount;
     
     @Field(type = FieldType.Long)
     private Integer bidderCount;
@@ -107,13 +117,16 @@ public class ProductDocument {
      *
      * 변환 규칙:
      * - Enum은 name()으로 변환 (category, deliveryMethod)
-     * - 연관 엔티티는 ID와 주요 필드만 추출 (seller)
+     * - 연관 엔티티는 ID와 주요 필드만 추출 (seller - 목록 조회의 SellerDto 필드)
      * - 컬렉션은 제외 (bids, productImages)
      *
+     * - 판매자 리뷰 수는 호출 측에서 집계해 전달 (상품마다 판매자 reviews 컬렉션을 로딩하지 않도록)
+     *
      * @param product 변환할 상품 엔티티
+     * @param sellerReviewCount 판매자 리뷰 수
      * @return Elasticsearch에 저장할 문서
      */
-    public static ProductDocument fromEntity(Product product) {
+    public static ProductDocument fromEntity(Product product, int sellerReviewCount) {
         return ProductDocument.builder()
                 .id(String.valueOf(product.getId()))
                 .productId(product.getId())
@@ -131,8 +144,11 @@ public class ProductDocument {
                 .thumbnailUrl(product.getThumbnail())
                 .sellerId(product.getSeller().getId())
                 .sellerNickname(product.getSeller().getNickname())
+                .sellerProfileImageUrl(product.getSeller().getProfileImageUrl())
+                .sellerCreditScore(product.getSeller().getCreditScore())
+                .sellerReviewCount(sellerReviewCount)
                 .bidderCount(product.getBidderCount())
                 .createDate(product.getCreateDate())
                 .build();
     }
-}
\ No newline at end of file
+}
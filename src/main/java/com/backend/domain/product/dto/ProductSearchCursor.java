@@ -0,0 +1,47 @@
+package com.backend.domain.product.dto;
+
+import com.backend.global.exception.ServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Elasticsearch 커서 검색 토큰
+ * - 정렬 기준, 마지막 문서의 정렬 값(search_after), PIT ID 를 JSON → Base64(URL-safe) 로 묶은 불투명한 문자열
+ * - 다른 정렬 기준으로 받은 커서는 정렬 값의 의미가 달라지므로 거부
+ *
+ * @param sort 정렬 기준 (ProductSearchSortType 이름, 지정하지 않았으면 null)
+ * @param searchAfter 이전 페이지 마지막 문서의 정렬 값
+ * @param pitId PIT ID (사용하지 않으면 null)
+ */
+public record ProductSearchCursor(
+        String sort,
+        List<Object> searchAfter,
+        String pitId
+) {
+    public String encode(ObjectMapper objectMapper) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(this));
+        } catch (Exception e) {
+            throw new IllegalStateException("검색 커서 생성 실패", e);
+        }
+    }
+
+    public static ProductSearchCursor decode(String cursor, String expectedSort, ObjectMapper objectMapper) {
+        ProductSearchCursor decoded;
+        try {
+            decoded = objectMapper.readValue(Base64.getUrlDecoder().decode(cursor), ProductSearchCursor.class);
+        } catch (Exception e) {
+            throw ServiceException.badRequest("잘못된 커서입니다.");
+        }
+        if (decoded.searchAfter() == null || decoded.searchAfter().isEmpty()) {
+            throw ServiceException.badRequest("잘못된 커서입니다.");
+        }
+        if (!Objects.equals(decoded.sort(), expectedSort)) {
+            throw ServiceException.badRequest("커서와 정렬 기준이 일치하지 않습니다.");
+        }
+        return decoded;
+    }
+}
@@ -0,0 +1,14 @@
+package com.backend.domain.product.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB ↔ ES 정합성 비교용 상품 스냅샷 (엔티티 대신 필요한 컬럼만 조회)
+ */
+public record ProductSyncSnapshot(
+        Long productId,
+        Long currentPrice,
+        String status,
+        Integer bidderCount,
+        LocalDateTime modifyDate
+) {}
@@ -0,0 +1,14 @@
+package com.backend.domain.product.dto.response;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public record ReconcileResponse(
+        @NotNull Long checked,
+        @NotNull Long drifted,
+        @NotNull Long repaired,
+        @NotNull Long orphans,
+        @NotNull Long elapsedMillis,
+        @NotNull LocalDateTime checkedUntil
+) {}
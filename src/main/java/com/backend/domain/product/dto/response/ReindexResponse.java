@@ -0,0 +1,12 @@
+package com.backend.domain.product.dto.response;
+
+import jakarta.validation.constraints.NotNull;
+
+public record ReindexResponse(
+        @NotNull String indexName,
+        @NotNull Long total,
+        @NotNull Long indexed,
+        @NotNull Long failed,
+        @NotNull Long elapsedMillis,
+        @NotNull Boolean swapped
+) {}
@@ -0,0 +1,11 @@
+package com.backend.domain.product.dto.response;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public record ReindexStatusResponse(
+        @NotNull Boolean running,
+        LocalDateTime lastStartedAt,
+        ReindexResponse lastResult
+) {}
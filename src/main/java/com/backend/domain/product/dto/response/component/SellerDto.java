@@ -1,6 +1,7 @@
 package com.backend.domain.product.dto.response.component;
 
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.product.document.ProductDocument;
 
 public record SellerDto(
         Long id,
@@ -18,4 +19,15 @@ public record SellerDto(
                 entity.getReviews().size()
         );
     }
+
+    // 상품 문서에 비정규화된 판매자 정보로 생성 (회원 조회 없음)
+    public static SellerDto fromDocument(ProductDocument document) {
+        return new SellerDto(
+                document.getSellerId(),
+                document.getSellerNickname(),
+                document.getSellerCreditScore(),
+                document.getSellerProfileImageUrl(),
+                document.getSellerReviewCount()
+        );
+    }
 }
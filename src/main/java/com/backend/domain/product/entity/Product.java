@@ -28,7 +28,9 @@ import static java.time.LocalDateTime.now;
         // 카테고리 목록 조회 (카테고리, 상태, 최신순)
         @Index(name = "idx_category_status_create", columnList = "category, status, create_date DESC"),
         // 지역 목록 조회 (지역, 상태, 최신순)
-        @Index(name = "idx_location_status_create", columnList = "location, status, create_date DESC")
+        @Index(name = "idx_location_status_create", columnList = "location, status, create_date DESC"),
+        // DB ↔ ES 증분 정합성 검사 ((수정일, id) 키셋)
+        @Index(name = "idx_modify_date_id", columnList = "modify_date, id")
 })
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "product_type")
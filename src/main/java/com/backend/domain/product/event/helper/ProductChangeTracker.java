@@ -5,8 +5,9 @@ import com.backend.domain.product.entity.Product;
 import com.backend.domain.product.event.ProductBidderCountChangedEvent;
 import com.backend.domain.product.event.ProductPriceChangedEvent;
 import com.backend.domain.product.event.ProductStatusChangedEvent;
+import com.backend.global.outbox.OutboxEventPublisher;
+import com.backend.global.outbox.enums.AggregateType;
 import lombok.Getter;
-import org.springframework.context.ApplicationEventPublisher;
 
 /**
  * 상품 변경 추적 헬퍼 클래스
@@ -17,7 +18,8 @@ import org.springframework.context.ApplicationEventPublisher;
  * 사용 패턴:
  * 1. 변경 전 상태 스냅샷 생성: ProductChangeTracker.of(product)
  * 2. 비즈니스 로직 수행 (가격 변경, 상태 변경 등)
- * 3. 변경 후 이벤트 발행: tracker.publishChanges(publisher, product)
+ * 3. 변경 후 이벤트 발행: tracker.publishChanges(outboxEventPublisher, product)
+ *    → 같은 트랜잭션에서 아웃박스에 저장되고, 커밋 후 OutboxRelay 가 컨슈머에 전달
  *
  * 추적 필드:
  * - currentPrice: 입찰로 인한 가격 변경
@@ -62,14 +64,15 @@ public class ProductChangeTracker {
      * - 각 필드를 변경 전 스냅샷과 비교
      * - 변경된 필드가 있는 경우에만 해당 이벤트 발행
      * - 불필요한 이벤트 발행 및 Elasticsearch 업데이트 방지
+     * - 호출한 쪽 트랜잭션 안에서 호출해야 함 (아웃박스 저장)
      *
-     * @param publisher Spring의 ApplicationEventPublisher
+     * @param publisher 아웃박스 이벤트 발행기
      * @param product 변경 후 상품 상태
      */
-    public void publishChanges(ApplicationEventPublisher publisher, Product product) {
+    public void publishChanges(OutboxEventPublisher publisher, Product product) {
         // 가격 변경
         if (!oldPrice.equals(product.getCurrentPrice())) {
-            publisher.publishEvent(new ProductPriceChangedEvent(
+            publisher.append(AggregateType.PRODUCT, productId, new ProductPriceChangedEvent(
                 productId, 
                 oldPrice, 
                 product.getCurrentPrice()
@@ -78,7 +81,7 @@ public class ProductChangeTracker {
 
         // 상태 변경
         if (!oldStatus.equals(product.getStatus())) {
-            publisher.publishEvent(new ProductStatusChangedEvent(
+            publisher.append(AggregateType.PRODUCT, productId, new ProductStatusChangedEvent(
                 productId, 
                 oldStatus, 
                 product.getStatus()
@@ -87,7 +90,7 @@ public class ProductChangeTracker {
 
         // 입찰자 수 변경
         if (!oldBidderCount.equals(product.getBidderCount())) {
-            publisher.publishEvent(new ProductBidderCountChangedEvent(
+            publisher.append(AggregateType.PRODUCT, productId, new ProductBidderCountChangedEvent(
                 productId,
                 oldBidderCount,
                 product.getBidderCount()
@@ -0,0 +1,52 @@
+package com.backend.domain.product.event.listener;
+
+import com.backend.domain.member.event.MemberProfileChangedEvent;
+import com.backend.domain.product.cache.ProductDetailCache;
+import com.backend.domain.product.event.ProductBidderCountChangedEvent;
+import com.backend.domain.product.event.ProductPriceChangedEvent;
+import com.backend.domain.product.event.ProductStatusChangedEvent;
+import com.backend.domain.product.repository.jpa.ProductRepository;
+import com.backend.global.outbox.OutboxConsumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 상품 상세 캐시 무효화 리스너
+ * - 가격/상태/입찰자 수가 바뀐 상품의 상세 캐시 제거
+ * - 판매자 정보(닉네임, 프로필 이미지 등)가 바뀌면 그 판매자의 상품 상세 캐시 모두 제거 (ProductResponse 에 SellerDto 포함)
+ * - 아웃박스 컨슈머: 커밋 직후 릴레이가 깨어나 전달하므로 이전 가격이 보이는 시간은 짧게 유지
+ *   (다른 노드의 로컬 캐시는 ProductDetailCache 가 Redis 채널로 함께 무효화)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCacheEventListener implements OutboxConsumer {
+
+    private final ProductDetailCache productDetailCache;
+    private final ProductRepository productRepository;
+
+    @Override
+    public String name() {
+        return "product-detail-cache";
+    }
+
+    @Override
+    public Set<Class<?>> eventTypes() {
+        return Set.of(ProductPriceChangedEvent.class, ProductStatusChangedEvent.class, ProductBidderCountChangedEvent.class,
+                MemberProfileChangedEvent.class);
+    }
+
+    @Override
+    public void handle(Object event) {
+        switch (event) {
+            case ProductPriceChangedEvent priceChanged -> productDetailCache.evict(priceChanged.productId());
+            case ProductStatusChangedEvent statusChanged -> productDetailCache.evict(statusChanged.productId());
+            case ProductBidderCountChangedEvent bidderCountChanged -> productDetailCache.evict(bidderCountChanged.productId());
+            case MemberProfileChangedEvent profileChanged ->
+                    productRepository.findIdsBySellerId(profileChanged.memberId()).forEach(productDetailCache::evict);
+            default -> {
+            }
+        }
+    }
+}
@@ -4,31 +4,58 @@ import com.backend.domain.product.event.ProductBidderCountChangedEvent;
 import com.backend.domain.product.event.ProductPriceChangedEvent;
 import com.backend.domain.product.event.ProductStatusChangedEvent;
 import com.backend.domain.product.service.ProductSyncService;
+import com.backend.global.outbox.OutboxConsumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
 
 /**
  * 상품 이벤트 리스너
  * - 상품의 특정 필드 변경 시 발생하는 이벤트 처리
  * - Elasticsearch 부분 업데이트를 통한 효율적인 동기화
- * - 비동기 처리로 메인 트랜잭션 성능 영향 최소화
+ * - 변경 내용은 ProductIndexUpdateBuffer 에 모아 상품별로 병합해 _bulk 로 처리
  *
  * 처리 방식:
- * - @TransactionalEventListener: 트랜잭션 커밋 후 이벤트 처리
- * - @Async: 비동기로 처리하여 메인 로직에 영향 없음
- * - 실패 시에도 메인 트랜잭션은 정상 완료
+ * - 아웃박스 컨슈머: 커밋된 이벤트를 OutboxRelay 가 id 순으로 전달 (재시작/장애 후에도 오프셋부터 이어서 처리)
+ * - 배치의 이벤트를 버퍼에 넣은 뒤 flush 에서 바로 _bulk 전송, ES 반영이 확인돼야 오프셋이 올라감
+ * - 전송 실패 시 예외를 던져 릴레이가 배치를 다시 전달 (메인 트랜잭션과는 무관)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ProductEventListener {
+public class ProductEventListener implements OutboxConsumer {
     
     private final ProductSyncService productSyncService;
 
+    @Override
+    public String name() {
+        return "product-search-sync";
+    }
+
+    @Override
+    public Set<Class<?>> eventTypes() {
+        return Set.of(ProductPriceChangedEvent.class, ProductStatusChangedEvent.class, ProductBidderCountChangedEvent.class);
+    }
+
+    @Override
+    public void handle(Object event) {
+        switch (event) {
+            case ProductPriceChangedEvent priceChanged -> handlePriceChanged(priceChanged);
+            case ProductStatusChangedEvent statusChanged -> handleStatusChanged(statusChanged);
+            case ProductBidderCountChangedEvent bidderCountChanged -> handleBidderCountChanged(bidderCountChanged);
+            default -> log.warn("처리하지 않는 상품 이벤트: {}", event.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (!productSyncService.flushPartialUpdates()) {
+            throw new IllegalStateException("Elasticsearch 부분 업데이트 반영 실패");
+        }
+    }
+
     /**
      * 가격 변경 이벤트 처리
      * - 입찰로 인한 currentPrice 변경 시 발생
@@ -40,8 +67,6 @@ public class ProductEventListener {
      *
      * @param event 가격 변경 이벤트 (productId, oldPrice, newPrice)
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handlePriceChanged(ProductPriceChangedEvent event) {
         log.debug("가격 변경 이벤트: productId={}, {}원 -> {}원", 
             event.productId(), event.oldPrice(), event.newPrice());
@@ -63,8 +88,6 @@ public class ProductEventListener {
      *
      * @param event 상태 변경 이벤트 (productId, oldStatus, newStatus)
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleStatusChanged(ProductStatusChangedEvent event) {
         log.debug("상태 변경 이벤트: productId={}, {} -> {}", 
             event.productId(), event.oldStatus(), event.newStatus());
@@ -90,8 +113,6 @@ public class ProductEventListener {
      *
      * @param event 입찰자 수 변경 이벤트 (productId, oldBidderCount, newBidderCount)
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleBidderCountChanged(ProductBidderCountChangedEvent event) {
         log.debug("입찰자 수 변경 이벤트: productId={}, bidderCount={}", 
             event.productId(), event.newBidderCount());
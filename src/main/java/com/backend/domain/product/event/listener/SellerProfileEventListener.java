@@ -0,0 +1,56 @@
+package com.backend.domain.product.event.listener;
+
+import com.backend.domain.member.event.MemberProfileChangedEvent;
+import com.backend.domain.product.service.ProductSyncService;
+import com.backend.global.outbox.OutboxConsumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 판매자 정보 변경 이벤트 리스너
+ * - 상품 문서에 비정규화된 판매자 필드를 Elasticsearch 에 반영
+ * - 아웃박스 컨슈머 (ProductEventListener 와 동일), Elasticsearch 오류 시 릴레이가 재시도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerProfileEventListener implements OutboxConsumer {
+
+    private final ProductSyncService productSyncService;
+
+    @Override
+    public String name() {
+        return "seller-search-sync";
+    }
+
+    @Override
+    public Set<Class<?>> eventTypes() {
+        return Set.of(MemberProfileChangedEvent.class);
+    }
+
+    @Override
+    public void handle(Object event) {
+        if (event instanceof MemberProfileChangedEvent profileChanged) {
+            handleMemberProfileChanged(profileChanged);
+        }
+    }
+
+    /**
+     * 판매자 정보 변경 이벤트 처리
+     *
+     * 발생 시점:
+     * - 회원 정보 수정 (닉네임, 프로필 이미지)
+     * - 리뷰로 인한 신용 점수 변경
+     * - 리뷰 작성/삭제 (리뷰 수)
+     *
+     * @param event 판매자 정보 변경 이벤트 (memberId)
+     */
+    public void handleMemberProfileChanged(MemberProfileChangedEvent event) {
+        log.debug("판매자 정보 변경 이벤트: memberId={}", event.memberId());
+
+        productSyncService.syncSellerUpdate(event.memberId());
+    }
+}
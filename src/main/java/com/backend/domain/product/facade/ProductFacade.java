@@ -2,6 +2,7 @@ package com.backend.domain.product.facade;
 
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.service.MemberService;
+import com.backend.domain.product.cache.ProductDetailCache;
 import com.backend.domain.product.document.ProductDocument;
 import com.backend.domain.product.dto.ProductSearchDto;
 import com.backend.domain.product.dto.request.ProductCreateRequest;
@@ -12,13 +13,19 @@ import com.backend.domain.product.enums.ProductSearchSortType;
 import com.backend.domain.product.enums.SaleStatus;
 import com.backend.domain.product.exception.ProductException;
 import com.backend.domain.product.mapper.ProductMapper;
+import com.backend.domain.product.service.ProductReindexService;
+import com.backend.domain.product.service.ProductSearchRouter;
 import com.backend.domain.product.service.ProductSearchService;
 import com.backend.domain.product.service.ProductService;
 import com.backend.domain.product.service.ProductServiceFactory;
 import com.backend.global.page.dto.PageDto;
+import com.backend.global.page.dto.SearchAfterPageDto;
+import com.backend.global.page.dto.SliceDto;
 import com.backend.global.response.RsData;
+import com.backend.global.response.RsStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -32,7 +39,10 @@ public class ProductFacade {
     private final MemberService memberService;
     private final ProductMapper productMapper;
     private final ProductSearchService productSearchService;
+    private final ProductSearchRouter productSearchRouter;
     private final ProductServiceFactory productServiceFactory;
+    private final ProductDetailCache productDetailCache;
+    private final ProductReindexService productReindexService;
 
     // 상품 생성
     public ProductResponse createProduct(
@@ -59,6 +69,24 @@ public class ProductFacade {
         return productMapper.toListResponse(products);
     }
 
+    // 상품 목록 슬라이스 조회 (전체 개수 없음, 무한 스크롤)
+    public SliceDto<ProductListItemDto> getProductsSliced(
+            int page, int size, ProductSearchSortType sort,
+            ProductSearchDto search
+    ) {
+        Slice<Product> products = productService.findBySearchSliced(page, size, sort, search);
+
+        return productMapper.toListSliceResponse(products);
+    }
+
+    // 상품 목록 검색 (키워드 검색은 ES, 필터 조회는 MySQL / ES 장애 시 MySQL 로 대체)
+    public PageDto<ProductListItemDto> searchProducts(
+            int page, int size, ProductSearchSortType sort,
+            ProductSearchDto search
+    ) {
+        return productSearchRouter.search(page, size, sort, search);
+    }
+
     // 상품 목록 조회 (Elasticsearch)
     public PageDto<ProductListItemDto> getProductsByElasticsearch(
             int page, int size, ProductSearchSortType sort,
@@ -69,11 +97,24 @@ public class ProductFacade {
         return productMapper.toListResponseFromDocument(products);
     }
 
-    // 상품 상세 조회
+    // 상품 목록 커서 조회 (Elasticsearch search_after, 무한 스크롤)
+    public SearchAfterPageDto<ProductListItemDto> getProductsByElasticsearchCursor(
+            int size, ProductSearchSortType sort, ProductSearchDto search,
+            String cursor, boolean usePointInTime
+    ) {
+        SearchAfterPageDto<ProductDocument> products =
+                productSearchService.searchProductsByCursor(size, sort, search, cursor, usePointInTime);
+
+        return productMapper.toCursorListResponseFromDocument(products);
+    }
+
+    // 상품 상세 조회 (로컬/Redis 캐시에 없을 때만 DB 조회)
     public ProductResponse getProduct(Long productId) {
-        Product product = productService.getProductById(productId);
+        return productDetailCache.get(productId, () -> {
+            Product product = productService.getProductById(productId);
 
-        return productMapper.toResponse(product);
+            return productMapper.toResponse(product);
+        });
     }
 
     // 삼품 수정
@@ -115,6 +156,17 @@ public class ProductFacade {
         return productMapper.toMyListResponse(products);
     }
 
+    // 내 상품 목록 슬라이스 조회 (전체 개수 없음)
+    public SliceDto<MyProductListItemDto> getMyProductsSliced(
+            int page, int size, ProductSearchSortType sort,
+            SaleStatus status, User user
+    ) {
+        Member actor = memberService.findMemberByEmail(user.getUsername());
+        Slice<Product> products = productService.findByMemberSliced(page, size, sort, actor, status);
+
+        return productMapper.toMyListSliceResponse(products);
+    }
+
     // 특정 회원 상품 목록 조회
     public PageDto<ProductListByMemberItemDto> getProductsByMember(
             Long memberId,
@@ -128,8 +180,32 @@ public class ProductFacade {
         return productMapper.toListByMemberResponse(products);
     }
 
+    // 특정 회원 상품 목록 슬라이스 조회 (전체 개수 없음)
+    public SliceDto<ProductListByMemberItemDto> getProductsByMemberSliced(
+            Long memberId,
+            int page, int size, ProductSearchSortType sort,
+            SaleStatus status
+    ) {
+        Member actor = memberService.findById(memberId).orElseThrow(ProductException::memberNotFound);
+
+        Slice<Product> products = productService.findByMemberSliced(page, size, sort, actor, status);
+
+        return productMapper.toListByMemberSliceResponse(products);
+    }
+
     // 검색어 분석기 reload
     public RsData<ReloadAnalyzersResponse> reloadSearchAnalyzers() {
         return productSearchService.reloadSearchAnalyzers();
     }
-}
\ No newline at end of file
+
+    // 상품 전체 재인덱싱 시작 (백그라운드에서 새 인덱스 빌드 후 alias 교체)
+    public RsData<ReindexStatusResponse> reindexProducts() {
+        ReindexStatusResponse status = productReindexService.startReindex();
+        return RsData.of(RsStatus.ACCEPTED.getResultCode(), "상품 재인덱싱을 시작했습니다.", status);
+    }
+
+    // 상품 재인덱싱 진행 상태 (마지막 완료 결과 포함)
+    public RsData<ReindexStatusResponse> getReindexStatus() {
+        return RsData.ok("상품 재인덱싱 상태입니다.", productReindexService.status());
+    }
+}
@@ -1,6 +1,5 @@
 package com.backend.domain.product.mapper;
 
-import com.backend.domain.member.service.MemberService;
 import com.backend.domain.product.document.ProductDocument;
 import com.backend.domain.product.dto.response.MyProductListItemDto;
 import com.backend.domain.product.dto.response.ProductListByMemberItemDto;
@@ -9,8 +8,10 @@ import com.backend.domain.product.dto.response.ProductResponse;
 import com.backend.domain.product.dto.response.component.SellerDto;
 import com.backend.domain.product.entity.Product;
 import com.backend.global.page.dto.PageDto;
-import lombok.RequiredArgsConstructor;
+import com.backend.global.page.dto.SearchAfterPageDto;
+import com.backend.global.page.dto.SliceDto;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.util.function.Function;
@@ -19,12 +20,10 @@ import java.util.function.Function;
  * Product Entity/Document → DTO 변환 매퍼
  * - Entity와 DTO 간 변환 로직을 중앙 집중화
  * - RDB 조회 결과와 Elasticsearch 조회 결과를 동일한 DTO로 변환
- * - 페이징 처리 및 연관 엔티티 조회 포함
+ * - 페이징 처리 포함 (Elasticsearch 결과는 문서에 비정규화된 판매자 정보 사용, 회원 조회 없음)
  */
 @Component
-@RequiredArgsConstructor
 public class ProductMapper {
-    private final MemberService memberService;
 
     // ======================================= Entity → Response 변환 ======================================= //
     // Product -> ProductResponse (상품 생성, 상세 조회, 수정)
@@ -47,9 +46,29 @@ public class ProductMapper {
         return mapToPageDto(products, ProductListByMemberItemDto::fromEntity);
     }
 
-    // Page<ProductDocument> -> PageDto<ProductListItemDto> (상품 목록 조회 - ElasticSearch)
+    // Slice<Product> -> SliceDto<ProductListItemDto> (상품 목록 슬라이스 조회)
+    public SliceDto<ProductListItemDto> toListSliceResponse(Slice<Product> products) {
+        return SliceDto.fromSlice(products.map(ProductListItemDto::fromEntity));
+    }
+
+    // Slice<Product> -> SliceDto<MyProductListItemDto> (내 상품 목록 슬라이스 조회)
+    public SliceDto<MyProductListItemDto> toMyListSliceResponse(Slice<Product> products) {
+        return SliceDto.fromSlice(products.map(MyProductListItemDto::fromEntity));
+    }
+
+    // Slice<Product> -> SliceDto<ProductListByMemberItemDto> (특정 회원의 상품 목록 슬라이스 조회)
+    public SliceDto<ProductListByMemberItemDto> toListByMemberSliceResponse(Slice<Product> products) {
+        return SliceDto.fromSlice(products.map(ProductListByMemberItemDto::fromEntity));
+    }
+
+    // Page<ProductDocument> -> PageDto<ProductListItemDto> (상품 목록 조회 - ElasticSearch, 판매자 정보는 문서에서 바로 사용)
     public PageDto<ProductListItemDto> toListResponseFromDocument(Page<ProductDocument> products) {
-        return mapToPageDtoFromDocuments(products, doc -> ProductListItemDto.fromDocument(doc, getSellerDto(doc)));
+        return mapToPageDtoFromDocuments(products, doc -> ProductListItemDto.fromDocument(doc, SellerDto.fromDocument(doc)));
+    }
+
+    // SearchAfterPageDto<ProductDocument> -> SearchAfterPageDto<ProductListItemDto> (상품 목록 커서 조회 - ElasticSearch)
+    public SearchAfterPageDto<ProductListItemDto> toCursorListResponseFromDocument(SearchAfterPageDto<ProductDocument> products) {
+        return products.map(doc -> ProductListItemDto.fromDocument(doc, SellerDto.fromDocument(doc)));
     }
 
 
@@ -63,11 +82,4 @@ public class ProductMapper {
     private <T> PageDto<T> mapToPageDtoFromDocuments(Page<ProductDocument> documents, Function<ProductDocument, T> mapper) {
         return PageDto.fromPage(documents.map(mapper));
     }
-
-    // ProductDocument -> SellerDto (상품 목록 조회 - ElasticSearch )
-    private SellerDto getSellerDto(ProductDocument document) {
-        return memberService.findById(document.getSellerId())
-                .map(SellerDto::fromEntity)
-                .orElse(null);
-    }
 }
\ No newline at end of file
@@ -4,7 +4,22 @@ import com.backend.domain.product.document.ProductDocument;
 import com.backend.domain.product.dto.ProductSearchDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 public interface ProductElasticRepositoryCustom {
     Page<ProductDocument> searchProducts(Pageable pageable, ProductSearchDto search);
+
+    SearchHits<ProductDocument> searchProductsAfter(ProductSearchDto search, Sort sort, int size,
+                                                    List<Object> searchAfter, String pointInTimeId, Duration keepAlive);
+
+    String openPointInTime(Duration keepAlive);
+
+    void closePointInTime(String pointInTimeId);
+
+    long updateSellerFields(Long sellerId, Map<String, Object> sellerFields);
 }
@@ -9,19 +9,28 @@ import com.backend.domain.product.dto.ProductSearchDto;
 import com.backend.domain.product.enums.DeliveryMethod;
 import com.backend.domain.product.enums.ProductCategory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Product Elasticsearch Custom Repository 구현체
@@ -38,6 +47,10 @@ import java.util.List;
 public class ProductElasticRepositoryImpl implements ProductElasticRepositoryCustom {
     private final ElasticsearchOperations elasticsearchOperations;
 
+    // 전체 개수는 이 값까지만 정확히 계산 (넘으면 하한값, from + size 최대치 10,000 과 맞춤)
+    @Value("${search.track-total-hits-up-to:10000}")
+    private int trackTotalHitsUpTo = 10000;
+
     @Override
     public Page<ProductDocument> searchProducts(Pageable pageable, ProductSearchDto search) {
         BoolQuery.Builder boolQuery = new BoolQuery.Builder();
@@ -49,6 +62,79 @@ public class ProductElasticRepositoryImpl implements ProductElasticRepositoryCus
         return createPagedQuery(boolQuery, pageable, hasKeyword);
     }
 
+    /**
+     * search_after 기반 커서 검색 (깊은 페이지에서도 from 만큼 건너뛰지 않음)
+     * - 정렬은 searchProducts 와 동일 (마지막에 productId DESC 타이브레이커 → 정렬 값이 문서마다 유일)
+     * - 전체 개수를 세지 않음 (track_total_hits=false)
+     * - pointInTimeId 가 있으면 PIT 스냅샷에서 검색 (인덱스 대신 PIT 지정, 페이지 사이 색인 변경에 영향 없음)
+     *
+     * @param search 검색 조건
+     * @param sort 정렬 기준
+     * @param size 조회 건수
+     * @param searchAfter 이전 페이지 마지막 문서의 정렬 값 (첫 페이지는 null)
+     * @param pointInTimeId PIT ID (사용하지 않으면 null)
+     * @param keepAlive PIT 유지 시간 (요청마다 연장)
+     * @return 정렬 값과 PIT ID 를 포함한 검색 결과
+     */
+    @Override
+    public SearchHits<ProductDocument> searchProductsAfter(ProductSearchDto search, Sort sort, int size,
+                                                           List<Object> searchAfter, String pointInTimeId, Duration keepAlive) {
+        BoolQuery.Builder boolQuery = new BoolQuery.Builder();
+        applyFilters(boolQuery, search);
+        boolean hasKeyword = search.keyword() != null && !search.keyword().isBlank();
+
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(q -> q.bool(boolQuery.build()))
+                .withPageable(PageRequest.of(0, size))
+                .withSort(applySorting(sort, hasKeyword))
+                .withTrackTotalHits(false);
+        if (searchAfter != null && !searchAfter.isEmpty()) {
+            queryBuilder.withSearchAfter(searchAfter);
+        }
+        if (pointInTimeId != null) {
+            queryBuilder.withPointInTime(new Query.PointInTime(pointInTimeId, keepAlive));
+        }
+
+        return elasticsearchOperations.search(queryBuilder.build(), ProductDocument.class);
+    }
+
+    @Override
+    public String openPointInTime(Duration keepAlive) {
+        return elasticsearchOperations.openPointInTime(IndexCoordinates.of(ProductIndexManager.ALIAS), keepAlive);
+    }
+
+    @Override
+    public void closePointInTime(String pointInTimeId) {
+        elasticsearchOperations.closePointInTime(pointInTimeId);
+    }
+
+    /**
+     * 판매자의 모든 상품 문서에 판매자 필드 반영 (update_by_query)
+     * - 전달된 필드만 덮어쓰기 (params 의 key 가 문서 필드명)
+     * - 동시에 다른 부분 업데이트가 일어나 버전 충돌이 나더라도 나머지 문서는 계속 처리
+     *
+     * @param sellerId 판매자 ID
+     * @param sellerFields 변경할 판매자 필드
+     * @return 업데이트된 문서 수
+     */
+    @Override
+    public long updateSellerFields(Long sellerId, Map<String, Object> sellerFields) {
+        Query query = NativeQuery.builder()
+                .withQuery(q -> q.term(t -> t.field("sellerId").value(sellerId)))
+                .build();
+
+        UpdateQuery updateQuery = UpdateQuery.builder(query)
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withScript("for (entry in params.entrySet()) { ctx._source[entry.getKey()] = entry.getValue(); }")
+                .withParams(sellerFields)
+                .withAbortOnVersionConflict(false)
+                .build();
+
+        ByQueryResponse response = elasticsearchOperations.updateByQuery(updateQuery, IndexCoordinates.of("products"));
+        return response.getUpdated();
+    }
+
 
     /**
      * 페이징 쿼리 생성 및 실행
@@ -70,13 +156,14 @@ public class ProductElasticRepositoryImpl implements ProductElasticRepositoryCus
                 .withQuery(q -> q.bool(boolQuery.build()))
                 .withPageable(pageable)
                 .withSort(sortOptions)
+                .withTrackTotalHitsUpTo(trackTotalHitsUpTo)
                 .build();
 
         // 검색 실행
         SearchHits<ProductDocument> searchHits = elasticsearchOperations.search(query, ProductDocument.class);
         List<ProductDocument> content = convertToProductDocumentList(searchHits);
 
-        // 총 검색 결과 수
+        // 총 검색 결과 수 (trackTotalHitsUpTo 를 넘으면 그 값으로 고정)
         long totalHits = searchHits.getTotalHits();
 
         return new PageImpl<>(content, pageable, totalHits);
@@ -0,0 +1,136 @@
+package com.backend.domain.product.repository.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import com.backend.domain.product.document.ProductDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 인덱스 관리 (버전 인덱스 + alias)
+ * - 서비스는 항상 alias(products)로 읽고 쓰고, 실제 데이터는 products_{버전} 인덱스에 저장
+ * - 재인덱싱 시 새 버전 인덱스를 만들어 채운 뒤 alias 를 한 번에 교체 (교체 전까지 기존 인덱스로 계속 서비스)
+ * - 예전처럼 products 가 alias 가 아닌 실제 인덱스로 존재하면 교체 시 같은 요청에서 삭제 (remove_index)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIndexManager {
+
+    public static final String ALIAS = "products";
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+
+    /**
+     * 빌드용 버전 인덱스 생성
+     * - 설정/매핑은 ProductDocument 의 @Setting/@Mapping 파일 그대로 사용
+     * - 빌드 중에는 refresh 와 replica 를 꺼서 색인 비용 최소화
+     *
+     * @return 생성된 인덱스 이름
+     */
+    public String createBuildIndex() {
+        String indexName = ALIAS + "_" + LocalDateTime.now().format(VERSION_FORMAT);
+        IndexOperations template = elasticsearchOperations.indexOps(ProductDocument.class);
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName))
+                .create(template.createSettings(), template.createMapping());
+
+        try {
+            elasticsearchClient.indices().putSettings(p -> p
+                    .index(indexName)
+                    .settings(s -> s
+                            .refreshInterval(t -> t.time("-1"))
+                            .numberOfReplicas("0")
+                    )
+            );
+        } catch (IOException e) {
+            throw new UncheckedIOException("빌드 인덱스 설정 실패: " + indexName, e);
+        }
+
+        log.info("빌드 인덱스 생성: {}", indexName);
+        return indexName;
+    }
+
+    /**
+     * 빌드 완료 후 서비스 설정 복구 (refresh, replica) 및 refresh
+     */
+    public void finishBuild(String indexName, String refreshInterval, String replicas) {
+        try {
+            elasticsearchClient.indices().putSettings(p -> p
+                    .index(indexName)
+                    .settings(s -> s
+                            .refreshInterval(t -> t.time(refreshInterval))
+                            .numberOfReplicas(replicas)
+                    )
+            );
+            elasticsearchClient.indices().refresh(r -> r.index(indexName));
+        } catch (IOException e) {
+            throw new UncheckedIOException("빌드 인덱스 설정 복구 실패: " + indexName, e);
+        }
+    }
+
+    /**
+     * alias 를 새 인덱스로 원자적으로 교체
+     *
+     * @param indexName 새 인덱스
+     * @return 교체 전 alias 가 가리키던 인덱스 목록
+     */
+    public Set<String> swapAlias(String indexName) {
+        try {
+            Set<String> previous = getAliasedIndices();
+            boolean concreteIndex = previous.isEmpty()
+                    && elasticsearchClient.indices().exists(e -> e.index(ALIAS)).value();
+
+            elasticsearchClient.indices().updateAliases(u -> {
+                u.actions(a -> a.add(add -> add.index(indexName).alias(ALIAS).isWriteIndex(true)));
+                previous.forEach(index -> u.actions(a -> a.remove(remove -> remove.index(index).alias(ALIAS))));
+                if (concreteIndex) {
+                    u.actions(a -> a.removeIndex(remove -> remove.index(ALIAS)));
+                }
+                return u;
+            });
+
+            log.info("alias 교체: {} -> {} (이전: {}{})", ALIAS, indexName, previous, concreteIndex ? ", 기존 실제 인덱스 삭제" : "");
+            return previous;
+        } catch (IOException e) {
+            throw new UncheckedIOException("alias 교체 실패: " + indexName, e);
+        }
+    }
+
+    public void deleteIndices(Set<String> indexNames) {
+        if (indexNames.isEmpty()) {
+            return;
+        }
+        try {
+            elasticsearchClient.indices().delete(d -> d.index(List.copyOf(indexNames)));
+            log.info("이전 인덱스 삭제: {}", indexNames);
+        } catch (IOException | ElasticsearchException e) {
+            log.warn("이전 인덱스 삭제 실패: {}", indexNames, e);
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    private Set<String> getAliasedIndices() throws IOException {
+        try {
+            return Set.copyOf(elasticsearchClient.indices().getAlias(g -> g.name(ALIAS)).result().keySet());
+        } catch (ElasticsearchException e) {
+            // alias 가 없으면 404
+            if (e.status() == 404) {
+                return Set.of();
+            }
+            throw e;
+        }
+    }
+}
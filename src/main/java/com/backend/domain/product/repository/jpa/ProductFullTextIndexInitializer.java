@@ -0,0 +1,82 @@
+package com.backend.domain.product.repository.jpa;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품 FULLTEXT(ngram) 인덱스 생성
+ * - JPA @Index 로는 FULLTEXT/파서를 지정할 수 없어서 시작 시 없으면 직접 생성 (ddl-auto: update 가 테이블을 만든 뒤)
+ * - ngram 토큰에 InnoDB 기본 불용어("un", "in" 등)가 섞이면 구문 검색이 누락되므로 불용어를 끄고 생성
+ * - 상품이 많은 테이블은 생성에 시간이 걸리므로 배포 전에 아래 DDL 을 직접 실행해 두는 것을 권장
+ *   SET SESSION innodb_ft_enable_stopword = OFF;
+ *   ALTER TABLE products ADD FULLTEXT INDEX ft_products_product_name (product_name) WITH PARSER ngram;
+ *   ALTER TABLE products ADD FULLTEXT INDEX ft_products_location (location) WITH PARSER ngram;
+ */
+@Component
+@ConditionalOnProperty(name = "search.fulltext.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductFullTextIndexInitializer implements ApplicationRunner {
+
+    private static final String TABLE = "products";
+
+    // 인덱스 이름 → 컬럼
+    private static final Map<String, String> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put("ft_products_product_name", "product_name");
+        INDEXES.put("ft_products_location", "location");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        INDEXES.forEach((indexName, column) -> {
+            if (exists(indexName)) {
+                return;
+            }
+            try {
+                long startedAt = System.currentTimeMillis();
+                create(indexName, column);
+                log.info("FULLTEXT 인덱스 생성 완료: {}({}) - {}ms", indexName, column, System.currentTimeMillis() - startedAt);
+            } catch (Exception e) {
+                // 다른 노드가 동시에 생성한 경우 등 - 인덱스가 없으면 키워드 검색이 실패하므로 에러로 남김
+                if (!exists(indexName)) {
+                    log.error("FULLTEXT 인덱스 생성 실패: {}({})", indexName, column, e);
+                }
+            }
+        });
+    }
+
+    // ======================================= helper methods ======================================= //
+    private boolean exists(String indexName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, TABLE, indexName);
+        return count != null && count > 0;
+    }
+
+    // 불용어 설정은 세션 단위라서 같은 커넥션에서 실행
+    private void create(String indexName, String column) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                statement.execute("ALTER TABLE " + TABLE + " ADD FULLTEXT INDEX " + indexName +
+                        " (" + column + ") WITH PARSER ngram");
+            }
+            return null;
+        });
+    }
+}
@@ -1,14 +1,52 @@
 package com.backend.domain.product.repository.jpa;
 
+import com.backend.domain.product.dto.ProductSyncSnapshot;
 import com.backend.domain.product.entity.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     @Query("SELECT p FROM Product p LEFT JOIN FETCH p.bids WHERE p.id = :id")
     Optional<Product> findByIdWithBids(@Param("id") Long id);
     Optional<Product> findFirstByOrderByIdDesc();
+
+    // 키셋 페이지네이션 (id 기준) - 재인덱싱 시 offset 없이 다음 청크 조회
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Product> findChunkAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller WHERE p.id > :lastId AND p.modifyDate >= :since ORDER BY p.id ASC")
+    List<Product> findModifiedChunkAfter(@Param("lastId") Long lastId, @Param("since") LocalDateTime since, Pageable pageable);
+
+    // 재인덱싱 중 정보가 바뀐 판매자의 상품 (교체 후 다시 색인)
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller WHERE p.seller.id IN :sellerIds AND p.id > :lastId ORDER BY p.id ASC")
+    List<Product> findSellerChunkAfter(@Param("sellerIds") Collection<Long> sellerIds, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 정합성 검사용 스냅샷 (id 키셋)
+    @Query("SELECT new com.backend.domain.product.dto.ProductSyncSnapshot(p.id, p.currentPrice, p.status, p.bidderCount, p.modifyDate) " +
+            "FROM Product p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<ProductSyncSnapshot> findSnapshotsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 정합성 검사용 스냅샷 ((modifyDate, id) 키셋) - 증분 검사 시 최근 수정분만 조회
+    @Query("SELECT new com.backend.domain.product.dto.ProductSyncSnapshot(p.id, p.currentPrice, p.status, p.bidderCount, p.modifyDate) " +
+            "FROM Product p WHERE p.modifyDate > :lastModifyDate OR (p.modifyDate = :lastModifyDate AND p.id > :lastId) " +
+            "ORDER BY p.modifyDate ASC, p.id ASC")
+    List<ProductSyncSnapshot> findModifiedSnapshotsAfter(@Param("lastModifyDate") LocalDateTime lastModifyDate,
+                                                        @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") List<Long> ids);
+
+    // 판매자 정보가 바뀌었을 때 상세 캐시를 비울 상품
+    @Query("SELECT p.id FROM Product p WHERE p.seller.id = :sellerId")
+    List<Long> findIdsBySellerId(@Param("sellerId") Long sellerId);
+
+    @Query("SELECT p FROM Product p JOIN FETCH p.seller WHERE p.id IN :ids")
+    List<Product> findAllWithSellerByIdIn(@Param("ids") List<Long> ids);
 }
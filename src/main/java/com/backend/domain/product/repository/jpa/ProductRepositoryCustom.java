@@ -5,9 +5,14 @@ import com.backend.domain.product.entity.Product;
 import com.backend.domain.product.enums.AuctionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ProductRepositoryCustom {
     Page<Product> findBySearchPaged(Pageable pageable, ProductSearchDto search);
 
     Page<Product> findByMemberPaged(Pageable pageable, Long actorId, AuctionStatus status);
+
+    Slice<Product> findBySearchSliced(Pageable pageable, ProductSearchDto search);
+
+    Slice<Product> findByMemberSliced(Pageable pageable, Long actorId, AuctionStatus status);
 }
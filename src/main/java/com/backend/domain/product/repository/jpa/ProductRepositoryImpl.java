@@ -1,21 +1,30 @@
 package com.backend.domain.product.repository.jpa;
 
+import com.backend.domain.product.cache.ProductCountCache;
 import com.backend.domain.product.dto.ProductSearchDto;
 import com.backend.domain.product.entity.Product;
 import com.backend.domain.product.enums.AuctionStatus;
 import com.backend.domain.product.enums.DeliveryMethod;
 import com.backend.domain.product.enums.Location;
 import com.backend.domain.product.enums.ProductCategory;
+import com.backend.global.querydsl.FullTextExpressions;
 import com.backend.global.querydsl.QueryDslUtil;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongSupplier;
 
 import static com.backend.domain.product.entity.QProduct.product;
 
@@ -23,10 +32,25 @@ import static com.backend.domain.product.entity.QProduct.product;
  * Product Custom Repository 구현체
  * - QueryDSL을 사용한 type-safe 동적 쿼리 구현
  * - 복잡한 검색 조건과 정렬을 효율적으로 처리
+ * - search.fulltext.enabled 가 true 면 키워드/지역 검색에 MySQL FULLTEXT(ngram) 인덱스 사용 (ProductFullTextIndexInitializer)
+ * - Paged: 전체 개수는 필터 조합별로 짧게 캐시한 근삿값 (ProductCountCache)
+ *   회원/판매자 본인 목록은 등록/삭제 직후 바로 보여야 하므로 캐시 없이 정확한 개수
+ * - Sliced: 전체 개수 없이 size + 1 건 조회로 다음 페이지 여부만 판단
  */
-@RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final ProductCountCache productCountCache;
+    private final boolean fullTextEnabled;
+
+    public ProductRepositoryImpl(
+            JPAQueryFactory queryFactory,
+            ProductCountCache productCountCache,
+            @Value("${search.fulltext.enabled:false}") boolean fullTextEnabled
+    ) {
+        this.queryFactory = queryFactory;
+        this.productCountCache = productCountCache;
+        this.fullTextEnabled = fullTextEnabled;
+    }
 
     @Override
     public Page<Product> findBySearchPaged(Pageable pageable, ProductSearchDto search) {
@@ -35,18 +59,28 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         // 필터 적용
         applyFilters(builder, search);
 
-        return createPagedQuery(builder, pageable);
+        return createPagedQuery(builder, pageable, searchCountKey(search));
     }
 
     @Override
     public Page<Product> findByMemberPaged(Pageable pageable, Long actorId, AuctionStatus status) {
+        // 본인 목록은 방금 등록/삭제한 상품이 바로 반영돼야 하므로 정확한 개수 (조건이 좁아 COUNT 비용도 작음)
+        return createPagedQuery(memberFilters(actorId, status), pageable, null);
+    }
+
+    @Override
+    public Slice<Product> findBySearchSliced(Pageable pageable, ProductSearchDto search) {
         BooleanBuilder builder = new BooleanBuilder();
 
         // 필터 적용
-        if (actorId != null) builder.and(product.seller.id.eq(actorId));
-        if (status != null) builder.and(product.status.eq(status.getDisplayName()));
+        applyFilters(builder, search);
 
-        return createPagedQuery(builder, pageable);
+        return createSlicedQuery(builder, pageable);
+    }
+
+    @Override
+    public Slice<Product> findByMemberSliced(Pageable pageable, Long actorId, AuctionStatus status) {
+        return createSlicedQuery(memberFilters(actorId, status), pageable);
     }
 
 
@@ -55,13 +89,14 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
      * - 검색 조건 적용
      * - 정렬 적용
      * - 페이징 적용
-     * - Count 쿼리 최적화
+     * - Count 쿼리 최적화 (필요할 때만 실행, countKey 가 있으면 필터 조합별로 캐시)
      *
      * @param builder 검색 조건
      * @param pageable 페이징 정보
+     * @param countKey 정규화한 필터 조합 (Count 캐시 키, null 이면 캐시 없이 정확한 개수)
      * @return 페이징된 상품 목록
      */
-    private Page<Product> createPagedQuery(BooleanBuilder builder, Pageable pageable) {
+    private Page<Product> createPagedQuery(BooleanBuilder builder, Pageable pageable, String countKey) {
         // Query 생성
         JPAQuery<Product> productsQuery = createProductsQuery(builder);
 
@@ -76,7 +111,68 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         // total
         JPAQuery<Long> totalQuery = createTotalQuery(builder);
 
-        return PageableExecutionUtils.getPage(productsQuery.fetch(), pageable, totalQuery::fetchOne);
+        LongSupplier counter = () -> Objects.requireNonNullElse(totalQuery.fetchOne(), 0L);
+        return PageableExecutionUtils.getPage(productsQuery.fetch(), pageable,
+                () -> countKey != null ? productCountCache.get(countKey, counter) : counter.getAsLong());
+    }
+
+    /**
+     * 슬라이스 쿼리 생성 공통 로직
+     * - size + 1 건 조회 후 초과분으로 다음 페이지 여부 판단 (Count 쿼리 없음)
+     *
+     * @param builder 검색 조건
+     * @param pageable 페이징 정보
+     * @return 다음 페이지 여부를 포함한 상품 목록
+     */
+    private Slice<Product> createSlicedQuery(BooleanBuilder builder, Pageable pageable) {
+        JPAQuery<Product> productsQuery = createProductsQuery(builder);
+
+        applySorting(productsQuery, pageable);
+
+        List<Product> rows = productsQuery
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Product> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // 회원 상품 목록 필터
+    private BooleanBuilder memberFilters(Long actorId, AuctionStatus status) {
+        BooleanBuilder builder = new BooleanBuilder();
+        if (actorId != null) builder.and(product.seller.id.eq(actorId));
+        if (status != null) builder.and(product.status.eq(status.getDisplayName()));
+        return builder;
+    }
+
+    /**
+     * 검색 필터 조합 → Count 캐시 키
+     * - 같은 조건이면 입력 순서/대소문자/공백과 관계없이 같은 키 (카테고리/지역은 정렬, 지역명은 enum 이름으로 통일)
+     * - 정렬/페이지는 개수와 무관하므로 제외
+     */
+    private String searchCountKey(ProductSearchDto search) {
+        String keyword = search.keyword() != null
+                ? search.keyword().trim().replaceAll("\\s+", " ").toLowerCase() : "";
+        String categories = search.category() != null
+                ? Arrays.stream(search.category()).filter(Objects::nonNull).distinct().sorted()
+                        .map(String::valueOf).reduce((a, b) -> a + "," + b).orElse("") : "";
+        String locations = search.location() != null
+                ? Arrays.stream(search.location()).filter(Objects::nonNull).map(this::normalizeLocation)
+                        .distinct().sorted().reduce((a, b) -> a + "," + b).orElse("") : "";
+
+        return "search|k=" + keyword + "|c=" + categories + "|l=" + locations +
+                "|d=" + search.isDelivery() + "|s=" + search.status();
+    }
+
+    private String normalizeLocation(String location) {
+        try {
+            return Location.fromName(location.trim()).name();
+        } catch (Exception e) {
+            return location.trim();
+        }
     }
 
     /**
@@ -90,7 +186,7 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
     private void applyFilters(BooleanBuilder builder, ProductSearchDto search) {
         // 키워드 검색 (상품명에 포함)
         if (search.keyword() != null) {
-            builder.and(product.productName.containsIgnoreCase(search.keyword()));
+            builder.and(keywordCondition(search.keyword()));
         }
 
         // 카테고리 필터 (복수 선택 가능, OR 조건)
@@ -103,21 +199,7 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
 
         // 지역 필터 (복수 선택 가능, OR 조건)
         if (search.location() != null && search.location().length > 0) {
-            BooleanBuilder locationBuilder = new BooleanBuilder();
-
-            for (String location : search.location()) {
-                try {
-                    Location locationEnum = Location.fromName(location);
-                    locationBuilder.or(
-                            product.location.contains(locationEnum.getDisplayName())
-                            .or(product.location.contains(locationEnum.getShortName()))
-                    );
-                } catch (Exception e) {
-                    locationBuilder.or(product.location.contains(location));
-                }
-            }
-
-            builder.and(locationBuilder);
+            builder.and(locationCondition(search.location()));
         }
 
         // 배송 가능 여부 필터
@@ -132,6 +214,52 @@ public class ProductRepositoryImpl implements ProductRepositoryCustom {
         }
     }
 
+    /**
+     * 키워드 조건
+     * - FULLTEXT 사용 시 MATCH ... AGAINST (ngram 구문 검색)
+     * - 그 외 또는 토큰 크기보다 짧은 단어가 있으면 LIKE '%keyword%'
+     */
+    private Predicate keywordCondition(String keyword) {
+        if (fullTextEnabled) {
+            String query = FullTextExpressions.phrases(List.of(keyword));
+            if (query != null) {
+                return FullTextExpressions.match(product.productName, query);
+            }
+        }
+        return product.productName.containsIgnoreCase(keyword);
+    }
+
+    /**
+     * 지역 조건 (선택한 지역 중 하나라도 포함)
+     * - 지역명이면 정식 명칭/약칭 모두 검색, 그 외 입력값은 그대로 검색
+     * - FULLTEXT 사용 시 모든 검색어를 하나의 MATCH 로 묶어서 OR 검색
+     */
+    private Predicate locationCondition(String[] locations) {
+        List<String> terms = new ArrayList<>();
+        for (String location : locations) {
+            try {
+                Location locationEnum = Location.fromName(location);
+                terms.add(locationEnum.getDisplayName());
+                terms.add(locationEnum.getShortName());
+            } catch (Exception e) {
+                terms.add(location);
+            }
+        }
+
+        if (fullTextEnabled) {
+            String query = FullTextExpressions.phrases(terms);
+            if (query != null) {
+                return FullTextExpressions.match(product.location, query);
+            }
+        }
+
+        BooleanBuilder locationBuilder = new BooleanBuilder();
+        for (String term : terms) {
+            locationBuilder.or(product.location.contains(term));
+        }
+        return locationBuilder;
+    }
+
     /**
      * 상품 조회 쿼리 생성
      * - 기본 select, from, where 절 구성
@@ -1,6 +1,7 @@
 package com.backend.domain.product.service;
 
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.product.cache.ProductDetailCache;
 import com.backend.domain.product.dto.ProductSearchDto;
 import com.backend.domain.product.dto.request.ProductCreateRequest;
 import com.backend.domain.product.dto.request.ProductModifyRequest;
@@ -13,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -27,6 +29,7 @@ public class KakaoProductService implements ProductService {
     private final ProductImageService productImageService;
     private final ProductRepository productRepository;
     private final ProductSyncService productSyncService;
+    private final ProductDetailCache productDetailCache;
 
     // ======================================= create methods ======================================= //
     @Override
@@ -82,6 +85,24 @@ public class KakaoProductService implements ProductService {
         return productRepository.findByMemberPaged(pageable, actor.getId(), SaleStatus.fromSaleStatus(status));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Product> findBySearchSliced(
+            int page, int size, ProductSearchSortType sort, ProductSearchDto search
+    ) {
+        Pageable pageable = getPageable(page, size, sort);
+        return productRepository.findBySearchSliced(pageable, search);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Product> findByMemberSliced(
+            int page, int size, ProductSearchSortType sort, Member actor, SaleStatus status
+    ) {
+        Pageable pageable = getPageable(page, size, sort);
+        return productRepository.findByMemberSliced(pageable, actor.getId(), SaleStatus.fromSaleStatus(status));
+    }
+
     /**
      * Pageable 객체 생성 및 검증
      * - page: 1 이상 (기본값: 1)
@@ -115,6 +136,9 @@ public class KakaoProductService implements ProductService {
         // Elasticsearch 동기화
         productSyncService.syncProductUpdate(product);
 
+        // 상세 캐시 제거
+        productDetailCache.evict(product.getId());
+
         return product;
     }
 
@@ -132,6 +156,9 @@ public class KakaoProductService implements ProductService {
 
         // Elasticsearch 동기화
         productSyncService.syncProductDeletion(product.getId());
+
+        // 상세 캐시 제거
+        productDetailCache.evict(product.getId());
     }
 
     // ======================================= validation methods ======================================= //
@@ -0,0 +1,267 @@
+package com.backend.domain.product.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.backend.domain.product.repository.elasticsearch.ProductIndexManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Elasticsearch 부분 업데이트 버퍼
+ * - 가격/상태/입찰자 수 변경을 상품별로 모아서(필드별 마지막 값 유지) 한 번의 _bulk 요청으로 전송
+ * - flush 조건: flush-interval-ms 주기 또는 대기 상품 수가 batch-size 이상
+ * - 대기 상품 수가 max-pending 이상이면 호출한 스레드에서 직접 flush (backpressure)
+ * - 실패한 문서는 다시 버퍼에 넣어 재시도, max-retries 초과 시 버림
+ *   필드마다 등록 순번을 붙여 두고, 실패한 값보다 나중에 등록된 값이 있으면(대기 중이든 이미 전송됐든) 실패한 값은 버림
+ *   문서가 없는 경우(404)는 재시도하지 않음
+ */
+@Slf4j
+@Component
+public class ProductIndexUpdateBuffer {
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final int batchSize;
+    private final int maxPending;
+    private final int maxRetries;
+
+    // productId → 변경 필드 (필드별 마지막 값)
+    private final Map<Long, Map<String, FieldUpdate>> pending = new ConcurrentHashMap<>();
+    // productId → 필드별 마지막 등록 순번 (전송 성공/버림 시 제거)
+    private final Map<Long, Map<String, Long>> latestSequences = new ConcurrentHashMap<>();
+    private final AtomicLong sequences = new AtomicLong();
+    private final Map<Long, Integer> retryCounts = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean earlyFlushScheduled = new AtomicBoolean(false);
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "es-update-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter flushedDocuments;
+    private final Counter retriedDocuments;
+    private final Counter droppedDocuments;
+
+    public ProductIndexUpdateBuffer(ElasticsearchClient elasticsearchClient,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${search.update-buffer.batch-size:500}") int batchSize,
+                                    @Value("${search.update-buffer.max-pending:10000}") int maxPending,
+                                    @Value("${search.update-buffer.max-retries:5}") int maxRetries) {
+        this.elasticsearchClient = elasticsearchClient;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.maxRetries = maxRetries;
+        this.flushedDocuments = Counter.builder("search.update.buffer.documents").tag("result", "flushed").register(meterRegistry);
+        this.retriedDocuments = Counter.builder("search.update.buffer.documents").tag("result", "retried").register(meterRegistry);
+        this.droppedDocuments = Counter.builder("search.update.buffer.documents").tag("result", "dropped").register(meterRegistry);
+        Gauge.builder("search.update.buffer.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 필드 변경 등록 (같은 상품의 같은 필드는 마지막 값만 전송)
+     *
+     * @param productId 상품 ID
+     * @param field 문서 필드명 (currentPrice, status, bidderCount)
+     * @param value 변경된 값
+     */
+    public void submit(Long productId, String field, Object value) {
+        pending.compute(productId, (id, fields) -> {
+            long sequence = sequences.incrementAndGet();
+            latestSequences.compute(id, (key, latest) -> {
+                Map<String, Long> updated = latest != null ? latest : new ConcurrentHashMap<>();
+                updated.put(field, sequence);
+                return updated;
+            });
+            Map<String, FieldUpdate> merged = fields != null ? fields : new HashMap<>();
+            merged.put(field, new FieldUpdate(value, sequence));
+            return merged;
+        });
+
+        int size = pending.size();
+        if (size >= maxPending) {
+            // 버퍼가 가득 차면 호출 스레드가 직접 비움
+            flush();
+        } else if (size >= batchSize && earlyFlushScheduled.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                earlyFlushScheduled.set(false);
+                flush();
+            });
+        }
+    }
+
+    // 주기적으로 대기 중인 변경을 모두 전송
+    @Scheduled(fixedDelayString = "${search.update-buffer.flush-interval-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        flushPending();
+    }
+
+    /**
+     * 대기 중인 변경을 지금 모두 전송 (진행 중인 flush 가 있으면 끝날 때까지 기다린 뒤 남은 변경까지 전송)
+     * - 아웃박스 컨슈머가 오프셋을 올리기 전에 ES 반영을 확인하는 용도
+     *
+     * @return 실패 없이 모두 반영됐으면 true (실패한 변경은 버퍼에 남아 재시도)
+     */
+    public boolean flushNow() {
+        return flushPending();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        flush();
+    }
+
+    // ======================================= helper methods ======================================= //
+    private boolean flushPending() {
+        flushLock.lock();
+        // 실패한 변경은 이번 flush 가 끝난 뒤 다시 넣어 다음 주기에 재시도
+        Map<Long, Map<String, FieldUpdate>> failed = new HashMap<>();
+        try {
+            while (!pending.isEmpty()) {
+                Map<Long, Map<String, FieldUpdate>> batch = drain();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                send(batch, failed);
+            }
+        } finally {
+            // 락을 풀기 전에 되돌려 놓아야 다음 flushNow 가 실패분까지 전송
+            failed.forEach(this::requeue);
+            flushLock.unlock();
+        }
+        return failed.isEmpty();
+    }
+
+    private Map<Long, Map<String, FieldUpdate>> drain() {
+        Map<Long, Map<String, FieldUpdate>> batch = new LinkedHashMap<>();
+        Iterator<Long> iterator = pending.keySet().iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            Long productId = iterator.next();
+            Map<String, FieldUpdate> fields = pending.remove(productId);
+            if (fields != null) {
+                batch.put(productId, fields);
+            }
+        }
+        return batch;
+    }
+
+    private void send(Map<Long, Map<String, FieldUpdate>> batch, Map<Long, Map<String, FieldUpdate>> failed) {
+        BulkRequest.Builder request = new BulkRequest.Builder().index(ProductIndexManager.ALIAS);
+        batch.forEach((productId, fields) -> request.operations(op -> op
+                .update(u -> u
+                        .id(String.valueOf(productId))
+                        .action(a -> a.doc(toDoc(fields)))
+                )
+        ));
+
+        BulkResponse response;
+        try {
+            response = elasticsearchClient.bulk(request.build());
+        } catch (Exception e) {
+            log.warn("Elasticsearch 부분 업데이트 bulk 요청 실패: {}건", batch.size(), e);
+            failed.putAll(batch);
+            return;
+        }
+
+        List<Long> succeeded = new ArrayList<>(batch.keySet());
+        for (BulkResponseItem item : response.items()) {
+            if (item.error() == null || item.id() == null) {
+                continue;
+            }
+            Long productId = Long.valueOf(item.id());
+            succeeded.remove(productId);
+            if (item.status() == 404) {
+                // 색인되지 않은 상품 (재인덱싱/정합성 점검에서 반영)
+                log.debug("부분 업데이트 대상 문서 없음: {}", productId);
+                retryCounts.remove(productId);
+                forget(productId, batch.get(productId));
+                droppedDocuments.increment();
+                continue;
+            }
+            log.warn("상품 {} 부분 업데이트 실패: {} ({})", productId, item.error().type(), item.error().reason());
+            failed.put(productId, batch.get(productId));
+        }
+
+        succeeded.forEach(productId -> {
+            retryCounts.remove(productId);
+            forget(productId, batch.get(productId));
+        });
+        flushedDocuments.increment(succeeded.size());
+    }
+
+    // 실패한 변경을 다시 버퍼에 넣음 (실패한 값 이후에 등록된 필드는 제외)
+    private void requeue(Long productId, Map<String, FieldUpdate> fields) {
+        pending.compute(productId, (id, newer) -> {
+            Map<String, Long> latest = latestSequences.getOrDefault(id, Map.of());
+            Map<String, FieldUpdate> merged = new HashMap<>();
+            fields.forEach((field, update) -> {
+                // 같은 필드에 더 나중 값이 등록됐으면 (대기 중이든 이미 전송됐든) 실패한 값은 버림
+                if (Long.valueOf(update.sequence()).equals(latest.get(field))) {
+                    merged.put(field, update);
+                }
+            });
+            if (merged.isEmpty()) {
+                log.debug("상품 {} 부분 업데이트 실패분이 새 값으로 대체됨", id);
+                retryCounts.remove(id);
+                return newer;
+            }
+
+            int attempts = retryCounts.merge(id, 1, Integer::sum);
+            if (attempts > maxRetries) {
+                log.error("상품 {} 부분 업데이트 재시도 초과 - 버림: {}", id, toDoc(merged));
+                retryCounts.remove(id);
+                forget(id, merged);
+                droppedDocuments.increment();
+                return newer;
+            }
+
+            if (newer != null) {
+                newer.forEach((field, update) -> merged.merge(field, update,
+                        (failed, pendingUpdate) -> pendingUpdate.sequence() > failed.sequence() ? pendingUpdate : failed));
+            }
+            retriedDocuments.increment();
+            return merged;
+        });
+    }
+
+    // 전송이 끝난(성공/버림) 필드의 순번 기록 제거 (그 사이 새 값이 등록됐으면 유지)
+    private void forget(Long productId, Map<String, FieldUpdate> fields) {
+        latestSequences.computeIfPresent(productId, (id, latest) -> {
+            fields.forEach((field, update) -> latest.remove(field, update.sequence()));
+            return latest.isEmpty() ? null : latest;
+        });
+    }
+
+    private Map<String, Object> toDoc(Map<String, FieldUpdate> fields) {
+        Map<String, Object> doc = new HashMap<>();
+        fields.forEach((field, update) -> doc.put(field, update.value()));
+        return doc;
+    }
+
+    private record FieldUpdate(Object value, long sequence) {
+    }
+}
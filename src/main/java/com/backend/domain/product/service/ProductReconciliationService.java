@@ -0,0 +1,366 @@
+package com.backend.domain.product.service;
+
+import com.backend.domain.product.document.ProductDocument;
+import com.backend.domain.product.dto.ProductSyncSnapshot;
+import com.backend.domain.product.dto.response.ReconcileResponse;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.repository.elasticsearch.ProductIndexManager;
+import com.backend.domain.product.repository.jpa.ProductRepository;
+import com.backend.domain.review.dto.MemberReviewCountDto;
+import com.backend.domain.review.repository.ReviewRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Criteria;
+import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * MySQL ↔ Elasticsearch 정합성 검사/복구
+ * - 키셋 청크 단위로 DB 스냅샷(productId, currentPrice, status, bidderCount, modifyDate)을 읽고
+ *   같은 범위의 ES 문서를 비교 대상 필드만 가져와 비교
+ * - 값이 다르거나 문서가 없는 상품만 DB 기준으로 다시 색인 (_bulk)
+ * - 전체 검사는 id 범위로 조회하므로 DB 에 없는 ES 문서(orphan)도 찾아서 삭제
+ * - 증분 검사는 (modifyDate, id) 키셋으로 최근 수정된 상품만 검사
+ * - 최근 grace-seconds 안에 수정된 상품은 버퍼링된 부분 업데이트가 아직 반영 전일 수 있으므로 비교하지 않음
+ */
+@Slf4j
+@Service
+public class ProductReconciliationService {
+
+    private static final String[] COMPARED_FIELDS = {"productId", "currentPrice", "status", "bidderCount"};
+
+    // 한 청크 범위 안에서 가져올 ES 문서 상한 (index.max_result_window 기본값)
+    private static final int MAX_RESULT_WINDOW = 10000;
+
+    private final ProductRepository productRepository;
+    private final ReviewRepository reviewRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int chunkSize;
+    private final long graceSeconds;
+    private final boolean repairEnabled;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private final MeterRegistry meterRegistry;
+    private final Counter checkedDocuments;
+    private final Counter repairedDocuments;
+    private final Counter repairFailedDocuments;
+    private final Counter deletedOrphans;
+    private final AtomicLong lastDrift = new AtomicLong();
+
+    public ProductReconciliationService(ProductRepository productRepository,
+                                        ReviewRepository reviewRepository,
+                                        ElasticsearchOperations elasticsearchOperations,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${search.reconcile.chunk-size:1000}") int chunkSize,
+                                        @Value("${search.reconcile.grace-seconds:30}") long graceSeconds,
+                                        @Value("${search.reconcile.repair:true}") boolean repairEnabled) {
+        this.productRepository = productRepository;
+        this.reviewRepository = reviewRepository;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.graceSeconds = graceSeconds;
+        this.repairEnabled = repairEnabled;
+        this.meterRegistry = meterRegistry;
+        this.checkedDocuments = Counter.builder("search.reconcile.documents").tag("result", "checked").register(meterRegistry);
+        this.repairedDocuments = Counter.builder("search.reconcile.documents").tag("result", "repaired").register(meterRegistry);
+        this.repairFailedDocuments = Counter.builder("search.reconcile.documents").tag("result", "repair_failed").register(meterRegistry);
+        this.deletedOrphans = Counter.builder("search.reconcile.documents").tag("result", "orphan_deleted").register(meterRegistry);
+        Gauge.builder("search.reconcile.last.drift", lastDrift, AtomicLong::get).register(meterRegistry);
+    }
+
+    /**
+     * 전체 검사 (id 키셋, orphan 문서 삭제 포함)
+     */
+    public ReconcileResponse reconcileAll() {
+        return runExclusively(() -> reconcile(null));
+    }
+
+    /**
+     * 증분 검사 (since 이후 수정된 상품만)
+     *
+     * @param since 검사 시작 수정 시각 (이 시각 이상)
+     */
+    public ReconcileResponse reconcileModifiedSince(LocalDateTime since) {
+        return runExclusively(() -> reconcile(since));
+    }
+
+    // ======================================= helper methods ======================================= //
+    private ReconcileResponse runExclusively(Supplier<ReconcileResponse> task) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 상품 정합성 검사가 진행 중입니다.");
+        }
+        try {
+            return task.get();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ReconcileResponse reconcile(LocalDateTime since) {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime checkedUntil = LocalDateTime.now().minusSeconds(graceSeconds);
+        boolean incremental = since != null;
+        Tally tally = new Tally();
+
+        long lastId = 0L;
+        LocalDateTime lastModifyDate = since;
+        while (true) {
+            List<ProductSyncSnapshot> snapshots = incremental
+                    ? productRepository.findModifiedSnapshotsAfter(lastModifyDate, lastId, PageRequest.ofSize(chunkSize))
+                    : productRepository.findSnapshotsAfter(lastId, PageRequest.ofSize(chunkSize));
+            boolean lastChunk = snapshots.size() < chunkSize;
+
+            if (incremental) {
+                // 수정 시각 순으로 읽으므로 기준 시각 이후 상품이 나오면 이후 청크도 모두 비교 대상이 아님
+                List<ProductSyncSnapshot> settled = snapshots.stream()
+                        .filter(snapshot -> !isUnsettled(snapshot, checkedUntil))
+                        .toList();
+                lastChunk |= settled.size() < snapshots.size();
+                compareChunk(settled, fetchByIds(settled), false, checkedUntil, tally);
+            } else {
+                Long upperId = lastChunk ? null : snapshots.get(snapshots.size() - 1).productId();
+                compareChunk(snapshots, fetchByIdRange(lastId, upperId), true, checkedUntil, tally);
+            }
+
+            if (lastChunk) {
+                break;
+            }
+            ProductSyncSnapshot last = snapshots.get(snapshots.size() - 1);
+            lastId = last.productId();
+            lastModifyDate = last.modifyDate();
+        }
+
+        lastDrift.set(tally.drifted);
+        long elapsed = System.currentTimeMillis() - startedAt;
+        if (tally.drifted > 0 || tally.orphans > 0) {
+            log.warn("상품 정합성 검사 ({}): 검사 {}건, 불일치 {}건 (누락 {}, 가격 {}, 상태 {}, 입찰자 수 {}), 복구 {}건, orphan {}건, {}ms",
+                    incremental ? "증분" : "전체", tally.checked, tally.drifted, tally.missing, tally.price,
+                    tally.status, tally.bidderCount, tally.repaired, tally.orphans, elapsed);
+        } else {
+            log.info("상품 정합성 검사 ({}): 검사 {}건, 불일치 없음, {}ms", incremental ? "증분" : "전체", tally.checked, elapsed);
+        }
+        return new ReconcileResponse(tally.checked, tally.drifted, tally.repaired, tally.orphans, elapsed, checkedUntil);
+    }
+
+    private void compareChunk(List<ProductSyncSnapshot> snapshots, EsChunk esChunk, boolean detectOrphans,
+                              LocalDateTime checkedUntil, Tally tally) {
+        Map<Long, ProductDocument> documents = esChunk.documents();
+        List<Long> drifted = new ArrayList<>();
+
+        for (ProductSyncSnapshot snapshot : snapshots) {
+            ProductDocument document = documents.remove(snapshot.productId());
+            // 전체 검사에서는 기준 시각 이후 수정된 상품을 비교하지 않음 (orphan 으로도 보지 않음)
+            if (isUnsettled(snapshot, checkedUntil)) {
+                continue;
+            }
+            tally.checked++;
+            checkedDocuments.increment();
+            if (diff(snapshot, document, tally)) {
+                drifted.add(snapshot.productId());
+            }
+        }
+
+        if (!drifted.isEmpty()) {
+            tally.drifted += drifted.size();
+            if (repairEnabled) {
+                tally.repaired += repair(drifted);
+            }
+        }
+
+        // 잘린 결과에서는 범위 안 문서를 다 보지 못했으므로 orphan 판단 보류
+        if (detectOrphans && !esChunk.truncated() && !documents.isEmpty()) {
+            // 스냅샷 조회 이후 새로 등록된 상품일 수 있으므로 DB 에 다시 확인
+            List<Long> candidates = new ArrayList<>(documents.keySet());
+            candidates.removeAll(productRepository.findIdsByIdIn(candidates));
+            tally.orphans += candidates.size();
+            deleteOrphans(candidates);
+        }
+    }
+
+    // 필드별로 불일치 유형 집계, 하나라도 다르면 true
+    private boolean diff(ProductSyncSnapshot snapshot, ProductDocument document, Tally tally) {
+        if (document == null) {
+            tally.missing++;
+            drift("missing");
+            return true;
+        }
+
+        boolean drifted = false;
+        if (!Objects.equals(snapshot.currentPrice(), document.getCurrentPrice())) {
+            tally.price++;
+            drift("price");
+            drifted = true;
+        }
+        if (!Objects.equals(snapshot.status(), document.getStatus())) {
+            tally.status++;
+            drift("status");
+            drifted = true;
+        }
+        if (!Objects.equals(snapshot.bidderCount(), document.getBidderCount())) {
+            tally.bidderCount++;
+            drift("bidder_count");
+            drifted = true;
+        }
+        return drifted;
+    }
+
+    private void drift(String type) {
+        meterRegistry.counter("search.reconcile.drift", "type", type).increment();
+    }
+
+    private boolean isUnsettled(ProductSyncSnapshot snapshot, LocalDateTime checkedUntil) {
+        return snapshot.modifyDate() != null && snapshot.modifyDate().isAfter(checkedUntil);
+    }
+
+    private record EsChunk(Map<Long, ProductDocument> documents, boolean truncated) {
+    }
+
+    // (lastId, upperId] 범위의 ES 문서 (upperId 가 null 이면 끝까지) - DB 에 없는 문서까지 함께 조회
+    private EsChunk fetchByIdRange(long lastId, Long upperId) {
+        Criteria criteria = new Criteria("productId").greaterThan(lastId);
+        if (upperId != null) {
+            criteria = criteria.lessThanEqual(upperId);
+        }
+        return fetch(criteria, Math.min(MAX_RESULT_WINDOW, chunkSize * 2));
+    }
+
+    private EsChunk fetchByIds(List<ProductSyncSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return new EsChunk(new HashMap<>(), false);
+        }
+        List<Long> ids = snapshots.stream().map(ProductSyncSnapshot::productId).toList();
+        return fetch(new Criteria("productId").in(ids), ids.size());
+    }
+
+    private EsChunk fetch(Criteria criteria, int maxResults) {
+        CriteriaQuery query = new CriteriaQuery(criteria, PageRequest.of(0, maxResults, Sort.by("productId")));
+        query.addSourceFilter(new FetchSourceFilterBuilder().withIncludes(COMPARED_FIELDS).build());
+
+        SearchHits<ProductDocument> hits = elasticsearchOperations.search(
+                query, ProductDocument.class, IndexCoordinates.of(ProductIndexManager.ALIAS));
+        Map<Long, ProductDocument> documents = new HashMap<>();
+        for (SearchHit<ProductDocument> hit : hits.getSearchHits()) {
+            ProductDocument document = hit.getContent();
+            documents.put(document.getProductId(), document);
+        }
+        boolean truncated = hits.getTotalHits() > documents.size();
+        if (truncated) {
+            log.warn("정합성 검사 ES 조회 결과가 잘렸습니다 ({} / {}건) - orphan 판단 보류", documents.size(), hits.getTotalHits());
+        }
+        return new EsChunk(documents, truncated);
+    }
+
+    // 불일치 상품을 DB 기준 전체 문서로 다시 색인
+    private long repair(List<Long> productIds) {
+        List<IndexQuery> queries = readOnlyTransaction.execute(status -> {
+            List<Product> products = productRepository.findAllWithSellerByIdIn(productIds);
+            Map<Long, Integer> reviewCounts = sellerReviewCounts(products);
+            List<IndexQuery> result = new ArrayList<>(productIds.size());
+            for (Product product : products) {
+                ProductDocument document = ProductDocument.fromEntity(product,
+                        reviewCounts.getOrDefault(product.getSeller().getId(), 0));
+                result.add(new IndexQueryBuilder()
+                        .withId(document.getId())
+                        .withObject(document)
+                        .build());
+            }
+            return result;
+        });
+        if (queries == null || queries.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of(ProductIndexManager.ALIAS));
+            repairedDocuments.increment(queries.size());
+            return queries.size();
+        } catch (BulkFailureException e) {
+            int failed = e.getFailedDocuments().size();
+            log.error("정합성 복구 bulk 일부 실패: {}건 (예: {})", failed, e.getFailedDocuments().keySet().stream().limit(5).toList());
+            repairedDocuments.increment(queries.size() - failed);
+            repairFailedDocuments.increment(failed);
+            return queries.size() - failed;
+        } catch (Exception e) {
+            log.error("정합성 복구 bulk 요청 실패: {}건", queries.size(), e);
+            repairFailedDocuments.increment(queries.size());
+            return 0;
+        }
+    }
+
+    // 판매자별 리뷰 수 (복구 대상 상품 단위로 한 번에 집계)
+    private Map<Long, Integer> sellerReviewCounts(List<Product> products) {
+        Set<Long> sellerIds = products.stream()
+                .map(product -> product.getSeller().getId())
+                .collect(Collectors.toSet());
+        if (sellerIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return reviewRepository.countByReviewerIds(sellerIds).stream()
+                .collect(Collectors.toMap(
+                        MemberReviewCountDto::getMemberId,
+                        count -> count.getReviewCount().intValue()
+                ));
+    }
+
+    // DB 에 없는 상품 문서 삭제 (삭제 이벤트 유실 등)
+    private void deleteOrphans(Iterable<Long> productIds) {
+        for (Long productId : productIds) {
+            drift("orphan");
+            if (!repairEnabled) {
+                continue;
+            }
+            try {
+                elasticsearchOperations.delete(String.valueOf(productId), IndexCoordinates.of(ProductIndexManager.ALIAS));
+                deletedOrphans.increment();
+            } catch (Exception e) {
+                log.error("orphan 문서 삭제 실패: {}", productId, e);
+            }
+        }
+    }
+
+    /**
+     * 한 번의 검사 결과 집계
+     */
+    private static class Tally {
+        private long checked;
+        private long drifted;
+        private long missing;
+        private long price;
+        private long status;
+        private long bidderCount;
+        private long repaired;
+        private long orphans;
+    }
+}
@@ -0,0 +1,444 @@
+package com.backend.domain.product.service;
+
+import com.backend.domain.product.document.ProductDocument;
+import com.backend.domain.product.dto.response.ReindexResponse;
+import com.backend.domain.product.dto.response.ReindexStatusResponse;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.repository.elasticsearch.ProductIndexManager;
+import com.backend.domain.product.repository.jpa.ProductRepository;
+import com.backend.domain.review.dto.MemberReviewCountDto;
+import com.backend.domain.review.repository.ReviewRepository;
+import com.backend.global.exception.ServiceException;
+import com.backend.global.response.RsStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 전체 재인덱싱 (무중단)
+ * - MySQL 은 id 키셋으로 청크 단위 조회 (offset 페이지네이션 없음, 청크마다 짧은 읽기 전용 트랜잭션)
+ * - 청크마다 _bulk 요청, 최대 concurrency 개까지 동시에 전송
+ * - 새 버전 인덱스에 채운 뒤 alias 교체 → 빌드 중에도 기존 인덱스로 검색 서비스
+ * - 빌드 중 수정된 상품은 교체 직전에 한 번 더 반영 (modifyDate 기준)
+ *   교체 직전 따라잡기 이후 ~ 교체 사이의 수정분은 교체 후 한 번 더 반영 (이후 쓰기는 alias 로 새 인덱스에 바로 반영)
+ * - 빌드 중 판매자 정보가 바뀐 판매자는 Redis 에 기록해 두었다가 교체 후 그 판매자의 상품을 새 인덱스에 다시 색인
+ * - 빌드 중 삭제된 상품은 Redis 에 기록해 두었다가 교체 후 새 인덱스에서도 삭제 (다른 노드에서 삭제된 경우 포함)
+ * - API 요청은 백그라운드로 실행하고 바로 응답 (진행 상태는 status 로 조회)
+ * - 실패 비율이 max-failure-ratio 를 넘으면 교체하지 않고 빌드 인덱스 삭제
+ */
+@Slf4j
+@Service
+public class ProductReindexService {
+
+    private static final String BUILDING_KEY = "search:reindex:building";
+    private static final String DELETED_KEY = "search:reindex:deleted";
+    private static final String SELLERS_KEY = "search:reindex:sellers";
+    // 빌드가 비정상 종료돼도 삭제 기록이 계속 쌓이지 않도록
+    private static final Duration BUILDING_TTL = Duration.ofHours(6);
+
+    private final ProductRepository productRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductIndexManager productIndexManager;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int bulkSize;
+    private final int concurrency;
+    private final String refreshInterval;
+    private final String replicas;
+    private final double maxFailureRatio;
+    private final boolean deleteOldIndex;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicReference<ReindexResponse> lastResult = new AtomicReference<>();
+    private volatile LocalDateTime lastStartedAt;
+    private final ExecutorService reindexExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-reindex");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProductReindexService(ProductRepository productRepository,
+                                 ReviewRepository reviewRepository,
+                                 ProductIndexManager productIndexManager,
+                                 ElasticsearchOperations elasticsearchOperations,
+                                 StringRedisTemplate redisTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${search.reindex.bulk-size:1000}") int bulkSize,
+                                 @Value("${search.reindex.concurrency:4}") int concurrency,
+                                 @Value("${search.reindex.refresh-interval:1s}") String refreshInterval,
+                                 @Value("${search.reindex.replicas:1}") String replicas,
+                                 @Value("${search.reindex.max-failure-ratio:0.01}") double maxFailureRatio,
+                                 @Value("${search.reindex.delete-old-index:true}") boolean deleteOldIndex) {
+        this.productRepository = productRepository;
+        this.reviewRepository = reviewRepository;
+        this.productIndexManager = productIndexManager;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.bulkSize = bulkSize;
+        this.concurrency = concurrency;
+        this.refreshInterval = refreshInterval;
+        this.replicas = replicas;
+        this.maxFailureRatio = maxFailureRatio;
+        this.deleteOldIndex = deleteOldIndex;
+    }
+
+    /**
+     * 전체 상품 재인덱싱
+     * - 동시에 하나만 실행 (이미 실행 중이면 예외)
+     *
+     * @return 인덱스 이름, 처리 건수, 소요 시간, alias 교체 여부
+     */
+    public ReindexResponse reindexAll() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("이미 상품 재인덱싱이 진행 중입니다.");
+        }
+        try {
+            lastStartedAt = LocalDateTime.now();
+            ReindexResponse response = rebuild();
+            lastResult.set(response);
+            return response;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 전체 상품 재인덱싱을 백그라운드로 시작
+     * - 수 분 이상 걸릴 수 있으므로 요청 스레드는 바로 반환
+     * - 이미 실행 중이면 409
+     *
+     * @return 시작 시점의 진행 상태
+     */
+    public ReindexStatusResponse startReindex() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ServiceException(RsStatus.CONFLICT.getResultCode(), "이미 상품 재인덱싱이 진행 중입니다.");
+        }
+        lastStartedAt = LocalDateTime.now();
+        try {
+            reindexExecutor.execute(() -> {
+                try {
+                    lastResult.set(rebuild());
+                } catch (Exception e) {
+                    log.error("상품 재인덱싱 실패", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+        return status();
+    }
+
+    // 진행 여부, 마지막 시작 시각, 마지막 완료 결과
+    public ReindexStatusResponse status() {
+        return new ReindexStatusResponse(running.get(), lastStartedAt, lastResult.get());
+    }
+
+    /**
+     * 빌드 중 판매자 정보 변경 기록 (판매자 필드 동기화 시 호출)
+     * - 판매자 필드 갱신은 alias(기존 인덱스)에만 반영되고 상품 modifyDate 도 바뀌지 않아 따라잡기에서 빠지므로
+     *   alias 교체 후 해당 판매자의 상품을 새 인덱스에 다시 색인
+     */
+    public void recordSellerUpdate(Long sellerId) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(BUILDING_KEY))) {
+                redisTemplate.opsForSet().add(SELLERS_KEY, String.valueOf(sellerId));
+            }
+        } catch (Exception e) {
+            log.warn("재인덱싱 중 판매자 변경 기록 실패 - 판매자: {}", sellerId, e);
+        }
+    }
+
+    /**
+     * 빌드 중 삭제된 상품 기록 (상품 삭제 동기화 시 호출)
+     * - 빌드 인덱스에는 삭제 전 상태로 들어갔을 수 있으므로 alias 교체 후 새 인덱스에서도 삭제
+     * - 재인덱싱이 다른 노드에서 진행 중일 수 있으므로 Redis 에 기록
+     */
+    public void recordDeletion(Long productId) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(BUILDING_KEY))) {
+                redisTemplate.opsForSet().add(DELETED_KEY, String.valueOf(productId));
+            }
+        } catch (Exception e) {
+            log.warn("재인덱싱 중 삭제 기록 실패 - 상품: {} (정합성 검사에서 정리)", productId, e);
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    private ReindexResponse rebuild() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime buildStartedAt = LocalDateTime.now();
+        long total = productRepository.count();
+
+        log.info("========== 상품 재인덱싱 시작 (총 {}개, bulk {}, 동시 {}) ==========", total, bulkSize, concurrency);
+        markBuilding();
+        String indexName = productIndexManager.createBuildIndex();
+        Progress progress = new Progress(total, startedAt);
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            Semaphore permits = new Semaphore(concurrency);
+            streamInto(indexName, lastId -> productRepository.findChunkAfter(lastId, PageRequest.ofSize(bulkSize)),
+                    executor, permits, progress);
+            awaitBulks(permits);
+
+            // 빌드 중 수정된 상품 따라잡기 (입찰/상태 변경 포함)
+            LocalDateTime catchUpStartedAt = LocalDateTime.now();
+            streamInto(indexName, modifiedSince(buildStartedAt), executor, permits, progress);
+            awaitBulks(permits);
+
+            long indexed = progress.indexed.get();
+            long failed = progress.failed.get();
+            long processed = indexed + failed;
+
+            if (processed > 0 && (double) failed / processed > maxFailureRatio) {
+                log.error("상품 재인덱싱 실패 비율 초과 - alias 교체 취소 (성공: {}, 실패: {})", indexed, failed);
+                productIndexManager.deleteIndices(Set.of(indexName));
+                return new ReindexResponse(indexName, total, indexed, failed, System.currentTimeMillis() - startedAt, false);
+            }
+
+            productIndexManager.finishBuild(indexName, refreshInterval, replicas);
+            Set<String> previous = productIndexManager.swapAlias(indexName);
+
+            // 따라잡기 시작 이후 ~ 교체 사이의 수정분과 빌드 중 삭제분을 새 인덱스에 반영
+            streamInto(indexName, modifiedSince(catchUpStartedAt), executor, permits, progress);
+            awaitBulks(permits);
+            replaySellerUpdates(indexName, executor, permits, progress);
+            replayDeletions(indexName);
+
+            if (deleteOldIndex) {
+                productIndexManager.deleteIndices(previous);
+            }
+
+            long elapsed = System.currentTimeMillis() - startedAt;
+            log.info("========== 상품 재인덱싱 완료: {} (성공: {}, 실패: {}, {}ms, {}건/초) ==========",
+                    indexName, progress.indexed.get(), progress.failed.get(), elapsed, progress.throughput());
+            return new ReindexResponse(indexName, total, progress.indexed.get(), progress.failed.get(), elapsed, true);
+        } finally {
+            executor.shutdown();
+            clearBuilding();
+        }
+    }
+
+    // 빌드 시작 표시 (이후 삭제되는 상품은 DELETED_KEY 에 기록됨)
+    private void markBuilding() {
+        try {
+            redisTemplate.delete(List.of(DELETED_KEY, SELLERS_KEY));
+            redisTemplate.opsForValue().set(BUILDING_KEY, "1", BUILDING_TTL);
+        } catch (Exception e) {
+            log.warn("재인덱싱 시작 표시 실패 - 빌드 중 삭제분은 정합성 검사에서 정리", e);
+        }
+    }
+
+    private void clearBuilding() {
+        try {
+            redisTemplate.delete(List.of(BUILDING_KEY, DELETED_KEY, SELLERS_KEY));
+        } catch (Exception e) {
+            log.warn("재인덱싱 종료 표시 실패", e);
+        }
+    }
+
+    // 빌드 중 판매자 정보가 바뀐 상품을 새 인덱스에 다시 색인 (판매자 필드 갱신은 상품 modifyDate 를 바꾸지 않음)
+    private void replaySellerUpdates(String indexName, ExecutorService executor, Semaphore permits, Progress progress) {
+        Set<String> sellerIds;
+        try {
+            sellerIds = redisTemplate.opsForSet().members(SELLERS_KEY);
+        } catch (Exception e) {
+            log.warn("빌드 중 판매자 변경 기록 조회 실패 - 다음 재인덱싱에서 반영", e);
+            return;
+        }
+        if (sellerIds == null || sellerIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = sellerIds.stream().map(Long::valueOf).toList();
+        streamInto(indexName, lastId -> productRepository.findSellerChunkAfter(ids, lastId, PageRequest.ofSize(bulkSize)),
+                executor, permits, progress);
+        awaitBulks(permits);
+        log.info("빌드 중 정보가 바뀐 판매자 {}명의 상품을 새 인덱스에 반영", ids.size());
+    }
+
+    // 빌드 중 삭제된 상품을 새 인덱스에서도 삭제
+    private void replayDeletions(String indexName) {
+        Set<String> deletedIds;
+        try {
+            deletedIds = redisTemplate.opsForSet().members(DELETED_KEY);
+        } catch (Exception e) {
+            log.warn("빌드 중 삭제 기록 조회 실패 - 정합성 검사에서 정리", e);
+            return;
+        }
+        if (deletedIds == null || deletedIds.isEmpty()) {
+            return;
+        }
+
+        for (String id : deletedIds) {
+            try {
+                elasticsearchOperations.delete(id, IndexCoordinates.of(indexName));
+            } catch (Exception e) {
+                log.warn("빌드 중 삭제된 상품 문서 삭제 실패: {}", id, e);
+            }
+        }
+        log.info("빌드 중 삭제된 상품 {}건을 새 인덱스에 반영", deletedIds.size());
+    }
+
+    // 키셋으로 청크를 읽어 bulk 전송 (동시 전송 수는 permits 로 제한)
+    private void streamInto(String indexName, LongFunction<List<Product>> chunkQuery,
+                            ExecutorService executor, Semaphore permits, Progress progress) {
+        long lastId = 0L;
+        while (true) {
+            Chunk chunk = readChunk(chunkQuery, lastId);
+            if (chunk.lastId() == null) {
+                return;
+            }
+            lastId = chunk.lastId();
+            progress.failed.addAndGet(chunk.conversionFailures());
+            if (chunk.documents().isEmpty()) {
+                continue;
+            }
+
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    bulkIndex(indexName, chunk.documents(), progress);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    private record Chunk(List<ProductDocument> documents, Long lastId, int conversionFailures) {
+    }
+
+    private LongFunction<List<Product>> modifiedSince(LocalDateTime since) {
+        return lastId -> productRepository.findModifiedChunkAfter(lastId, since, PageRequest.ofSize(bulkSize));
+    }
+
+    private Chunk readChunk(LongFunction<List<Product>> chunkQuery, long lastId) {
+        return readOnlyTransaction.execute(status -> {
+            List<Product> products = chunkQuery.apply(lastId);
+            if (products.isEmpty()) {
+                return new Chunk(List.of(), null, 0);
+            }
+
+            Map<Long, Integer> reviewCounts = sellerReviewCounts(products);
+            List<ProductDocument> documents = new ArrayList<>(products.size());
+            int failures = 0;
+            for (Product product : products) {
+                try {
+                    documents.add(ProductDocument.fromEntity(product,
+                            reviewCounts.getOrDefault(product.getSeller().getId(), 0)));
+                } catch (Exception e) {
+                    log.error("상품 {} 문서 변환 실패", product.getId(), e);
+                    failures++;
+                }
+            }
+            return new Chunk(documents, products.get(products.size() - 1).getId(), failures);
+        });
+    }
+
+    // 판매자별 리뷰 수 (청크 단위로 한 번에 집계)
+    private Map<Long, Integer> sellerReviewCounts(List<Product> products) {
+        Set<Long> sellerIds = products.stream()
+                .map(product -> product.getSeller().getId())
+                .collect(Collectors.toSet());
+        if (sellerIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return reviewRepository.countByReviewerIds(sellerIds).stream()
+                .collect(Collectors.toMap(
+                        MemberReviewCountDto::getMemberId,
+                        count -> count.getReviewCount().intValue()
+                ));
+    }
+
+    private void bulkIndex(String indexName, List<ProductDocument> documents, Progress progress) {
+        List<IndexQuery> queries = documents.stream()
+                .map(document -> new IndexQueryBuilder()
+                        .withId(document.getId())
+                        .withObject(document)
+                        .build())
+                .toList();
+
+        try {
+            elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of(indexName));
+            progress.record(documents.size(), 0);
+        } catch (BulkFailureException e) {
+            int failed = e.getFailedDocuments().size();
+            log.error("bulk 일부 실패: {}건 (예: {})", failed, e.getFailedDocuments().keySet().stream().limit(5).toList());
+            progress.record(documents.size() - failed, failed);
+        } catch (Exception e) {
+            log.error("bulk 요청 실패: {}건", documents.size(), e);
+            progress.record(0, documents.size());
+        }
+    }
+
+    // 진행 중인 bulk 가 모두 끝날 때까지 대기
+    private void awaitBulks(Semaphore permits) {
+        permits.acquireUninterruptibly(concurrency);
+        permits.release(concurrency);
+    }
+
+    /**
+     * 진행률/처리량 집계 (10% 단위로 로그)
+     */
+    private static class Progress {
+        private final long total;
+        private final long startedAt;
+        private final AtomicLong indexed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong lastLoggedPercent = new AtomicLong();
+
+        private Progress(long total, long startedAt) {
+            this.total = total;
+            this.startedAt = startedAt;
+        }
+
+        private void record(long indexedCount, long failedCount) {
+            long processed = indexed.addAndGet(indexedCount) + failed.addAndGet(failedCount);
+            if (total == 0) {
+                return;
+            }
+            long percent = Math.min(100, processed * 100 / total);
+            long logged = lastLoggedPercent.get();
+            if (percent / 10 > logged / 10 && lastLoggedPercent.compareAndSet(logged, percent)) {
+                log.info("재인덱싱 진행: {}% ({}/{}, 실패: {}, {}건/초)", percent, processed, total, failed.get(), throughput());
+            }
+        }
+
+        private long throughput() {
+            long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+            return (indexed.get() + failed.get()) * 1000 / elapsed;
+        }
+    }
+}
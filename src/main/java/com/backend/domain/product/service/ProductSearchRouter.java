@@ -0,0 +1,235 @@
+package com.backend.domain.product.service;
+
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import com.backend.domain.product.document.ProductDocument;
+import com.backend.domain.product.dto.ProductSearchDto;
+import com.backend.domain.product.dto.response.ProductListItemDto;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.enums.ProductSearchSortType;
+import com.backend.domain.product.mapper.ProductMapper;
+import com.backend.global.circuitbreaker.LatencyCircuitBreaker;
+import com.backend.global.exception.ServiceException;
+import com.backend.global.page.dto.PageDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 검색 라우터 (검색 단일 진입점)
+ * - 키워드 검색(관련도/형태소 분석 필요) → Elasticsearch
+ * - 키워드 없는 필터 조회 → MySQL (상태/카테고리/지역 + 정렬 인덱스로 충분)
+ * - ES 호출은 전용 스레드 풀에서 es-timeout-ms 까지만 기다리고, 실패/타임아웃/서킷 OPEN 이면 MySQL 로 대체
+ *   (요청 스레드가 ES 소켓 타임아웃 동안 묶이지 않도록)
+ * - 서킷에는 ES 장애(연결/타임아웃/5xx)만 실패로 기록하고, 요청 자체가 잘못된 4xx 는 기록하지 않음
+ * - ES from+size 한도(index.max_result_window, 10,000건)를 넘는 페이지는 ES 호출 전에 거절 (깊은 페이지는 커서 조회)
+ * - 백엔드별 지연 시간: search.backend.latency{backend, outcome}, 대체 횟수: search.router.fallback{reason}
+ */
+@Service
+@Slf4j
+public class ProductSearchRouter {
+
+    public enum Backend {
+        ES, JPA
+    }
+
+    // ES index.max_result_window 기본값
+    private static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final ProductService productService;
+    private final ProductSearchService productSearchService;
+    private final ProductMapper productMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final LatencyCircuitBreaker circuitBreaker;
+    private final ThreadPoolExecutor esExecutor;
+    private final long esTimeoutMillis;
+
+    public ProductSearchRouter(ProductService productService,
+                               ProductSearchService productSearchService,
+                               ProductMapper productMapper,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${search.router.es-timeout-ms:1000}") long esTimeoutMillis,
+                               @Value("${search.router.es-max-concurrency:20}") int esMaxConcurrency,
+                               @Value("${search.router.circuit-breaker.window-size:50}") int windowSize,
+                               @Value("${search.router.circuit-breaker.minimum-calls:20}") int minimumCalls,
+                               @Value("${search.router.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                               @Value("${search.router.circuit-breaker.slow-call-ms:500}") long slowCallMillis,
+                               @Value("${search.router.circuit-breaker.slow-call-rate-threshold:0.8}") double slowCallRateThreshold,
+                               @Value("${search.router.circuit-breaker.open-duration-ms:30000}") long openDurationMillis,
+                               @Value("${search.router.circuit-breaker.half-open-calls:5}") int halfOpenCalls) {
+        this.productService = productService;
+        this.productSearchService = productSearchService;
+        this.productMapper = productMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.esTimeoutMillis = esTimeoutMillis;
+        this.circuitBreaker = new LatencyCircuitBreaker("product-search-es", windowSize, minimumCalls,
+                failureRateThreshold, slowCallMillis, slowCallRateThreshold, openDurationMillis, halfOpenCalls);
+
+        // 큐 없이 동시 호출 수만큼만 실행 (ES 가 느려서 꽉 차면 바로 MySQL 로 대체)
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.esExecutor = new ThreadPoolExecutor(esMaxConcurrency, esMaxConcurrency, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "es-search-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.esExecutor.allowCoreThreadTimeOut(true);
+
+        Gauge.builder("search.router.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0: CLOSED, 1: OPEN, 2: HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품 목록 검색
+     * - 조건에 맞는 백엔드로 보내고, ES 를 사용할 수 없으면 MySQL 결과 반환
+     */
+    public PageDto<ProductListItemDto> search(int page, int size, ProductSearchSortType sort, ProductSearchDto search) {
+        if (route(search) == Backend.ES) {
+            validateResultWindow(page, size);
+            PageDto<ProductListItemDto> result = searchElasticsearch(page, size, sort, search);
+            if (result != null) {
+                return result;
+            }
+        }
+        return searchJpa(page, size, sort, search);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        esExecutor.shutdownNow();
+    }
+
+    // ======================================= helper methods ======================================= //
+    Backend route(ProductSearchDto search) {
+        return search.keyword() != null && !search.keyword().isBlank() ? Backend.ES : Backend.JPA;
+    }
+
+    LatencyCircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    // 대체가 필요하면 null
+    private PageDto<ProductListItemDto> searchElasticsearch(
+            int page, int size, ProductSearchSortType sort, ProductSearchDto search
+    ) {
+        if (!circuitBreaker.tryAcquire()) {
+            fallback("circuit_open");
+            return null;
+        }
+
+        long startedAt = System.nanoTime();
+        Future<Page<ProductDocument>> future = null;
+        Page<ProductDocument> documents = null;
+        String outcome = "success";
+        try {
+            future = esExecutor.submit(() -> productSearchService.searchProducts(page, size, sort, search));
+            documents = future.get(esTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            outcome = "timeout";
+            future.cancel(true);
+        } catch (RejectedExecutionException e) {
+            outcome = "rejected";
+        } catch (ExecutionException e) {
+            outcome = isClientError(e.getCause()) ? "client_error" : "error";
+            log.warn("ES 상품 검색 실패 - MySQL 로 대체: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+        } catch (InterruptedException e) {
+            outcome = "interrupted";
+            Thread.currentThread().interrupt();
+        } finally {
+            record(Backend.ES, outcome, startedAt);
+        }
+
+        if (documents == null) {
+            if ("client_error".equals(outcome)) {
+                // 요청 문제라 ES 상태와 무관 → 서킷 실패율에 넣지 않음
+                circuitBreaker.onIgnored();
+            } else {
+                circuitBreaker.onFailure();
+            }
+            fallback(outcome);
+            return null;
+        }
+
+        circuitBreaker.onSuccess(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return productMapper.toListResponseFromDocument(documents);
+    }
+
+    // 정규화 후 page * size (= from + size) 가 ES 한도를 넘으면 거절 (ProductSearchService.getPageable 과 같은 기본값)
+    private void validateResultWindow(int page, int size) {
+        long normalizedPage = page > 0 ? page : 1;
+        long normalizedSize = (size > 0 && size <= 100) ? size : 20;
+        if (normalizedPage * normalizedSize > MAX_RESULT_WINDOW) {
+            throw ServiceException.badRequest("키워드 검색은 " + MAX_RESULT_WINDOW + "건까지만 페이지로 조회할 수 있습니다. 더 보려면 커서 조회를 이용해주세요.");
+        }
+    }
+
+    // ES 가 4xx 로 응답한 경우 (잘못된 요청) - 연결 오류/타임아웃/5xx 는 false
+    private boolean isClientError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            Integer status = null;
+            if (cause instanceof ElasticsearchException esException) {
+                status = esException.status();
+            } else if (cause instanceof UncategorizedElasticsearchException uncategorized) {
+                status = uncategorized.getStatusCode();
+            }
+            if (status != null) {
+                return status >= 400 && status < 500;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    private PageDto<ProductListItemDto> searchJpa(
+            int page, int size, ProductSearchSortType sort, ProductSearchDto search
+    ) {
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            // 엔티티 → DTO 변환 중 지연 로딩이 있으므로 조회와 변환을 같은 읽기 전용 트랜잭션에서 처리
+            PageDto<ProductListItemDto> result = readOnlyTransaction.execute(status -> {
+                Page<Product> products = productService.findBySearchPaged(page, size, sort, search);
+                return productMapper.toListResponse(products);
+            });
+            outcome = "success";
+            return result;
+        } finally {
+            record(Backend.JPA, outcome, startedAt);
+        }
+    }
+
+    private void record(Backend backend, String outcome, long startedAt) {
+        Timer.builder("search.backend.latency")
+                .tag("backend", backend.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void fallback(String reason) {
+        meterRegistry.counter("search.router.fallback", "reason", reason).increment();
+    }
+}
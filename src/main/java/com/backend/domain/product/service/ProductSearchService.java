@@ -3,22 +3,29 @@ package com.backend.domain.product.service;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch.core.UpdateRequest;
 import com.backend.domain.product.document.ProductDocument;
+import com.backend.domain.product.dto.ProductSearchCursor;
 import com.backend.domain.product.dto.ProductSearchDto;
 import com.backend.domain.product.dto.response.ReloadAnalyzersResponse;
 import com.backend.domain.product.enums.ProductSearchSortType;
 import com.backend.domain.product.repository.elasticsearch.ProductElasticRepository;
+import com.backend.global.page.dto.SearchAfterPageDto;
 import com.backend.global.response.RsData;
 import com.backend.global.response.RsStatus;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -35,10 +42,22 @@ import java.util.Map;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProductSearchService {
     private final ProductElasticRepository productElasticRepository;
     private final ElasticsearchClient elasticsearchClient;
+    private final ObjectMapper objectMapper;
+    // 커서 검색 PIT 유지 시간 (다음 페이지 요청마다 연장)
+    private final long pitKeepAliveSeconds;
+
+    public ProductSearchService(ProductElasticRepository productElasticRepository,
+                                ElasticsearchClient elasticsearchClient,
+                                ObjectMapper objectMapper,
+                                @Value("${search.cursor.pit-keep-alive-seconds:60}") long pitKeepAliveSeconds) {
+        this.productElasticRepository = productElasticRepository;
+        this.elasticsearchClient = elasticsearchClient;
+        this.objectMapper = objectMapper;
+        this.pitKeepAliveSeconds = pitKeepAliveSeconds;
+    }
 
     // ======================================= search methods ======================================= //
     /**
@@ -59,6 +78,64 @@ public class ProductSearchService {
         return productElasticRepository.searchProducts(pageable, search);
     }
 
+    /**
+     * 커서(search_after) 기반 상품 검색 - 무한 스크롤용
+     * - 깊이와 상관없이 size + 1 건만 조회 (from/size 처럼 앞 페이지를 건너뛰지 않음, 10,000건 제한 없음)
+     * - 전체 개수를 세지 않음
+     * - usePointInTime 이면 첫 페이지에서 PIT 를 열어 커서에 담고, 이후 페이지는 같은 스냅샷에서 조회
+     *   (마지막 페이지에서 닫음, PIT 를 열 수 없거나 만료됐으면 PIT 없이 이어서 조회)
+     *
+     * @param size 페이지 크기 (1~100, 기본값 20)
+     * @param sort 정렬 기준 (커서와 같은 정렬이어야 함)
+     * @param search 검색 조건
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param usePointInTime 첫 페이지에서 PIT 사용 여부
+     * @return 상품 목록과 다음 페이지 커서
+     */
+    public SearchAfterPageDto<ProductDocument> searchProductsByCursor(
+            int size, ProductSearchSortType sort, ProductSearchDto search, String cursor, boolean usePointInTime
+    ) {
+        size = (size > 0 && size <= 100) ? size : 20;
+        String sortName = sort != null ? sort.name() : null;
+        Sort esSort = sort != null ? sort.toSort() : Sort.unsorted();
+        Duration keepAlive = Duration.ofSeconds(pitKeepAliveSeconds);
+
+        ProductSearchCursor previous = (cursor == null || cursor.isBlank())
+                ? null : ProductSearchCursor.decode(cursor, sortName, objectMapper);
+        List<Object> searchAfter = previous != null ? previous.searchAfter() : null;
+        String pitId = previous != null ? previous.pitId()
+                : usePointInTime ? openPointInTime(keepAlive) : null;
+
+        SearchHits<ProductDocument> searchHits;
+        try {
+            searchHits = productElasticRepository.searchProductsAfter(search, esSort, size + 1, searchAfter, pitId, keepAlive);
+        } catch (Exception e) {
+            if (pitId == null) {
+                throw e;
+            }
+            log.warn("PIT 검색 실패 (만료 가능) - PIT 없이 이어서 조회: {}", e.getMessage());
+            pitId = null;
+            searchHits = productElasticRepository.searchProductsAfter(search, esSort, size + 1, searchAfter, null, keepAlive);
+        }
+
+        List<SearchHit<ProductDocument>> rows = searchHits.getSearchHits();
+        boolean hasNext = rows.size() > size;
+        List<SearchHit<ProductDocument>> pageRows = hasNext ? rows.subList(0, size) : rows;
+        // ES 가 PIT ID 를 갱신해서 돌려줄 수 있으므로 응답 값을 우선 사용
+        String nextPitId = pitId != null && searchHits.getPointInTimeId() != null ? searchHits.getPointInTimeId() : pitId;
+
+        String nextCursor = null;
+        if (hasNext) {
+            List<Object> lastSortValues = pageRows.get(pageRows.size() - 1).getSortValues();
+            nextCursor = new ProductSearchCursor(sortName, lastSortValues, nextPitId).encode(objectMapper);
+        } else if (nextPitId != null) {
+            closePointInTime(nextPitId);
+        }
+
+        List<ProductDocument> content = pageRows.stream().map(SearchHit::getContent).toList();
+        return new SearchAfterPageDto<>(content, nextCursor, size, hasNext);
+    }
+
     /**
      * Pageable 객체 생성 및 검증
      * - page: 1 이상 (기본값: 1)
@@ -76,6 +153,25 @@ public class ProductSearchService {
         return PageRequest.of(page - 1, size, sort.toSort());
     }
 
+    // PIT 열기 (max_open_pit_context 초과 등으로 실패하면 PIT 없이 조회)
+    private String openPointInTime(Duration keepAlive) {
+        try {
+            return productElasticRepository.openPointInTime(keepAlive);
+        } catch (Exception e) {
+            log.warn("PIT 열기 실패 - PIT 없이 조회: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 마지막 페이지에서 PIT 해제 (실패해도 keep-alive 가 지나면 ES 가 정리)
+    private void closePointInTime(String pitId) {
+        try {
+            productElasticRepository.closePointInTime(pitId);
+        } catch (Exception e) {
+            log.warn("PIT 해제 실패: {}", e.getMessage());
+        }
+    }
+
     // ======================================= document methods ======================================= //
     /**
      * 상품 문서 인덱싱 (생성/전체 업데이트)
@@ -190,6 +286,19 @@ public class ProductSearchService {
         }
     }
 
+    /**
+     * 판매자 정보 부분 업데이트
+     * - 회원 정보 변경 시 해당 판매자의 모든 상품 문서에 반영
+     * - 목록 조회에서 회원 조회 없이 SellerDto 를 만들기 위한 비정규화 필드
+     *
+     * @param sellerId 판매자 ID
+     * @param sellerFields 변경할 판매자 필드 (sellerNickname, sellerProfileImageUrl, sellerCreditScore, sellerReviewCount)
+     */
+    public void updateSellerInfo(Long sellerId, Map<String, Object> sellerFields) {
+        long updated = productElasticRepository.updateSellerFields(sellerId, sellerFields);
+        log.info("Updated seller {} info on {} products", sellerId, updated);
+    }
+
     // ======================================= etc methods ======================================= //
     public RsData<ReloadAnalyzersResponse> reloadSearchAnalyzers() {
         try {
@@ -9,6 +9,7 @@ import com.backend.domain.product.enums.ProductSearchSortType;
 import com.backend.domain.product.enums.SaleStatus;
 import com.backend.domain.product.exception.ProductException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -67,6 +68,22 @@ public interface ProductService {
             int page, int size, ProductSearchSortType sort, Member actor, SaleStatus status
     );
 
+    /**
+     * 검색 조건에 따른 상품 목록 조회 (슬라이스, 전체 개수 없음)
+     * - findBySearchPaged 와 같은 조건, size + 1 건 조회로 다음 페이지 여부만 판단
+     */
+    Slice<Product> findBySearchSliced(
+            int page, int size, ProductSearchSortType sort, ProductSearchDto search
+    );
+
+    /**
+     * 특정 회원의 상품 목록 조회 (슬라이스, 전체 개수 없음)
+     * - findByMemberPaged 와 같은 조건, size + 1 건 조회로 다음 페이지 여부만 판단
+     */
+    Slice<Product> findByMemberSliced(
+            int page, int size, ProductSearchSortType sort, Member actor, SaleStatus status
+    );
+
     Optional<Product> findById(Long productId);
 
     default Product getProductById(Long productId) {
@@ -1,27 +1,33 @@
 package com.backend.domain.product.service;
 
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
 import com.backend.domain.product.document.ProductDocument;
 import com.backend.domain.product.entity.Product;
-import com.backend.domain.product.repository.jpa.ProductRepository;
+import com.backend.domain.review.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * RDB와 Elasticsearch 간 데이터 동기화 서비스
  * - 상품 생성/수정/삭제 시 Elasticsearch 인덱스 자동 업데이트
  * - 부분 업데이트를 통한 효율적인 동기화 (가격, 상태, 입찰자 수)
- * - 전체 재인덱싱 기능 제공 (초기 설정 또는 복구용)
+ * - 전체 재인덱싱 기능 제공 (초기 설정 또는 복구용, ProductReindexService 위임)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductSyncService {
-    private final ProductRepository productRepository;
     private final ProductSearchService productSearchService;
+    private final MemberRepository memberRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductReindexService productReindexService;
+    private final ProductIndexUpdateBuffer productIndexUpdateBuffer;
 
     /**
      * 상품 생성 시 Elasticsearch 동기화
@@ -32,8 +38,7 @@ public class ProductSyncService {
      */
     public void syncProductCreation(Product product) {
         try {
-            ProductDocument document = ProductDocument.fromEntity(product);
-            productSearchService.indexProduct(document);
+            productSearchService.indexProduct(toDocument(product));
         } catch (Exception e) {
             log.error("Failed to sync product creation to Elasticsearch: {}", product.getId(), e);
             // 동기화 실패 시에도 트랜잭션은 정상 진행 (Elasticsearch는 보조 저장소)
@@ -49,8 +54,7 @@ public class ProductSyncService {
      */
     public void syncProductUpdate(Product product) {
         try {
-            ProductDocument document = ProductDocument.fromEntity(product);
-            productSearchService.indexProduct(document);
+            productSearchService.indexProduct(toDocument(product));
         } catch (Exception e) {
             log.error("Failed to sync product update to Elasticsearch: {}", product.getId(), e);
         }
@@ -63,6 +67,8 @@ public class ProductSyncService {
      * @param productId 삭제된 상품 ID
      */
     public void syncProductDeletion(Long productId) {
+        // 재인덱싱 중이면 교체 후 새 인덱스에서도 삭제되도록 기록
+        productReindexService.recordDeletion(productId);
         try {
             productSearchService.deleteProduct(String.valueOf(productId));
         } catch (Exception e) {
@@ -70,104 +76,98 @@ public class ProductSyncService {
         }
     }
 
+    /**
+     * 버퍼에 쌓인 부분 업데이트를 바로 전송
+     * - ProductEventListener 가 아웃박스 오프셋을 올리기 전에 호출
+     *
+     * @return 모두 반영됐으면 true
+     */
+    public boolean flushPartialUpdates() {
+        return productIndexUpdateBuffer.flushNow();
+    }
+
     /**
      * 가격 변경 시 부분 업데이트
      * - 입찰로 인한 가격 변경 시 호출
      * - 전체 문서를 재인덱싱하지 않고 currentPrice 필드만 업데이트
-     * - 이벤트 기반으로 비동기 처리됨 (ProductEventListener에서 호출)
+     * - 버퍼에 모아 상품별로 병합 후 _bulk 로 전송 (ProductIndexUpdateBuffer, ProductEventListener에서 호출)
      *
      * @param productId 상품 ID
      * @param newPrice 변경된 가격
      */
     public void syncProductPriceUpdate(Long productId, Long newPrice) {
-        try {
-            productSearchService.updateProductPrice(productId, newPrice);
-        } catch (Exception e) {
-            log.error("Failed to sync product price update to Elasticsearch: {}", productId, e);
-        }
+        productIndexUpdateBuffer.submit(productId, "currentPrice", newPrice);
     }
 
     /**
      * 상태 변경 시 부분 업데이트
      * - 경매 상태 변경 시 호출 (경매 시작 전 -> 경매 중 -> 낙찰/유찰)
      * - 전체 문서를 재인덱싱하지 않고 status 필드만 업데이트
-     * - 이벤트 기반으로 비동기 처리됨 (ProductEventListener에서 호출)
+     * - 버퍼에 모아 상품별로 병합 후 _bulk 로 전송 (ProductIndexUpdateBuffer, ProductEventListener에서 호출)
      *
      * @param productId 상품 ID
      * @param newStatus 변경된 상태
      */
     public void syncProductStatusUpdate(Long productId, String newStatus) {
-        try {
-            productSearchService.updateProductStatus(productId, newStatus);
-        } catch (Exception e) {
-            log.error("Failed to sync product status update to Elasticsearch: {}", productId, e);
-        }
+        productIndexUpdateBuffer.submit(productId, "status", newStatus);
     }
 
     /**
      * 입찰자 수 변경 시 부분 업데이트
      * - 새로운 입찰자가 입찰 시 호출
      * - 전체 문서를 재인덱싱하지 않고 bidderCount 필드만 업데이트
-     * - 이벤트 기반으로 비동기 처리됨 (ProductEventListener에서 호출)
+     * - 버퍼에 모아 상품별로 병합 후 _bulk 로 전송 (ProductIndexUpdateBuffer, ProductEventListener에서 호출)
      *
      * @param productId 상품 ID
      * @param newBidderCount 변경된 입찰자 수
      */
     public void syncProductBidderCountUpdate(Long productId, int newBidderCount) {
-        try {
-            productSearchService.updateProductBidderCount(productId, newBidderCount);
-        } catch (Exception e) {
-            log.error("Failed to sync product bidder count update to Elasticsearch: {}", productId, e);
-        }
+        productIndexUpdateBuffer.submit(productId, "bidderCount", newBidderCount);
     }
     
     /**
-     * 전체 상품 인덱싱
-     * - RDB의 모든 상품을 Elasticsearch에 인덱싱
-     * - 초기 설정 시 사용
-     * - 배치 단위(100개)로 처리하여 메모리 효율성 확보
+     * 판매자 정보 변경 시 부분 업데이트
+     * - 회원 정보 수정, 신용 점수/리뷰 수 변경 시 호출
+     * - 해당 판매자의 모든 상품 문서의 판매자 필드만 업데이트
+     * - 아웃박스 릴레이가 전달 (SellerProfileEventListener에서 호출)
+     * - 실패 시 예외를 그대로 던져서 릴레이가 같은 이벤트를 재시도하도록 함
+     *
+     * @param memberId 판매자(회원) ID
      */
     @Transactional(readOnly = true)
-    public void indexAllProducts() {
-        log.info("========== 전체 상품 인덱싱 시작 ==========");
-
-        long totalCount = productRepository.count();
-        log.info("총 {}개 상품 인덱싱", totalCount);
-
-        if (totalCount == 0) {
-            log.warn("인덱싱할 상품이 없습니다");
-            return;
-        }
-
-        int batchSize = 100;
-        int totalPages = (int) Math.ceil((double) totalCount / batchSize);
-        int successCount = 0;
-        int failCount = 0;
+    public void syncSellerUpdate(Long memberId) {
+        // 재인덱싱 중이면 alias 교체 후 새 인덱스에도 반영하도록 기록 (아래 갱신은 기존 인덱스에만 적용)
+        productReindexService.recordSellerUpdate(memberId);
+        memberRepository.findById(memberId).ifPresent(member ->
+                productSearchService.updateSellerInfo(memberId, toSellerFields(member)));
+    }
 
-        for (int page = 0; page < totalPages; page++) {
-            Page<Product> productPage = productRepository.findAll(PageRequest.of(page, batchSize));
+    // ProductDocument.fromEntity 의 판매자 필드와 동일하게 구성 (null 값도 그대로 덮어쓰기)
+    private Map<String, Object> toSellerFields(Member member) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("sellerNickname", member.getNickname());
+        fields.put("sellerProfileImageUrl", member.getProfileImageUrl());
+        fields.put("sellerCreditScore", member.getCreditScore());
+        fields.put("sellerReviewCount", (int) reviewRepository.countByReviewerId(member.getId()));
+        return fields;
+    }
 
-            // 각 상품을 Elasticsearch에 인덱싱
-            for (Product product : productPage.getContent()) {
-                try {
-                    ProductDocument document = ProductDocument.fromEntity(product);
-                    productSearchService.indexProduct(document);
-                    successCount++;
-                } catch (Exception e) {
-                    log.error("상품 {} 인덱싱 실패", product.getId(), e);
-                    failCount++;
-                }
-            }
+    // 판매자 리뷰 수는 COUNT 쿼리로 조회 (판매자 reviews 컬렉션을 로딩하지 않음)
+    private ProductDocument toDocument(Product product) {
+        return ProductDocument.fromEntity(product, (int) reviewRepository.countByReviewerId(product.getSeller().getId()));
+    }
 
-            // 진행률 로깅 (10% 단위 또는 마지막 페이지)
-            if ((page + 1) % 10 == 0 || page == totalPages - 1) {
-                int progress = (page + 1) * 100 / totalPages;
-                log.info("진행: {}% ({}/{} 페이지, 성공: {}, 실패: {})",
-                        progress, page + 1, totalPages, successCount, failCount);
-            }
+    /**
+     * 전체 상품 인덱싱
+     * - 초기 설정 또는 복구 시 사용
+     * - 새 버전 인덱스에 bulk 로 채운 뒤 alias 교체 (ProductReindexService)
+     * - 실패해도 예외를 전파하지 않음 (기존 인덱스로 계속 서비스)
+     */
+    public void indexAllProducts() {
+        try {
+            productReindexService.reindexAll();
+        } catch (Exception e) {
+            log.error("전체 상품 인덱싱 실패", e);
         }
-
-        log.info("========== 인덱싱 완료 ==========");
-        log.info("성공: {}, 실패: {}, 총: {}", successCount, failCount, totalCount);
     }
-}
\ No newline at end of file
+}
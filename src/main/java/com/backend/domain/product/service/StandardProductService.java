@@ -1,6 +1,7 @@
 package com.backend.domain.product.service;
 
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.product.cache.ProductDetailCache;
 import com.backend.domain.product.dto.ProductSearchDto;
 import com.backend.domain.product.dto.request.ProductCreateRequest;
 import com.backend.domain.product.dto.request.ProductModifyRequest;
@@ -14,6 +15,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -29,6 +31,7 @@ public class StandardProductService implements ProductService {
     private final ProductImageService productImageService;
     private final ProductRepository productRepository;
     private final ProductSyncService productSyncService;
+    private final ProductDetailCache productDetailCache;
 
     // ======================================= create methods ======================================= //
     @Override
@@ -83,6 +86,24 @@ public class StandardProductService implements ProductService {
         return productRepository.findByMemberPaged(pageable, actor.getId(), (status != null) ? SaleStatus.fromSaleStatus(status) : null);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Product> findBySearchSliced(
+            int page, int size, ProductSearchSortType sort, ProductSearchDto search
+    ) {
+        Pageable pageable = getPageable(page, size, sort);
+        return productRepository.findBySearchSliced(pageable, search);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Product> findByMemberSliced(
+            int page, int size, ProductSearchSortType sort, Member actor, SaleStatus status
+    ) {
+        Pageable pageable = getPageable(page, size, sort);
+        return productRepository.findByMemberSliced(pageable, actor.getId(), (status != null) ? SaleStatus.fromSaleStatus(status) : null);
+    }
+
     /**
      * Pageable 객체 생성 및 검증
      * - page: 1 이상 (기본값: 1)
@@ -116,6 +137,9 @@ public class StandardProductService implements ProductService {
         // Elasticsearch 동기화
         productSyncService.syncProductUpdate(product);
 
+        // 상세 캐시 제거
+        productDetailCache.evict(product.getId());
+
         return product;
     }
 
@@ -133,6 +157,9 @@ public class StandardProductService implements ProductService {
 
         // Elasticsearch 동기화
         productSyncService.syncProductDeletion(product.getId());
+
+        // 상세 캐시 제거
+        productDetailCache.evict(product.getId());
     }
 
     // ======================================= validation methods ======================================= //
@@ -0,0 +1,6 @@
+package com.backend.domain.review.dto;
+
+public interface MemberReviewCountDto {
+    Long getMemberId();
+    Long getReviewCount();
+}
@@ -1,10 +1,25 @@
 package com.backend.domain.review.repository;
 
+import com.backend.domain.review.dto.MemberReviewCountDto;
 import com.backend.domain.review.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findAllByProductId(Long productId);
-}
\ No newline at end of file
+
+    // 회원별 작성 리뷰 수 (상품 문서 변환 시 회원마다 reviews 컬렉션을 로딩하지 않도록 한 번에 집계)
+    @Query("""
+            SELECT r.reviewer.id AS memberId, COUNT(r) AS reviewCount
+            FROM Review r
+            WHERE r.reviewer.id IN :memberIds
+            GROUP BY r.reviewer.id
+            """)
+    List<MemberReviewCountDto> countByReviewerIds(@Param("memberIds") Collection<Long> memberIds);
+
+    long countByReviewerId(Long reviewerId);
+}
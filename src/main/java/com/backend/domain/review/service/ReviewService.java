@@ -1,6 +1,7 @@
 package com.backend.domain.review.service;
 
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.event.MemberProfileChangedEvent;
 import com.backend.domain.member.repository.MemberRepository;
 import com.backend.domain.member.service.MemberService;
 import com.backend.domain.product.entity.Product;
@@ -10,6 +11,8 @@ import com.backend.domain.review.dto.ReviewResponse;
 import com.backend.domain.review.entity.Review;
 import com.backend.domain.review.exception.ReviewException;
 import com.backend.domain.review.repository.ReviewRepository;
+import com.backend.global.outbox.OutboxEventPublisher;
+import com.backend.global.outbox.enums.AggregateType;
 import com.backend.global.response.RsStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,7 @@ public class ReviewService {
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
     private final MemberService memberService;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     public ReviewResponse createReview(Long memberId, ReviewRequest request) {
         Member member = memberRepository.findById(memberId)
@@ -43,6 +47,8 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+        // 작성자 리뷰 수 변경 → 상품 문서의 판매자 정보 동기화
+        outboxEventPublisher.append(AggregateType.MEMBER, member.getId(), new MemberProfileChangedEvent(member.getId()));
 
         createReviewCredit(product.getSeller(), request.isSatisfied());
         return ReviewResponse.from(savedReview);
@@ -91,6 +97,7 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        outboxEventPublisher.append(AggregateType.MEMBER, memberId, new MemberProfileChangedEvent(memberId));
     }
 
     public void createReviewCredit(Member member, boolean isSatisfied) {
@@ -0,0 +1,163 @@
+package com.backend.global.circuitbreaker;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * 실패율 + 지연 기반 서킷 브레이커
+ * - 최근 windowSize 건의 호출 결과(성공/실패/느림)를 링 버퍼로 유지
+ * - minimumCalls 건 이상 쌓였을 때 실패율 또는 느린 호출 비율이 기준 이상이면 OPEN
+ * - OPEN: openDurationMillis 동안 호출 차단 → 이후 HALF_OPEN
+ * - HALF_OPEN: halfOpenCalls 건만 시험 호출, 모두 정상이면 CLOSED / 하나라도 실패·지연이면 다시 OPEN
+ */
+@Slf4j
+public class LatencyCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Outcome {
+        SUCCESS, SLOW, FAILURE
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallMillis;
+    private final double slowCallRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    private final Outcome[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermitted;
+    private int halfOpenSucceeded;
+
+    public LatencyCircuitBreaker(String name, int windowSize, int minimumCalls,
+                                 double failureRateThreshold, long slowCallMillis, double slowCallRateThreshold,
+                                 long openDurationMillis, int halfOpenCalls) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallMillis, slowCallRateThreshold,
+                openDurationMillis, halfOpenCalls, System::currentTimeMillis);
+    }
+
+    LatencyCircuitBreaker(String name, int windowSize, int minimumCalls,
+                          double failureRateThreshold, long slowCallMillis, double slowCallRateThreshold,
+                          long openDurationMillis, int halfOpenCalls, LongSupplier clock) {
+        this.name = name;
+        this.window = new Outcome[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallMillis = slowCallMillis;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허용 여부
+     * - true 를 받은 호출은 반드시 onSuccess/onFailure 로 결과를 알려야 함 (HALF_OPEN 시험 호출 수 관리)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationMillis) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermitted >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenPermitted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long elapsedMillis) {
+        record(elapsedMillis >= slowCallMillis ? Outcome.SLOW : Outcome.SUCCESS);
+    }
+
+    public synchronized void onFailure() {
+        record(Outcome.FAILURE);
+    }
+
+    /**
+     * 백엔드 상태와 무관한 실패 (잘못된 요청 등) - 결과로 기록하지 않고 HALF_OPEN 시험 호출 권한만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenPermitted > 0) {
+            halfOpenPermitted--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    // ======================================= helper methods ======================================= //
+    private void record(Outcome outcome) {
+        if (state == State.HALF_OPEN) {
+            if (outcome != Outcome.SUCCESS) {
+                log.warn("서킷 브레이커 다시 OPEN: {} (시험 호출 {})", name, outcome);
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // OPEN 전에 시작된 호출의 늦은 결과는 무시
+            return;
+        }
+
+        Outcome evicted = window[windowIndex];
+        if (evicted == Outcome.FAILURE) failureCount--;
+        if (evicted == Outcome.SLOW) slowCount--;
+        window[windowIndex] = outcome;
+        windowIndex = (windowIndex + 1) % window.length;
+        windowCount = Math.min(windowCount + 1, window.length);
+        if (outcome == Outcome.FAILURE) failureCount++;
+        if (outcome == Outcome.SLOW) slowCount++;
+
+        if (windowCount < minimumCalls) {
+            return;
+        }
+        double failureRate = (double) failureCount / windowCount;
+        double slowCallRate = (double) slowCount / windowCount;
+        if (failureRate >= failureRateThreshold || slowCallRate >= slowCallRateThreshold) {
+            log.warn("서킷 브레이커 OPEN: {} (실패율 {}%, 느린 호출 비율 {}%)",
+                    name, Math.round(failureRate * 100), Math.round(slowCallRate * 100));
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        if (state != next && next != State.OPEN) {
+            log.info("서킷 브레이커 {}: {} → {}", name, state, next);
+        }
+        state = next;
+        halfOpenPermitted = 0;
+        halfOpenSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = clock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            Arrays.fill(window, null);
+            windowIndex = 0;
+            windowCount = 0;
+            failureCount = 0;
+            slowCount = 0;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.backend.global.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 서버 인스턴스(노드) 식별자
+ * - 노드별로 소유하는 Redis 상태(접속 상태, WebSocket 브리지 등)의 키에 사용
+ * - 재시작해도 같은 값이어야 자신이 남긴 상태를 정리할 수 있으므로 app.node-id 또는 HOSTNAME 사용
+ *   (둘 다 없으면 임의 값 - 이전 상태는 다른 노드의 만료 정리로 제거됨)
+ */
+@Slf4j
+@Getter
+@Component
+public class NodeIdentity {
+
+    private final String nodeId;
+
+    public NodeIdentity(@Value("${app.node-id:${HOSTNAME:}}") String configuredNodeId) {
+        this.nodeId = configuredNodeId == null || configuredNodeId.isBlank()
+                ? UUID.randomUUID().toString()
+                : configuredNodeId;
+        log.info("노드 식별자: {}", nodeId);
+    }
+}
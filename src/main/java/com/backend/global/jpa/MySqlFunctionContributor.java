@@ -0,0 +1,23 @@
+package com.backend.global.jpa;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * HQL 에서 사용할 MySQL 전용 함수 등록
+ * - match_against(column, query): MATCH(column) AGAINST(query IN BOOLEAN MODE)
+ * - META-INF/services/org.hibernate.boot.model.FunctionContributor 로 등록
+ * - 등록만 할 뿐 호출은 MySQL 에서만 (H2 등 다른 DB 에서 호출하면 문법 오류)
+ */
+public class MySqlFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE)
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.global.outbox;
+
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트 컨슈머
+ * - OutboxRelay 가 컨슈머별 오프셋 이후 이벤트를 id 순으로 전달 (at-least-once)
+ * - 같은 이벤트가 다시 전달될 수 있으므로 처리는 멱등이어야 함
+ * - 예외를 던지면 오프셋을 올리지 않고 잠시 후 같은 이벤트부터 재시도
+ */
+public interface OutboxConsumer {
+
+    /**
+     * 오프셋 저장 키 (바꾸면 보관 중인 이벤트를 처음부터 다시 처리)
+     */
+    String name();
+
+    /**
+     * 처리할 이벤트 타입 (그 외 이벤트는 오프셋만 넘김)
+     */
+    Set<Class<?>> eventTypes();
+
+    void handle(Object event);
+
+    /**
+     * 배치 전달이 끝난 뒤 오프셋 저장 전에 호출 (handle 에서 모아 둔 작업을 반영)
+     * - 예외를 던지면 오프셋을 올리지 않고 잠시 후 배치 처음부터 다시 전달
+     */
+    default void flush() {
+    }
+}
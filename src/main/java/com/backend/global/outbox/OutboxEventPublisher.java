@@ -0,0 +1,61 @@
+package com.backend.global.outbox;
+
+import com.backend.global.outbox.entity.OutboxEvent;
+import com.backend.global.outbox.enums.AggregateType;
+import com.backend.global.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 아웃박스 이벤트 발행
+ * - 변경을 일으킨 트랜잭션 안에서 outbox_events 에 저장 (커밋되면 이벤트도 함께 남고, 롤백되면 함께 사라짐)
+ * - id 발급 전에 트랜잭션을 진행 중으로 표시 (릴레이가 롤백으로 생긴 빈 곳을 기다리지 않고 건너뛰도록)
+ * - 커밋 후 현재 노드의 릴레이를 깨워서 폴링 주기를 기다리지 않고 바로 전달
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelay outboxRelay;
+    private final OutboxTransactionTracker outboxTransactionTracker;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 저장 (호출한 쪽 트랜잭션 필수)
+     *
+     * @param aggregateType 대상 애그리거트 종류
+     * @param aggregateId 대상 애그리거트 ID
+     * @param event 이벤트 레코드 (JSON 으로 직렬화)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(AggregateType aggregateType, Long aggregateId, Object event) {
+        outboxTransactionTracker.register();
+        outboxEventRepository.save(new OutboxEvent(
+                aggregateType, aggregateId, event.getClass().getSimpleName(), serialize(event)));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    outboxRelay.wakeUp();
+                }
+            });
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,380 @@
+package com.backend.global.outbox;
+
+import com.backend.global.outbox.entity.OutboxConsumerOffset;
+import com.backend.global.outbox.entity.OutboxEvent;
+import com.backend.global.outbox.repository.OutboxConsumerOffsetRepository;
+import com.backend.global.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스 릴레이
+ * - 컨슈머마다 오프셋 이후 이벤트를 batch-size 만큼 id 순으로 읽어 전달하고, 처리한 위치까지 오프셋 저장 (at-least-once)
+ * - 배치를 다 전달한 뒤 컨슈머의 flush 가 성공해야 오프셋 저장 (실패하면 배치 처음부터 재전달)
+ * - 컨슈머가 실패하면 그 이벤트에서 멈추고 retry-backoff-ms 부터 두 배씩 늘려가며 재시도,
+ *   max-attempts 를 넘으면 해당 이벤트만 건너뜀 (ES 값은 정합성 검사에서 복구)
+ * - AUTO_INCREMENT 는 커밋 순서와 다르게 발급될 수 있으므로 id 사이에 빈 곳이 있으면 그 앞까지만 처리
+ *   빈 곳을 처음 봤을 때 진행 중이던 트랜잭션(OutboxTransactionTracker)이 모두 끝난 것을 확인한 뒤,
+ *   그 이후에 다시 읽은 배치에도 없으면 롤백된 것으로 보고 건너뜀
+ *   (진행 중 표시가 노드 장애로 남아 있거나 Redis 를 조회할 수 없으면 gap-timeout-ms 후 통과)
+ * - 여러 노드 중 한 곳에서만 실행 (Redisson 락)
+ * - 모든 컨슈머가 처리했고 retention-hours 가 지난 이벤트는 주기적으로 삭제
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String LOCK_KEY = "LOCK:outbox:relay";
+    private static final int MAX_ROUNDS_PER_RUN = 20;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxConsumerOffsetRepository offsetRepository;
+    private final List<OutboxConsumer> consumers;
+    private final ObjectMapper objectMapper;
+    private final RedissonClient redissonClient;
+    private final OutboxTransactionTracker transactionTracker;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long gapTimeoutMillis;
+    private final long retentionHours;
+
+    // 이벤트 타입 이름(simple name) → 역직렬화 클래스
+    private final Map<String, Class<?>> eventTypes = new HashMap<>();
+
+    // 빈 곳 시작 id → 처음 발견한 시각과 그때 진행 중이던 트랜잭션
+    private final Map<Long, GapWatch> gaps = new ConcurrentHashMap<>();
+    // 컨슈머 이름 → 현재 이벤트 실패 상태
+    private final Map<String, Failure> failures = new ConcurrentHashMap<>();
+
+    private final ReentrantLock relayLock = new ReentrantLock();
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean(false);
+    private final ExecutorService wakeUpExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Counter dispatchedEvents;
+    private final Counter failedEvents;
+    private final Counter skippedEvents;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxConsumerOffsetRepository offsetRepository,
+                       List<OutboxConsumer> consumers,
+                       ObjectMapper objectMapper,
+                       RedissonClient redissonClient,
+                       OutboxTransactionTracker transactionTracker,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.retry-backoff-ms:1000}") long retryBackoffMillis,
+                       @Value("${outbox.relay.gap-timeout-ms:10000}") long gapTimeoutMillis,
+                       @Value("${outbox.retention-hours:24}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.offsetRepository = offsetRepository;
+        this.consumers = consumers;
+        this.objectMapper = objectMapper;
+        this.redissonClient = redissonClient;
+        this.transactionTracker = transactionTracker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.gapTimeoutMillis = gapTimeoutMillis;
+        this.retentionHours = retentionHours;
+        this.dispatchedEvents = Counter.builder("outbox.relay.events").tag("result", "dispatched").register(meterRegistry);
+        this.failedEvents = Counter.builder("outbox.relay.events").tag("result", "failed").register(meterRegistry);
+        this.skippedEvents = Counter.builder("outbox.relay.events").tag("result", "skipped").register(meterRegistry);
+
+        for (OutboxConsumer consumer : consumers) {
+            for (Class<?> type : consumer.eventTypes()) {
+                eventTypes.put(type.getSimpleName(), type);
+            }
+        }
+    }
+
+    /**
+     * 주기적으로 아웃박스 전달 (밀린 이벤트가 있으면 이어서 다음 배치)
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void relay() {
+        if (!enabled || !relayLock.tryLock()) {
+            return;
+        }
+        try {
+            withClusterLock(() -> {
+                // 배치를 꽉 채워 읽은 컨슈머가 있으면 바로 다음 배치 (락 유지 시간 안에 끝나도록 횟수 제한)
+                for (int round = 0; round < MAX_ROUNDS_PER_RUN; round++) {
+                    if (!relayOnce()) {
+                        break;
+                    }
+                }
+            });
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    /**
+     * 커밋 직후 호출 - 폴링 주기를 기다리지 않고 릴레이 실행 (이미 예약돼 있으면 무시)
+     */
+    public void wakeUp() {
+        if (!enabled || !wakeUpScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            wakeUpExecutor.execute(() -> {
+                wakeUpScheduled.set(false);
+                relay();
+            });
+        } catch (Exception e) {
+            wakeUpScheduled.set(false);
+        }
+    }
+
+    /**
+     * 모든 컨슈머가 처리했고 보관 기간이 지난 이벤트 삭제
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 15 * * * *}") // 기본: 매시 15분
+    public void cleanUp() {
+        if (!enabled) {
+            return;
+        }
+
+        withClusterLock(() -> {
+            long processedUpTo = consumers.stream()
+                    .mapToLong(consumer -> loadOffset(consumer.name()).getLastEventId())
+                    .min()
+                    .orElse(0L);
+            LocalDateTime before = LocalDateTime.now().minusHours(retentionHours);
+
+            int total = 0;
+            while (true) {
+                Integer deleted = transactionTemplate.execute(status -> {
+                    List<Long> ids = outboxEventRepository.findCleanupTargetIds(
+                            processedUpTo, before, PageRequest.of(0, batchSize));
+                    return ids.isEmpty() ? 0 : outboxEventRepository.deleteAllByIds(ids);
+                });
+                total += deleted == null ? 0 : deleted;
+                if (deleted == null || deleted < batchSize) {
+                    break;
+                }
+            }
+            gaps.keySet().removeIf(gapStart -> gapStart <= processedUpTo);
+            transactionTracker.pruneOlderThan(Duration.ofHours(1));
+
+            if (total > 0) {
+                log.info("아웃박스 이벤트 정리 완료: {}건 (id <= {})", total, processedUpTo);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wakeUpExecutor.shutdownNow();
+    }
+
+    // ======================================= helper methods ======================================= //
+    // 컨슈머마다 한 배치씩 전달, 배치를 꽉 채워 처리한 컨슈머가 있으면 true
+    boolean relayOnce() {
+        boolean more = false;
+        for (OutboxConsumer consumer : consumers) {
+            try {
+                more |= dispatch(consumer);
+            } catch (Exception e) {
+                log.error("아웃박스 릴레이 오류: consumer={}", consumer.name(), e);
+            }
+        }
+        return more;
+    }
+
+    private boolean dispatch(OutboxConsumer consumer) {
+        Failure failure = failures.get(consumer.name());
+        if (failure != null && failure.nextAttemptAt() > System.currentTimeMillis()) {
+            return false;
+        }
+
+        OutboxConsumerOffset offset = loadOffset(consumer.name());
+        long lastId = offset.getLastEventId();
+        List<OutboxEvent> batch = outboxEventRepository.findBatchAfter(lastId, PageRequest.of(0, batchSize));
+        List<OutboxEvent> ready = readyPrefix(lastId, batch);
+
+        long processedUpTo = lastId;
+        boolean blocked = false;
+        for (OutboxEvent event : ready) {
+            Class<?> type = eventTypes.get(event.getEventType());
+            if (type != null && consumer.eventTypes().contains(type) && !deliver(consumer, event, type)) {
+                blocked = true;
+                break;
+            }
+            processedUpTo = event.getId();
+        }
+
+        if (processedUpTo > lastId) {
+            if (!flush(consumer, lastId, processedUpTo)) {
+                return false;
+            }
+            offset.advanceTo(processedUpTo);
+            offsetRepository.save(offset);
+        }
+        if (!blocked) {
+            failures.remove(consumer.name());
+        }
+        return !blocked && ready.size() == batchSize;
+    }
+
+    // 컨슈머가 모아 둔 작업 반영, 성공(또는 재시도 한도 초과로 건너뜀)이면 true
+    private boolean flush(OutboxConsumer consumer, long lastId, long processedUpTo) {
+        try {
+            consumer.flush();
+            return true;
+        } catch (Exception e) {
+            failedEvents.increment();
+            // 오프셋을 올리지 못한 채 연속으로 실패한 횟수 (배치가 늘어나도 이어서 셈)
+            Failure previous = failures.get(consumer.name());
+            int attempts = previous != null && previous.eventId() > lastId ? previous.attempts() + 1 : 1;
+            if (attempts >= maxAttempts) {
+                log.error("아웃박스 배치 반영 포기: consumer={}, eventId={}~{} ({}회 실패)",
+                        consumer.name(), lastId + 1, processedUpTo, attempts, e);
+                failures.remove(consumer.name());
+                skippedEvents.increment();
+                return true;
+            }
+
+            long backoff = retryBackoffMillis << Math.min(attempts - 1, 6);
+            failures.put(consumer.name(), new Failure(processedUpTo, attempts, System.currentTimeMillis() + backoff));
+            log.warn("아웃박스 배치 반영 실패 - {}ms 후 재시도: consumer={}, eventId={}~{} ({}회)",
+                    backoff, consumer.name(), lastId + 1, processedUpTo, attempts, e);
+            return false;
+        }
+    }
+
+    // 전달 성공(또는 재시도 한도 초과로 건너뜀)이면 true, 재시도 대기면 false
+    private boolean deliver(OutboxConsumer consumer, OutboxEvent event, Class<?> type) {
+        try {
+            consumer.handle(objectMapper.readValue(event.getPayload(), type));
+            dispatchedEvents.increment();
+            return true;
+        } catch (Exception e) {
+            failedEvents.increment();
+            Failure previous = failures.get(consumer.name());
+            int attempts = previous != null && previous.eventId() == event.getId() ? previous.attempts() + 1 : 1;
+            if (attempts >= maxAttempts) {
+                log.error("아웃박스 이벤트 처리 포기: consumer={}, eventId={}, type={} ({}회 실패)",
+                        consumer.name(), event.getId(), event.getEventType(), attempts, e);
+                failures.remove(consumer.name());
+                skippedEvents.increment();
+                return true;
+            }
+
+            long backoff = retryBackoffMillis << Math.min(attempts - 1, 6);
+            failures.put(consumer.name(), new Failure(event.getId(), attempts, System.currentTimeMillis() + backoff));
+            log.warn("아웃박스 이벤트 처리 실패 - {}ms 후 재시도: consumer={}, eventId={} ({}회)",
+                    backoff, consumer.name(), event.getId(), attempts, e);
+            return false;
+        }
+    }
+
+    // id 가 연속인 앞부분만 반환 (빈 곳은 둘러싼 트랜잭션이 모두 끝난 뒤, 또는 gap-timeout-ms 가 지나야 통과)
+    List<OutboxEvent> readyPrefix(long lastId, List<OutboxEvent> batch) {
+        long expected = lastId + 1;
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < batch.size(); i++) {
+            long id = batch.get(i).getId();
+            if (id > expected && !gapPassable(expected, now)) {
+                return batch.subList(0, i);
+            }
+            expected = id + 1;
+        }
+        return batch;
+    }
+
+    private boolean gapPassable(long gapStart, long now) {
+        GapWatch watch = gaps.get(gapStart);
+        if (watch == null) {
+            // 처음 발견: 이 시점에 진행 중인 트랜잭션만 빈 곳의 id 를 갖고 있을 수 있음
+            gaps.put(gapStart, new GapWatch(now, transactionTracker.snapshot()));
+            return false;
+        }
+        // 이전 확인에서 모두 끝났고 그 이후에 읽은 이 배치에도 없음 → 롤백된 빈 곳
+        if (watch.isSettled() || now - watch.getFirstSeen() >= gapTimeoutMillis) {
+            return true;
+        }
+        // 커밋 직후 표시가 해제되므로, 끝난 것을 확인한 다음 배치부터 건너뜀 (그 사이 커밋된 이벤트를 놓치지 않도록)
+        if (!transactionTracker.anyInFlight(watch.getInFlight())) {
+            watch.settle();
+        }
+        return false;
+    }
+
+    private OutboxConsumerOffset loadOffset(String consumerName) {
+        return offsetRepository.findById(consumerName)
+                .orElseGet(() -> new OutboxConsumerOffset(consumerName, 0L));
+    }
+
+    private void withClusterLock(Runnable task) {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock(0, 60, TimeUnit.SECONDS);
+            if (acquired) {
+                task.run();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실행 중 오류 발생", e);
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private record Failure(long eventId, int attempts, long nextAttemptAt) {
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class GapWatch {
+        private final long firstSeen;
+        private final Set<String> inFlight;
+        private volatile boolean settled;
+
+        void settle() {
+            settled = true;
+        }
+    }
+}
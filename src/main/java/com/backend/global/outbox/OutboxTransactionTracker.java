@@ -0,0 +1,107 @@
+package com.backend.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 아웃박스 이벤트를 저장 중인 트랜잭션 추적 (모든 노드 공용, Redis ZSET)
+ * - 이벤트 id 를 발급받기 전에 트랜잭션을 진행 중으로 표시하고, 커밋/롤백이 끝나면 표시 해제
+ * - OutboxRelay 는 id 빈 곳을 처음 봤을 때 진행 중이던 트랜잭션이 모두 끝났는지로 빈 곳을 건너뛸지 판단
+ *   (빈 곳의 id 를 발급받은 트랜잭션은 그 시점에 반드시 진행 중 목록에 있음)
+ * - 노드 장애로 해제되지 못한 표시는 릴레이의 gap-timeout-ms 이후 무시되고, 정리 작업에서 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxTransactionTracker {
+
+    private static final String IN_FLIGHT_KEY = "outbox:in-flight";
+    // 트랜잭션 리소스 키 (트랜잭션마다 표시는 한 번만)
+    private static final Object TOKEN_RESOURCE = new Object();
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 현재 트랜잭션을 진행 중으로 표시 (트랜잭션이 끝나면 자동 해제)
+     * - 이벤트 저장(id 발급) 전에 호출해야 함
+     * - Redis 오류는 업무 트랜잭션을 막지 않음 (해당 빈 곳은 gap-timeout-ms 후 통과)
+     */
+    public void register() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(TOKEN_RESOURCE)) {
+            return;
+        }
+
+        String token = UUID.randomUUID().toString();
+        try {
+            redisTemplate.opsForZSet().add(IN_FLIGHT_KEY, token, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("아웃박스 진행 중 트랜잭션 표시 실패", e);
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(TOKEN_RESOURCE, token);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TOKEN_RESOURCE);
+                try {
+                    redisTemplate.opsForZSet().remove(IN_FLIGHT_KEY, token);
+                } catch (Exception e) {
+                    log.warn("아웃박스 진행 중 트랜잭션 표시 해제 실패: {}", token, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 지금 진행 중인 트랜잭션 목록
+     *
+     * @return 진행 중 표시 토큰, Redis 조회 실패 시 null (확인 불가)
+     */
+    public Set<String> snapshot() {
+        try {
+            Set<String> tokens = redisTemplate.opsForZSet().range(IN_FLIGHT_KEY, 0, -1);
+            return tokens != null ? tokens : Set.of();
+        } catch (Exception e) {
+            log.warn("아웃박스 진행 중 트랜잭션 조회 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * 주어진 트랜잭션 중 아직 끝나지 않은 것이 있는지 (확인할 수 없으면 true)
+     */
+    public boolean anyInFlight(Set<String> tokens) {
+        if (tokens == null) {
+            return true;
+        }
+        try {
+            for (String token : tokens) {
+                if (redisTemplate.opsForZSet().score(IN_FLIGHT_KEY, token) != null) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (Exception e) {
+            log.warn("아웃박스 진행 중 트랜잭션 조회 실패", e);
+            return true;
+        }
+    }
+
+    /**
+     * 노드 장애 등으로 해제되지 못한 오래된 표시 삭제
+     */
+    public void pruneOlderThan(Duration age) {
+        long before = System.currentTimeMillis() - age.toMillis();
+        redisTemplate.opsForZSet().removeRangeByScore(IN_FLIGHT_KEY, 0, before);
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.global.outbox.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 컨슈머별 아웃박스 처리 위치 (마지막으로 처리한 이벤트 id)
+ */
+@Entity
+@Table(name = "outbox_consumer_offsets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxConsumerOffset {
+
+    @Id
+    @Column(name = "consumer_name", length = 100)
+    private String consumerName;
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+
+    @Column(name = "modify_date")
+    private LocalDateTime modifyDate;
+
+    public OutboxConsumerOffset(String consumerName, Long lastEventId) {
+        this.consumerName = consumerName;
+        this.lastEventId = lastEventId;
+        this.modifyDate = LocalDateTime.now();
+    }
+
+    public void advanceTo(Long eventId) {
+        this.lastEventId = eventId;
+        this.modifyDate = LocalDateTime.now();
+    }
+}
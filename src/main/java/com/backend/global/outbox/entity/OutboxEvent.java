@@ -0,0 +1,43 @@
+package com.backend.global.outbox.entity;
+
+import com.backend.global.jpa.entity.BaseEntity;
+import com.backend.global.outbox.enums.AggregateType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아웃박스 이벤트
+ * - 상품/회원 변경과 같은 트랜잭션에서 저장되고, OutboxRelay 가 id 순으로 읽어 컨슈머에 전달
+ * - payload 는 이벤트 레코드의 JSON, eventType 은 이벤트 클래스의 simple name
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        // 보관 기간 정리용 (create_date < ?)
+        @Index(name = "idx_outbox_create_date", columnList = "create_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private AggregateType aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    public OutboxEvent(AggregateType aggregateType, Long aggregateId, String eventType, String payload) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,9 @@
+package com.backend.global.outbox.enums;
+
+/**
+ * 아웃박스 이벤트의 대상 애그리거트 종류
+ */
+public enum AggregateType {
+    PRODUCT,
+    MEMBER
+}
@@ -0,0 +1,7 @@
+package com.backend.global.outbox.repository;
+
+import com.backend.global.outbox.entity.OutboxConsumerOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxConsumerOffsetRepository extends JpaRepository<OutboxConsumerOffset, String> {
+}
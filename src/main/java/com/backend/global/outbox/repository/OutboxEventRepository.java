@@ -0,0 +1,25 @@
+package com.backend.global.outbox.repository;
+
+import com.backend.global.outbox.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    // 컨슈머 오프셋 이후 이벤트 (PK 범위 탐색)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id > :lastId ORDER BY e.id ASC")
+    List<OutboxEvent> findBatchAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 모든 컨슈머가 처리했고 보관 기간이 지난 이벤트
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.id <= :maxId AND e.createDate < :before ORDER BY e.id ASC")
+    List<Long> findCleanupTargetIds(@Param("maxId") Long maxId, @Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+}
@@ -0,0 +1,32 @@
+package com.backend.global.page.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(키셋) 기반 페이지 응답
+ * - 전체 개수(COUNT)를 계산하지 않고, 다음 페이지 조회용 커서(마지막 항목 id)만 내려준다.
+ * - 조회는 size + 1 건을 가져와 초과분 존재 여부로 hasNext 를 판단한다.
+ */
+public record CursorPageDto<T>(
+        List<T> content,
+        Long nextCursor,
+        int size,
+        boolean hasNext
+) {
+    // 커서가 없으면 첫 페이지 (id < Long.MAX_VALUE)
+    public static long upperBound(Long cursor) {
+        return cursor != null ? cursor : Long.MAX_VALUE;
+    }
+
+    // size + 1 건 조회 결과를 잘라 응답으로 변환
+    public static <E, T> CursorPageDto<T> of(List<E> rows, int size, Function<E, Long> idExtractor, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        Long nextCursor = hasNext ? idExtractor.apply(pageRows.get(pageRows.size() - 1)) : null;
+        List<T> content = pageRows.stream().map(mapper).toList();
+
+        return new CursorPageDto<>(content, nextCursor, size, hasNext);
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.global.page.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * search_after 기반 커서 페이지 응답
+ * - CursorPageDto 와 같은 방식이지만 커서가 id 하나가 아니라 정렬 값 목록이므로 불투명한 문자열 토큰으로 내려준다.
+ * - 다음 페이지는 nextCursor 를 그대로 다시 보내서 조회 (hasNext 가 false 면 null)
+ */
+public record SearchAfterPageDto<T>(
+        List<T> content,
+        String nextCursor,
+        int size,
+        boolean hasNext
+) {
+    public <R> SearchAfterPageDto<R> map(Function<T, R> mapper) {
+        return new SearchAfterPageDto<>(content.stream().map(mapper).toList(), nextCursor, size, hasNext);
+    }
+}
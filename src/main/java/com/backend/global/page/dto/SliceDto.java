@@ -0,0 +1,26 @@
+package com.backend.global.page.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 슬라이스(페이지 번호 기반, COUNT 없음) 페이지 응답
+ * - PageDto 와 같은 페이지 번호 방식이지만 전체 개수/전체 페이지 수를 계산하지 않는다.
+ * - 조회는 size + 1 건을 가져와 초과분 존재 여부로 hasNext 를 판단한다. (무한 스크롤용)
+ */
+public record SliceDto<T>(
+        List<T> content,
+        int currentPage,
+        int pageSize,
+        boolean hasNext
+) {
+    public static <T> SliceDto<T> fromSlice(Slice<T> slice) {
+        return new SliceDto<>(
+                slice.getContent(),
+                slice.getNumber() + 1,  // 0-based를 1-based로 변환
+                slice.getSize(),
+                slice.hasNext()
+        );
+    }
+}
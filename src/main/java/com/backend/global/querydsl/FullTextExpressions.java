@@ -0,0 +1,72 @@
+package com.backend.global.querydsl;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * MySQL FULLTEXT(ngram) 검색 조건 생성
+ * - 검색어마다 큰따옴표 구문("...")으로 감싸서 ngram 토큰이 연속으로 나타나는 행만 찾음 (LIKE '%검색어%' 와 같은 결과)
+ * - 여러 검색어는 연산자 없이 나열하여 OR 조건
+ * - ngram 토큰보다 짧은 단어는 인덱스로 찾을 수 없으므로 null 을 반환 → 호출 측에서 LIKE 로 처리
+ */
+public class FullTextExpressions {
+
+    // MySQL ngram_token_size 기본값
+    public static final int NGRAM_TOKEN_SIZE = 2;
+
+    // BOOLEAN MODE 연산자 (검색어에 포함되면 의미가 바뀌므로 제거)
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    /**
+     * MATCH(column) AGAINST(query IN BOOLEAN MODE) 조건
+     *
+     * @param column FULLTEXT 인덱스가 걸린 컬럼
+     * @param query phrases() 로 만든 검색식
+     */
+    public static BooleanExpression match(StringPath column, String query) {
+        return Expressions.numberTemplate(Double.class, "function('match_against', {0}, {1})", column, query).gt(0d);
+    }
+
+    /**
+     * 검색어 목록 → BOOLEAN MODE 검색식 ("검색어1" "검색어2")
+     *
+     * @return 인덱스로 찾을 수 없는 검색어가 하나라도 있으면 null
+     */
+    public static String phrases(Collection<String> terms) {
+        List<String> phrases = new ArrayList<>();
+        for (String term : terms) {
+            String normalized = normalize(term);
+            if (normalized.isEmpty() || !searchable(normalized)) {
+                return null;
+            }
+            phrases.add("\"" + normalized + "\"");
+        }
+        return phrases.isEmpty() ? null : String.join(" ", phrases);
+    }
+
+    // ======================================= helper methods ======================================= //
+    private static String normalize(String term) {
+        if (term == null) {
+            return "";
+        }
+        String stripped = BOOLEAN_OPERATORS.matcher(term).replaceAll(" ");
+        return WHITESPACES.matcher(stripped.trim()).replaceAll(" ");
+    }
+
+    // 구문 안에서 토큰 크기보다 짧은 단어는 무시되어 결과가 넓어지므로 모든 단어가 토큰 크기 이상이어야 함
+    private static boolean searchable(String normalized) {
+        for (String word : normalized.split(" ")) {
+            if (word.codePointCount(0, word.length()) < NGRAM_TOKEN_SIZE) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
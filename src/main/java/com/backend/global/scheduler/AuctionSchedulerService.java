@@ -7,11 +7,11 @@ import com.backend.domain.notification.service.BidNotificationService;
 import com.backend.domain.product.entity.Product;
 import com.backend.domain.product.enums.AuctionStatus;
 import com.backend.domain.product.event.helper.ProductChangeTracker;
+import com.backend.global.outbox.OutboxEventPublisher;
 import com.backend.global.websocket.service.WebSocketService;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,7 +29,7 @@ public class AuctionSchedulerService {
     private final WebSocketService webSocketService;
     private final AuctionNotificationService auctionNotificationService;
     private final BidNotificationService bidNotificationService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     //  매분마다 실행되어 종료된 경매들을 확인하고 낙찰 처리
     @Scheduled(fixedRate = 60000) // 1분마다 실행
@@ -203,6 +203,6 @@ public class AuctionSchedulerService {
         product.setStatus(status.getDisplayName());
         if(highestBidPrice != null) product.setCurrentPrice(highestBidPrice);
 
-        tracker.publishChanges(eventPublisher, product);
+        tracker.publishChanges(outboxEventPublisher, product);
     }
 }
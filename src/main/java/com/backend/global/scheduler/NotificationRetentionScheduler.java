@@ -0,0 +1,101 @@
+package com.backend.global.scheduler;
+
+import com.backend.domain.notification.service.NotificationRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 보관/정리 스케줄러
+ * 핫 테이블(notifications)에는 최근 알림만 남도록 오래된 알림을 배치 단위로 옮기거나 삭제
+ * 여러 노드 중 한 곳에서만 실행 (Redisson 락)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionScheduler {
+
+    private static final String LOCK_KEY = "LOCK:notification:retention";
+
+    private final NotificationRetentionService notificationRetentionService;
+    private final RedissonClient redissonClient;
+
+    @Value("${notification.retention.enabled:true}")
+    private boolean enabled;
+
+    // archive: notifications_archive 로 이동 / purge: 삭제만
+    @Value("${notification.retention.mode:archive}")
+    private String mode;
+
+    @Value("${notification.retention.read-days:30}")
+    private int readDays;
+
+    @Value("${notification.retention.unread-days:90}")
+    private int unreadDays;
+
+    @Value("${notification.retention.batch-size:500}")
+    private int batchSize;
+
+    // 한 번 실행에서 처리할 최대 배치 수 (남은 건은 다음 실행에서 처리)
+    @Value("${notification.retention.max-batches:200}")
+    private int maxBatches;
+
+    @Value("${notification.retention.batch-pause-ms:100}")
+    private long batchPauseMs;
+
+    @Value("${notification.retention.lock-lease-minutes:60}")
+    private long lockLeaseMinutes;
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * *}") // 기본: 매일 04:30
+    public void applyRetention() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime readThreshold = now.minusDays(readDays);
+        // 읽지 않은 알림은 읽은 알림보다 짧게 보관하지 않음
+        LocalDateTime unreadThreshold = now.minusDays(Math.max(unreadDays, readDays));
+        boolean archive = !"purge".equalsIgnoreCase(mode);
+
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        boolean acquired = false;
+        int total = 0;
+        try {
+            acquired = lock.tryLock(0, lockLeaseMinutes, TimeUnit.MINUTES);
+            if (!acquired) {
+                log.debug("다른 노드에서 알림 보관 처리 중 - 이번 실행 생략");
+                return;
+            }
+
+            for (int i = 0; i < maxBatches; i++) {
+                int processed = notificationRetentionService.processBatch(readThreshold, unreadThreshold, batchSize, archive);
+                total += processed;
+                if (processed < batchSize) {
+                    break;
+                }
+                // 복제 지연/락 경합을 줄이기 위해 배치 사이 잠시 대기
+                Thread.sleep(batchPauseMs);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("알림 보관 처리 중 오류 발생 (처리 {}건)", total, e);
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+
+        if (total > 0) {
+            log.info("알림 보관 처리 완료: {}건 ({})", total, archive ? "archive" : "purge");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.backend.global.scheduler;
+
+import com.backend.domain.product.dto.response.ReconcileResponse;
+import com.backend.domain.product.service.ProductReconciliationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 상품 DB ↔ ES 정합성 검사 스케줄러
+ * - 증분: 마지막으로 검사한 수정 시각(Redis 워터마크) 이후 수정된 상품만 검사
+ * - 전체: 하루 한 번 전체 검사 (삭제 누락 문서 포함)
+ * - 여러 노드 중 한 곳에서만 실행 (Redisson 락)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductReconciliationScheduler {
+
+    private static final String LOCK_KEY = "LOCK:search:reconcile";
+    private static final String WATERMARK_KEY = "search:reconcile:watermark";
+
+    private final ProductReconciliationService productReconciliationService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedissonClient redissonClient;
+
+    @Value("${search.reconcile.enabled:true}")
+    private boolean enabled;
+
+    // 워터마크가 없을 때(첫 실행) 검사할 기간
+    @Value("${search.reconcile.initial-lookback-minutes:60}")
+    private long initialLookbackMinutes;
+
+    // 커밋 지연으로 늦게 보이는 수정분을 놓치지 않도록 워터마크보다 조금 앞에서 시작
+    @Value("${search.reconcile.overlap-seconds:60}")
+    private long overlapSeconds;
+
+    @Value("${search.reconcile.lock-lease-minutes:30}")
+    private long lockLeaseMinutes;
+
+    @Scheduled(fixedDelayString = "${search.reconcile.incremental-interval-ms:300000}", initialDelay = 60000) // 기본: 5분마다
+    public void reconcileIncrementally() {
+        if (!enabled) {
+            return;
+        }
+
+        runWithLock(() -> {
+            LocalDateTime since = readWatermark().minusSeconds(overlapSeconds);
+            ReconcileResponse response = productReconciliationService.reconcileModifiedSince(since);
+            redisTemplate.opsForValue().set(WATERMARK_KEY, response.checkedUntil().toString());
+            return response;
+        });
+    }
+
+    @Scheduled(cron = "${search.reconcile.full-cron:0 0 5 * * *}") // 기본: 매일 05:00
+    public void reconcileAll() {
+        if (!enabled) {
+            return;
+        }
+
+        runWithLock(productReconciliationService::reconcileAll);
+    }
+
+    // ======================================= helper methods ======================================= //
+    private void runWithLock(Supplier<ReconcileResponse> task) {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock(0, lockLeaseMinutes, TimeUnit.MINUTES);
+            if (!acquired) {
+                log.debug("다른 노드에서 상품 정합성 검사 중 - 이번 실행 생략");
+                return;
+            }
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("상품 정합성 검사 중 오류 발생", e);
+        } finally {
+            if (acquired && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private LocalDateTime readWatermark() {
+        String watermark = redisTemplate.opsForValue().get(WATERMARK_KEY);
+        if (watermark == null) {
+            return LocalDateTime.now().minusMinutes(initialLookbackMinutes);
+        }
+        return LocalDateTime.parse(watermark);
+    }
+}
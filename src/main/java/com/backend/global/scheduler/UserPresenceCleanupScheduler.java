@@ -20,15 +20,25 @@ public class UserPresenceCleanupScheduler {
     private final UserPresenceService userPresenceService;
     
     /**
-     * 애플리케이션 시작 시 모든 온라인 상태 초기화
-     * 서버 재시작 시 이전 세션 정보를 정리
+     * 애플리케이션 시작 시 이 노드의 이전 접속 상태만 정리하고 lease 등록
+     * 다른 노드에 연결된 사용자의 온라인 상태는 유지
      */
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
-        log.info("애플리케이션 시작 - 사용자 온라인 상태 초기화");
-        userPresenceService.clearAllOnlineStatus();
+        log.info("애플리케이션 시작 - 노드 접속 상태 초기화");
+        userPresenceService.startNode();
     }
-    
+
+    /**
+     * 노드 lease 갱신 및 만료된 노드 접속 상태 정리
+     * 10초마다 실행 (lease TTL 30초)
+     */
+    @Scheduled(fixedDelayString = "${presence.lease-renew-ms:10000}")
+    public void renewLease() {
+        userPresenceService.renewLease();
+        userPresenceService.reapDeadNodes();
+    }
+
     /**
      * 주기적으로 온라인 사용자 수 로깅 (모니터링용)
      * 10분마다 실행
@@ -36,7 +46,7 @@ public class UserPresenceCleanupScheduler {
     @Scheduled(fixedDelay = 600000) // 10분
     public void logOnlineUsersCount() {
         try {
-            int onlineCount = userPresenceService.getOnlineUsers().size();
+            long onlineCount = userPresenceService.getOnlineUserCount();
             log.info("현재 온라인 사용자 수: {}", onlineCount);
         } catch (Exception e) {
             log.error("온라인 사용자 수 조회 실패", e);
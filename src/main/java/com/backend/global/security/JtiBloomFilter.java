@@ -0,0 +1,69 @@
+package com.backend.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 ID(jti)용 Bloom filter (스레드 안전)
+ * - false 면 확실히 없음, true 면 있을 수도 있음 (오탐률은 생성 시 지정)
+ * - 해시 두 개를 조합해 k 개 위치 계산 (Kirsch-Mitzenmacher)
+ */
+class JtiBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    JtiBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long size = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, size);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    void put(String value) {
+        long[] hashes = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hashes, i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << (index & 63);
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long[] hashes = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(hashes, i);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ======================================= helper methods ======================================= //
+    private long index(long[] hashes, int i) {
+        return Math.floorMod(hashes[0] + i * hashes[1], bitSize);
+    }
+
+    // FNV-1a 64bit 와 그 결과를 splitmix64 로 섞은 값
+    private long[] hash(String value) {
+        long h1 = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h1 ^= b;
+            h1 *= 0x100000001b3L;
+        }
+        long h2 = h1 + 0x9e3779b97f4a7c15L;
+        h2 = (h2 ^ (h2 >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h2 = (h2 ^ (h2 >>> 27)) * 0x94d049bb133111ebL;
+        h2 = h2 ^ (h2 >>> 31);
+        return new long[]{h1, h2 | 1};
+    }
+}
@@ -1,8 +1,5 @@
 package com.backend.global.security;
 
-import com.backend.domain.member.entity.Member;
-import com.backend.domain.member.repository.MemberRepository;
-import com.backend.global.redis.RedisUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -11,20 +8,19 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final MemberRepository memberRepository;
-    private final RedisUtil redisUtil;
+    private final TokenBlacklist tokenBlacklist;
+    private final PrincipalCache principalCache;
 
 
     @Override
@@ -33,11 +29,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request); // 헤더/쿠키 둘 다 지원(아래 메소드)
 
-        if (token != null && redisUtil.getData(token) == null && jwtUtil.validateToken(token)) {
-            String email = jwtUtil.getEmailFromToken(token);
+        // 서명 검증은 한 번만 (이미 검증된 토큰은 캐시에서 바로 확인)
+        Optional<JwtUtil.VerifiedToken> verified = jwtUtil.verify(token);
 
-            memberRepository.findByEmail(email).ifPresent(member -> {
-                User user = new User(member.getEmail(), member.getPassword(), List.of());
+        // 로그아웃 여부는 로컬 Bloom filter 로 먼저 확인 (있을 수도 있는 경우에만 Redis 조회)
+        if (verified.isPresent() && !tokenBlacklist.isBlacklisted(verified.get().jti())) {
+            String email = verified.get().subject();
+
+            // 회원 조회는 principal 캐시 미스일 때만
+            principalCache.getUser(email).ifPresent(user -> {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,15 +1,23 @@
 package com.backend.global.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
-
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtUtil {
@@ -18,12 +26,35 @@ public class JwtUtil {
     private final long accessTokenExpirationMillis;
     private final long refreshTokenExpirationMillis;
 
-    public JwtUtil(@Value("${jwt.secret}") String secret, 
+    // 서명 검증용 파서는 스레드 안전하므로 하나만 만들어 재사용
+    private final JwtParser jwtParser;
+
+    // 검증이 끝난 토큰 다이제스트 → 검증 결과 (같은 토큰 재요청 시 서명 검증/파싱 생략, 만료 시각까지만 유효)
+    private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+    private final int verifiedCacheMaxSize;
+
+    /**
+     * 검증된 토큰 정보
+     * @param subject 이메일
+     * @param jti 토큰 ID
+     * @param expiresAtMillis 만료 시각 (epoch millis)
+     */
+    public record VerifiedToken(String subject, String jti, long expiresAtMillis) {
+
+        public long remainingMillis() {
+            return expiresAtMillis - System.currentTimeMillis();
+        }
+    }
+
+    public JwtUtil(@Value("${jwt.secret}") String secret,
                    @Value("${jwt.access_token_expiration_minutes}") long accessTokenExpirationMinutes,
-                   @Value("${jwt.refresh_token_expiration_days}") long refreshTokenExpirationDays) {
+                   @Value("${jwt.refresh_token_expiration_days}") long refreshTokenExpirationDays,
+                   @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
         this.accessTokenExpirationMillis = accessTokenExpirationMinutes * 60 * 1000;
         this.refreshTokenExpirationMillis = refreshTokenExpirationDays * 24 * 60 * 60 * 1000;
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedCacheMaxSize = verifiedCacheMaxSize;
     }
 
     public String generateAccessToken(String email) {
@@ -47,33 +78,60 @@ public class JwtUtil {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 검증 (한 번의 파싱으로 서명/만료 확인 후 subject, jti, 만료 시각 반환)
+     * 유효하지 않거나 만료된 토큰이면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.get(digest);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.remove(digest);
+            return Optional.empty();
+        }
+
         try {
-            Jwts.parser().setSigningKey(secretKey).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(), claims.getId(), claims.getExpiration().getTime());
+            cacheVerified(digest, verified, now);
+            return Optional.of(verified);
         } catch (Exception e) {
             // MalformedJwtException, ExpiredJwtException, etc.
-            return false;
+            return Optional.empty();
         }
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+    // ======================================= helper methods ======================================= //
+    private void cacheVerified(String digest, VerifiedToken verified, long now) {
+        if (verifiedTokens.size() >= verifiedCacheMaxSize) {
+            verifiedTokens.values().removeIf(token -> token.expiresAtMillis() <= now);
+        }
+        if (verifiedTokens.size() >= verifiedCacheMaxSize) {
+            Iterator<String> iterator = verifiedTokens.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        verifiedTokens.put(digest, verified);
     }
 
-    public Long getRemainingExpirationMillis(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        Date expiration = claims.getExpiration();
-        long now = new Date().getTime();
-        return expiration.getTime() - now;
+    // 원본 토큰 대신 SHA-256 다이제스트를 키로 사용 (캐시에 토큰 원문을 보관하지 않음)
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
     }
 }
@@ -0,0 +1,105 @@
+package com.backend.global.security;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 주체(principal) 로컬 캐시
+ * - JWT 인증마다 회원 조회 쿼리를 날리지 않도록 이메일 → User 를 짧은 TTL 로 캐시
+ * - 크기 제한을 넘으면 만료 항목부터 정리하고, 그래도 가득 차면 임의 항목 제거
+ * - 회원 정보 수정/탈퇴/로그아웃 시 evict (다른 노드는 TTL 안에 반영)
+ * - auth.principal.cache{result=hit|miss} 로 적중률 확인
+ */
+@Component
+public class PrincipalCache {
+
+    private final MemberRepository memberRepository;
+    private final Map<String, CachedPrincipal> cache = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    private record CachedPrincipal(User user, long expiresAt) {
+    }
+
+    public PrincipalCache(MemberRepository memberRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.ttl-seconds:30}") long ttlSeconds,
+                          @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+        this.hits = Counter.builder("auth.principal.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("auth.principal.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    // 캐시에 없거나 만료되었으면 회원 조회 후 저장 (존재하지 않는 회원은 캐시하지 않음)
+    public Optional<User> getUser(String email) {
+        long now = System.currentTimeMillis();
+        CachedPrincipal cached = cache.get(email);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.increment();
+            return Optional.of(cached.user());
+        }
+
+        misses.increment();
+        Optional<User> loaded = memberRepository.findByEmail(email)
+                .map(member -> new User(member.getEmail(), member.getPassword(), authorities(member)));
+        loaded.ifPresent(user -> put(email, user, now));
+        return loaded;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 제거 (커밋 전 다른 요청이 이전 정보로 다시 채우는 경우 방지)
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        cache.remove(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(email);
+                }
+            });
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    // 회원 권한 (ROLE_USER, ROLE_ADMIN) → @PreAuthorize("hasRole(...)") 판단에 사용
+    private List<GrantedAuthority> authorities(Member member) {
+        return member.getAuthority() == null ? List.of() : List.of(new SimpleGrantedAuthority(member.getAuthority()));
+    }
+
+    private void put(String email, User user, long now) {
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(entry -> entry.expiresAt() <= now);
+        }
+        if (cache.size() >= maxSize) {
+            Iterator<String> iterator = cache.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        cache.put(email, new CachedPrincipal(user, now + ttlMillis));
+    }
+}
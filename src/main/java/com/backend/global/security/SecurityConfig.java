@@ -7,6 +7,7 @@ import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -23,6 +24,7 @@ import java.util.List;
 
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
@@ -44,8 +46,9 @@ public class SecurityConfig {
                                 "/swagger-ui.html", "/webjars/**", "/notifications/**", "/ws/**",
                                 "/api/test/**", "/bid-test.html", "/websocket-test.html").permitAll()
                         .requestMatchers(HttpMethod.GET,
-                                "/api/*/products", "/api/*/products/{productId:\\d+}", "/api/*/products/es",
-                                "/api/*/products/members/{memberId:\\d+}",
+                                "/api/*/products", "/api/*/products/slice", "/api/*/products/{productId:\\d+}",
+                                "/api/*/products/search", "/api/*/products/es", "/api/*/products/es/cursor",
+                                "/api/*/products/members/{memberId:\\d+}", "/api/*/products/members/{memberId:\\d+}/slice",
                                 "/api/v1/members/{memberId:\\d+}", "/api/v1/paymentMethods/toss/confirm-callback").permitAll()
                         .requestMatchers("/api/v1/products/reload-analyzers").permitAll() // 관리자 기능 도입 시 ROLE 인증 추가
                         .requestMatchers("/uploads/**").permitAll()
@@ -0,0 +1,124 @@
+package com.backend.global.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 로그아웃 토큰 블랙리스트 (jti 기준)
+ * - Redis: auth:blacklist:{jti} (토큰 남은 만료 시간만큼 TTL) - 원본 토큰 대신 짧은 jti 를 키로 사용
+ * - 노드 로컬 Bloom filter 로 먼저 확인하고, 있을 수도 있는 경우에만 Redis 조회 → 대부분의 요청은 네트워크 호출 없음
+ * - 로그아웃 시 pub/sub(auth:blacklist) 으로 다른 노드의 Bloom filter 에도 추가
+ * - 만료된 항목을 비우고 pub/sub 유실을 복구하기 위해 주기적으로 Redis 키를 스캔해서 Bloom filter 재구성
+ *   (재구성 전이거나 실패한 상태에서는 Redis 를 직접 조회)
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "auth:blacklist";
+    private static final String KEY_PREFIX = "auth:blacklist:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile JtiBloomFilter filter;
+    // 재구성 중 들어온 jti 는 새 필터에도 추가
+    private volatile JtiBloomFilter rebuilding;
+
+    public TokenBlacklist(StringRedisTemplate stringRedisTemplate,
+                          @Value("${security.token-blacklist.expected-insertions:100000}") int expectedInsertions,
+                          @Value("${security.token-blacklist.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    // 로그아웃한 토큰 등록 (남은 만료 시간 동안만 유지)
+    public void add(String jti, long remainingMillis) {
+        if (jti == null || remainingMillis <= 0) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + jti, "logout", Duration.ofMillis(remainingMillis));
+        putLocal(jti);
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, jti);
+        } catch (Exception e) {
+            // 다른 노드는 Bloom filter 재구성 시 반영되고, 그 전에는 오탐 없이 통과할 수 있음
+            log.warn("토큰 블랙리스트 전파 실패 - jti: {}", jti, e);
+        }
+    }
+
+    public boolean isBlacklisted(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        JtiBloomFilter current = filter;
+        if (current != null && !current.mightContain(jti)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + jti));
+        } catch (Exception e) {
+            // 확인할 수 없는 경우 차단 (Bloom filter 에 걸린 소수의 토큰만 해당)
+            log.error("토큰 블랙리스트 조회 실패 - jti: {}", jti, e);
+            return true;
+        }
+    }
+
+    // 다른 노드에서 로그아웃한 토큰
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        putLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${security.token-blacklist.rebuild-ms:600000}")
+    public void rebuild() {
+        JtiBloomFilter next = new JtiBloomFilter(expectedInsertions, falsePositiveRate);
+        rebuilding = next;
+        int count = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(
+                ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (cursor.hasNext()) {
+                next.put(cursor.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+            filter = next;
+            log.debug("토큰 블랙리스트 Bloom filter 재구성: {}건", count);
+        } catch (Exception e) {
+            // 기존 필터 유지 (처음이면 Redis 직접 조회)
+            log.warn("토큰 블랙리스트 Bloom filter 재구성 실패", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    private void putLocal(String jti) {
+        JtiBloomFilter current = filter;
+        if (current != null) {
+            current.put(jti);
+        }
+        JtiBloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(jti);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.backend.global.security;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 로그아웃 토큰 블랙리스트 노드 간 동기화용 Redis 구독 컨테이너
+@Configuration
+public class TokenBlacklistConfig {
+
+    @Bean
+    public RedisMessageListenerContainer tokenBlacklistListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                         TokenBlacklist tokenBlacklist) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(tokenBlacklist, new ChannelTopic(TokenBlacklist.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,38 @@
+package com.backend.global.websocket.bridge;
+
+import com.backend.global.websocket.service.WebSocketSubscriptionRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 브리지 - 현재 노드의 SimpleBroker 로 바로 전달
+ */
+@Component
+@ConditionalOnProperty(name = "websocket.bridge.type", havingValue = "local", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LocalWebSocketBrokerBridge implements WebSocketBrokerBridge {
+
+    private final PreSerializedMessageSender messageSender;
+    private final WebSocketSubscriptionRegistry subscriptionRegistry;
+
+    @Override
+    public void publishToTopic(String destination, Object payload) {
+        messageSender.sendToTopic(destination, messageSender.serialize(payload));
+    }
+
+    @Override
+    public void publishToUser(String userEmail, String destination, Object payload) {
+        messageSender.sendToUser(userEmail, destination, messageSender.serialize(payload));
+    }
+
+    @Override
+    public boolean hasSubscribers(String destination) {
+        return subscriptionRegistry.hasLocalSubscribers(destination);
+    }
+
+    @Override
+    public long countSubscribers(String destination) {
+        return subscriptionRegistry.getSubscriberCount(destination);
+    }
+}
@@ -0,0 +1,52 @@
+package com.backend.global.websocket.bridge;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 미리 직렬화한 JSON 페이로드 전송
+ * - 페이로드를 한 번만 직렬화해서 로컬 브로커 전송과 노드 간 중계에 같은 바이트를 재사용
+ * - convertAndSend 처럼 전송마다 메시지 컨버터(Jackson)를 다시 거치지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class PreSerializedMessageSender {
+
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    public byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("WebSocket 페이로드 직렬화 실패", e);
+        }
+    }
+
+    public void sendToTopic(String destination, byte[] json) {
+        messagingTemplate.send(destination, toMessage(json));
+    }
+
+    // convertAndSendToUser 와 같은 규칙으로 사용자 대상 경로 생성 (/user/{user}/queue/...)
+    public void sendToUser(String userEmail, String destination, byte[] json) {
+        String user = userEmail.replace("/", "%2F");
+        messagingTemplate.send(USER_DESTINATION_PREFIX + user + destination, toMessage(json));
+    }
+
+    private Message<byte[]> toMessage(byte[] json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(json, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,255 @@
+package com.backend.global.websocket.bridge;
+
+import com.backend.global.config.NodeIdentity;
+import com.backend.global.websocket.service.WebSocketSubscriptionRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Redis pub/sub 기반 브리지 (멀티 노드)
+ * - 발행 노드는 로컬 세션에 바로 전달하고, 같은 메시지를 Redis 채널로 발행
+ * - 각 노드는 로컬 구독자가 있는 토픽/사용자 채널만 Redis 에 구독 → 구독자가 없는 노드로는 전달되지 않음
+ * - 수신 노드는 자신이 발행한 메시지(origin)를 건너뛰고 로컬 SimpleBroker 로 중계
+ * - 페이로드는 발행 노드에서 한 번만 직렬화되고 수신 노드는 바이트를 그대로 전달
+ * - 토픽별 로컬 구독자 수는 노드별 Redis 해시(ws:watchers:{nodeId})로 주기 동기화해서 전체 시청자 수 집계
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "websocket.bridge.type", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisWebSocketBrokerBridge implements WebSocketBrokerBridge, MessageListener, WebSocketSubscriptionRegistry.Listener {
+
+    private static final String TOPIC_CHANNEL_PREFIX = "ws:topic:";
+    private static final String USER_CHANNEL_PREFIX = "ws:user:";
+    private static final String WATCHER_KEY_PREFIX = "ws:watchers:";
+    private static final String WATCHER_NODES_KEY = "ws:watchers:nodes";
+
+    private final PreSerializedMessageSender messageSender;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer webSocketBridgeListenerContainer;
+    private final WebSocketSubscriptionRegistry subscriptionRegistry;
+    private final NodeIdentity nodeIdentity;
+
+    // 노드별 구독자 수 동기화 주기 (3주기 동안 갱신이 없는 노드는 집계에서 제외)
+    @Value("${websocket.bridge.watcher-sync-ms:5000}")
+    private long watcherSyncMs;
+
+    private String nodeId;
+
+    // 현재 Redis 에 구독 중인 채널
+    private final Set<String> subscribedChannels = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    void init() {
+        nodeId = nodeIdentity.getNodeId();
+        subscriptionRegistry.addListener(this);
+        log.info("WebSocket Redis 브리지 활성화 - nodeId: {}", nodeId);
+    }
+
+    // ======================================= publish methods ======================================= //
+    // 페이로드는 한 번만 직렬화해서 로컬 전송과 Redis 발행에 같은 바이트 사용
+    @Override
+    public void publishToTopic(String destination, Object payload) {
+        byte[] json = messageSender.serialize(payload);
+        messageSender.sendToTopic(destination, json);
+        publish(TOPIC_CHANNEL_PREFIX + destination, encode(null, destination, json));
+    }
+
+    @Override
+    public void publishToUser(String userEmail, String destination, Object payload) {
+        byte[] json = messageSender.serialize(payload);
+        if (subscriptionRegistry.hasLocalUser(userEmail)) {
+            messageSender.sendToUser(userEmail, destination, json);
+        }
+        publish(USER_CHANNEL_PREFIX + userEmail, encode(userEmail, destination, json));
+    }
+
+    private void publish(String channel, byte[] body) {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.publish(channel.getBytes(StandardCharsets.UTF_8), body));
+        } catch (Exception e) {
+            // 다른 노드 전달 실패는 로컬 전달에 영향을 주지 않음
+            log.warn("WebSocket 브리지 발행 실패 - 채널: {}", channel, e);
+        }
+    }
+
+    // ======================================= relay methods ======================================= //
+    // 수신한 JSON 바이트를 다시 파싱/직렬화하지 않고 그대로 로컬 브로커로 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            byte[] body = message.getBody();
+            int originEnd = indexOf(body, 0);
+            int userEnd = indexOf(body, originEnd + 1);
+            int destinationEnd = indexOf(body, userEnd + 1);
+
+            String origin = new String(body, 0, originEnd, StandardCharsets.UTF_8);
+            if (nodeId.equals(origin)) {
+                return; // 자신이 발행한 메시지는 이미 로컬 전달됨
+            }
+            String user = new String(body, originEnd + 1, userEnd - originEnd - 1, StandardCharsets.UTF_8);
+            String destination = new String(body, userEnd + 1, destinationEnd - userEnd - 1, StandardCharsets.UTF_8);
+            byte[] json = Arrays.copyOfRange(body, destinationEnd + 1, body.length);
+
+            if (!user.isEmpty()) {
+                messageSender.sendToUser(user, destination, json);
+            } else {
+                messageSender.sendToTopic(destination, json);
+            }
+        } catch (Exception e) {
+            log.warn("WebSocket 브리지 메시지 중계 실패", e);
+        }
+    }
+
+    // 브리지 메시지 포맷: origin \n user(토픽이면 빈 값) \n destination \n JSON 페이로드
+    private byte[] encode(String userEmail, String destination, byte[] json) {
+        byte[] header = (nodeId + '\n' + (userEmail != null ? userEmail : "") + '\n' + destination + '\n')
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] body = Arrays.copyOf(header, header.length + json.length);
+        System.arraycopy(json, 0, body, header.length, json.length);
+        return body;
+    }
+
+    private int indexOf(byte[] body, int from) {
+        for (int i = from; i < body.length; i++) {
+            if (body[i] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 브리지 메시지 형식");
+    }
+
+    // ======================================= watcher count methods ======================================= //
+    // 브리지 채널은 로컬 구독자가 있는 노드만 구독하므로 채널 구독 노드 수로 즉시 판단 (동기화 지연 없음)
+    @Override
+    public boolean hasSubscribers(String destination) {
+        if (subscriptionRegistry.hasLocalSubscribers(destination)) {
+            return true;
+        }
+        try {
+            Long nodes = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                    parseNumsub(connection.execute("PUBSUB",
+                            "NUMSUB".getBytes(StandardCharsets.UTF_8),
+                            (TOPIC_CHANNEL_PREFIX + destination).getBytes(StandardCharsets.UTF_8))));
+            return nodes == null || nodes > 0;
+        } catch (Exception e) {
+            // 확인할 수 없으면 전송 (누락보다 불필요한 전송이 나음)
+            log.warn("WebSocket 브리지 구독 노드 확인 실패 - 토픽: {}", destination, e);
+            return true;
+        }
+    }
+
+    @Override
+    public long countSubscribers(String destination) {
+        long count = subscriptionRegistry.getSubscriberCount(destination);
+        try {
+            for (String remoteNode : liveRemoteNodes()) {
+                Object remoteCount = stringRedisTemplate.opsForHash().get(WATCHER_KEY_PREFIX + remoteNode, destination);
+                if (remoteCount != null) {
+                    count += Long.parseLong(remoteCount.toString());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("WebSocket 구독자 수 집계 실패 - 로컬 수치만 사용: {}", destination, e);
+        }
+        return count;
+    }
+
+    // 로컬 토픽별 구독자 수를 노드 해시에 기록하고 노드 생존 표시 갱신
+    @Scheduled(fixedDelayString = "${websocket.bridge.watcher-sync-ms:5000}")
+    public void syncWatcherCounts() {
+        Map<String, String> counts = new HashMap<>();
+        subscriptionRegistry.getActiveDestinations()
+                .forEach(destination -> counts.put(destination, String.valueOf(subscriptionRegistry.getSubscriberCount(destination))));
+
+        String key = WATCHER_KEY_PREFIX + nodeId;
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public List<Object> execute(RedisOperations operations) {
+                    operations.multi();
+                    operations.delete(key);
+                    if (!counts.isEmpty()) {
+                        operations.opsForHash().putAll(key, counts);
+                        operations.expire(key, Duration.ofMillis(watcherSyncMs * 3));
+                    }
+                    operations.opsForZSet().add(WATCHER_NODES_KEY, nodeId, now);
+                    operations.opsForZSet().removeRangeByScore(WATCHER_NODES_KEY, 0, now - watcherSyncMs * 3);
+                    return operations.exec();
+                }
+            });
+        } catch (Exception e) {
+            log.warn("WebSocket 구독자 수 동기화 실패 - nodeId: {}", nodeId, e);
+        }
+    }
+
+    private Set<String> liveRemoteNodes() {
+        long now = System.currentTimeMillis();
+        Set<String> nodes = stringRedisTemplate.opsForZSet()
+                .rangeByScore(WATCHER_NODES_KEY, now - watcherSyncMs * 3, Double.MAX_VALUE);
+        if (nodes == null) {
+            return Set.of();
+        }
+        Set<String> remoteNodes = new HashSet<>(nodes);
+        remoteNodes.remove(nodeId);
+        return remoteNodes;
+    }
+
+    // PUBSUB NUMSUB 응답: [채널, 구독 수]
+    private Long parseNumsub(Object reply) {
+        if (reply instanceof List<?> values && values.size() >= 2 && values.get(1) instanceof Number count) {
+            return count.longValue();
+        }
+        return null;
+    }
+
+    // ======================================= subscription sync ======================================= //
+    @Override
+    public void onDestinationChanged(String destination) {
+        syncChannel(TOPIC_CHANNEL_PREFIX + destination, () -> subscriptionRegistry.hasLocalSubscribers(destination));
+    }
+
+    @Override
+    public void onUserChanged(String userEmail) {
+        syncChannel(USER_CHANNEL_PREFIX + userEmail, () -> subscriptionRegistry.hasLocalUser(userEmail));
+    }
+
+    // 콜백 순서가 뒤바뀌어도 최종 상태에 맞게 구독/해제 (레지스트리 상태 재확인)
+    private synchronized void syncChannel(String channel, BooleanSupplier hasLocalInterest) {
+        boolean shouldSubscribe = hasLocalInterest.getAsBoolean();
+        if (shouldSubscribe && subscribedChannels.add(channel)) {
+            webSocketBridgeListenerContainer.addMessageListener(this, new ChannelTopic(channel));
+            log.debug("WebSocket 브리지 채널 구독: {}", channel);
+        } else if (!shouldSubscribe && subscribedChannels.remove(channel)) {
+            webSocketBridgeListenerContainer.removeMessageListener(this, new ChannelTopic(channel));
+            log.debug("WebSocket 브리지 채널 구독 해제: {}", channel);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.backend.global.websocket.bridge;
+
+/**
+ * WebSocket 메시지 브로커 브리지
+ * - 서버에서 발행하는 토픽/개인 메시지를 모든 노드의 로컬 세션에 전달하기 위한 확장 지점
+ * - websocket.bridge.type=local (기본): 현재 노드의 SimpleBroker 로만 전달 (단일 노드)
+ * - websocket.bridge.type=redis: Redis pub/sub 으로 다른 노드에도 전달 (수평 확장)
+ */
+public interface WebSocketBrokerBridge {
+
+    // 토픽 브로드캐스트 (예: /topic/bid/1)
+    void publishToTopic(String destination, Object payload);
+
+    // 개인 메시지 (예: userEmail, /queue/notifications)
+    void publishToUser(String userEmail, String destination, Object payload);
+
+    // 어느 노드에든 토픽 구독자가 있는지 (없으면 메시지 생성/전송 생략)
+    boolean hasSubscribers(String destination);
+
+    // 전체 노드 토픽 구독자 수 (다른 노드 수치는 동기화 주기만큼 늦을 수 있음)
+    long countSubscribers(String destination);
+}
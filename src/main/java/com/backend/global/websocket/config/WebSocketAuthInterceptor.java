@@ -1,6 +1,8 @@
 package com.backend.global.websocket.config;
 
 import com.backend.global.security.JwtUtil;
+import com.backend.global.security.PrincipalCache;
+import com.backend.global.security.TokenBlacklist;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -11,17 +13,18 @@ import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketAuthInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -35,18 +38,21 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
                 String token = authHeader.substring(7);
                 
                 try {
-                    if (jwtUtil.validateToken(token)) {
-                        String email = jwtUtil.getEmailFromToken(token);
-                        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                        
-                        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities()
-                        );
-                        
-                        // WebSocket 세션에 사용자 정보 설정
-                        accessor.setUser(authentication);
-                        
-                        log.info("WebSocket 인증 성공: {}", email);
+                    Optional<JwtUtil.VerifiedToken> verified = jwtUtil.verify(token);
+                    // 로그아웃한 토큰으로는 연결 불가 (HTTP 요청과 같은 블랙리스트 확인)
+                    if (verified.isPresent() && !tokenBlacklist.isBlacklisted(verified.get().jti())) {
+                        String email = verified.get().subject();
+                        // HTTP 요청과 같은 principal 캐시 사용 (캐시 미스일 때만 회원 조회)
+                        principalCache.getUser(email).ifPresent(user -> {
+                            Authentication authentication = new UsernamePasswordAuthenticationToken(
+                                user, null, user.getAuthorities()
+                            );
+
+                            // WebSocket 세션에 사용자 정보 설정
+                            accessor.setUser(authentication);
+
+                            log.info("WebSocket 인증 성공: {}", email);
+                        });
                     }
                 } catch (Exception e) {
                     log.error("WebSocket 인증 실패: {}", e.getMessage());
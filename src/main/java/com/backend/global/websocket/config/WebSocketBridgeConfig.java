@@ -0,0 +1,20 @@
+package com.backend.global.websocket.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 멀티 노드 WebSocket 브리지용 Redis 구독 컨테이너 (websocket.bridge.type=redis 일 때만)
+@Configuration
+@ConditionalOnProperty(name = "websocket.bridge.type", havingValue = "redis")
+public class WebSocketBridgeConfig {
+
+    @Bean
+    public RedisMessageListenerContainer webSocketBridgeListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+}
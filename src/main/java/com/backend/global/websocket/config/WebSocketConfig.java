@@ -1,12 +1,16 @@
 package com.backend.global.websocket.config;
 
+import com.backend.global.websocket.listener.WebSocketOutboundMetrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -14,6 +18,18 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final WebSocketOutboundMetrics webSocketOutboundMetrics;
+    private final ThreadPoolTaskExecutor webSocketOutboundExecutor;
+
+    // 세션별 송신 제한: 초과하면 느린 클라이언트로 보고 연결 종료 (다른 구독자 전송이 막히지 않도록)
+    @Value("${websocket.transport.send-time-limit-ms:5000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.transport.send-buffer-size-limit:262144}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -38,4 +54,18 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // WebSocket 인증 인터셉터 등록
         registration.interceptors(webSocketAuthInterceptor);
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 송신 전용 스레드 풀 (큐 크기 제한) + 큐 적재량/드롭 메트릭
+        registration.taskExecutor(webSocketOutboundExecutor);
+        registration.interceptors(webSocketOutboundMetrics);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
 }
@@ -0,0 +1,32 @@
+package com.backend.global.websocket.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// clientOutboundChannel 전용 스레드 풀 (기본값은 큐 무제한이라 느린 클라이언트가 있으면 메모리가 계속 증가)
+@Configuration
+public class WebSocketOutboundConfig {
+
+    @Value("${websocket.outbound.core-pool-size:8}")
+    private int corePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:16}")
+    private int maxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor webSocketOutboundExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity); // 초과 시 프레임 거부(드롭) → 메트릭으로 집계
+        executor.setThreadNamePrefix("ws-outbound-");
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.backend.global.websocket.controller;
+
+import com.backend.domain.bid.dto.BidSnapshotDto;
+import com.backend.domain.bid.service.BidSnapshotService;
+import com.backend.global.websocket.dto.WebSocketMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * 입찰 현황 구독 스냅샷 컨트롤러
+ * 클라이언트는 /topic/bid/{productId} 구독 직후 /app/bid/{productId} 를 구독해서
+ * 현재 입찰 현황과 sequence 를 한 번 받음 (브로커를 거치지 않고 구독한 세션에만 응답)
+ * 이후 토픽 메시지 중 sequence 가 스냅샷 이하인 것은 이미 반영된 상태이므로 무시
+ */
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class BidSnapshotController {
+
+    private final BidSnapshotService bidSnapshotService;
+
+    @SubscribeMapping("/bid/{productId}")
+    public WebSocketMessage handleBidSubscribe(@DestinationVariable Long productId) {
+        BidSnapshotDto snapshot = bidSnapshotService.getSnapshot(productId);
+        log.debug("입찰 현황 스냅샷 전송 - 상품: {}, sequence: {}", productId, snapshot.sequence());
+
+        WebSocketMessage message = WebSocketMessage.of(
+                WebSocketMessage.MessageType.BID,
+                "system",
+                "현재 입찰 현황입니다.",
+                snapshot.bidStatus()
+        );
+        message.setSequence(snapshot.sequence());
+        if (snapshot.sequence() == null) {
+            message.setUnordered(true);
+        }
+        return message;
+    }
+}
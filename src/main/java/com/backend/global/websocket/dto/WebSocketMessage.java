@@ -1,5 +1,6 @@
 package com.backend.global.websocket.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +19,15 @@ public class WebSocketMessage {
     private String content;
     private Object data;
     private LocalDateTime timestamp;
+
+    // 입찰 메시지 전용: 상품별 단조 증가 순번 / 병합된 입찰 수 (누락 감지 및 재동기화용)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long sequence;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer foldedCount;
+    // sequence 를 발급하지 못한 입찰 메시지 (순서 판단 불가 → 클라이언트는 스냅샷으로 재동기화)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean unordered;
     
     public enum MessageType {
         CHAT,           // 메시지
@@ -1,6 +1,7 @@
 package com.backend.global.websocket.listener;
 
 import com.backend.domain.member.service.UserPresenceService;
+import com.backend.global.websocket.service.WebSocketSubscriptionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
 
 /**
  * WebSocket 세션 이벤트 리스너
@@ -21,6 +23,7 @@ import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 public class WebSocketEventListener {
     
     private final UserPresenceService userPresenceService;
+    private final WebSocketSubscriptionRegistry subscriptionRegistry;
     
     /**
      * WebSocket 연결 이벤트 처리
@@ -38,6 +41,8 @@ public class WebSocketEventListener {
             
             // 사용자를 온라인 상태로 설정
             userPresenceService.setUserOnline(userEmail, sessionId);
+            // 노드 로컬 사용자 세션 등록 (브로커 브리지 사용자 채널 구독용)
+            subscriptionRegistry.registerSession(sessionId, userEmail);
             
             log.info("WebSocket 연결 - 사용자: {}, 세션: {}", userEmail, sessionId);
         }
@@ -53,6 +58,8 @@ public class WebSocketEventListener {
         
         // 사용자를 오프라인 상태로 설정
         userPresenceService.setUserOffline(sessionId);
+        // 세션의 모든 구독 정리
+        subscriptionRegistry.removeSession(sessionId);
         
         log.info("WebSocket 연결 해제 - 세션: {}", sessionId);
     }
@@ -64,6 +71,10 @@ public class WebSocketEventListener {
     @EventListener
     public void handleWebSocketSubscribeListener(SessionSubscribeEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+
+        // 노드 로컬 구독 등록 (브로커 브리지 토픽 채널 구독용)
+        subscriptionRegistry.addSubscription(
+                headerAccessor.getSessionId(), headerAccessor.getSubscriptionId(), headerAccessor.getDestination());
         
         if (headerAccessor.getUser() != null) {
             String destination = headerAccessor.getDestination();
@@ -75,4 +86,13 @@ public class WebSocketEventListener {
             userPresenceService.refreshUserOnlineStatus(userEmail);
         }
     }
+
+    /**
+     * WebSocket 구독 해제 이벤트 처리
+     */
+    @EventListener
+    public void handleWebSocketUnsubscribeListener(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscriptionRegistry.removeSubscription(headerAccessor.getSessionId(), headerAccessor.getSubscriptionId());
+    }
 }
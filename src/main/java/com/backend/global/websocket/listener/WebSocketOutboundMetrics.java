@@ -0,0 +1,72 @@
+package com.backend.global.websocket.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * WebSocket 송신 메트릭
+ * - websocket.outbound.queue.size: clientOutboundChannel 대기 프레임 수
+ * - websocket.outbound.frames.dropped: 큐 초과/전송 실패로 버려진 프레임 수
+ * - websocket.slow_consumer.disconnects: 송신 버퍼/시간 제한 초과로 끊긴 세션 수
+ */
+@Slf4j
+@Component
+public class WebSocketOutboundMetrics implements ExecutorChannelInterceptor {
+
+    private final Counter droppedFrames;
+    private final Counter slowConsumerDisconnects;
+
+    public WebSocketOutboundMetrics(MeterRegistry meterRegistry,
+                                    @Qualifier("webSocketOutboundExecutor") ThreadPoolTaskExecutor webSocketOutboundExecutor) {
+        Gauge.builder("websocket.outbound.queue.size", webSocketOutboundExecutor,
+                        executor -> executor.getThreadPoolExecutor().getQueue().size())
+                .description("clientOutboundChannel 대기 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.active.threads", webSocketOutboundExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        this.droppedFrames = Counter.builder("websocket.outbound.frames.dropped")
+                .description("큐 초과/전송 실패로 버려진 프레임 수")
+                .register(meterRegistry);
+        this.slowConsumerDisconnects = Counter.builder("websocket.slow_consumer.disconnects")
+                .description("송신 버퍼/시간 제한 초과로 끊긴 세션 수")
+                .register(meterRegistry);
+    }
+
+    // 큐가 가득 차 executor 에 넣지 못한 경우
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || ex != null) {
+            droppedFrames.increment();
+        }
+    }
+
+    // 세션으로 프레임을 쓰는 중 실패한 경우
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (ex != null) {
+            droppedFrames.increment();
+        }
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        // 송신 제한 초과 시 Spring 이 SESSION_NOT_RELIABLE 로 세션을 종료함
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(event.getCloseStatus())) {
+            slowConsumerDisconnects.increment();
+            log.warn("느린 클라이언트 연결 종료 - 세션: {}", event.getSessionId());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.backend.global.websocket.service;
+
+import com.backend.global.websocket.bridge.WebSocketBrokerBridge;
+import com.backend.global.websocket.dto.WebSocketMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품별 입찰 브로드캐스트 병합(conflation)
+ * - 입찰 경쟁 중에는 최신 가격만 의미가 있으므로 상품 토픽당 flush 주기에 최대 1건만 전송
+ * - 유휴 상태의 첫 입찰은 즉시 전송하고, 주기 안에 들어온 입찰은 최신 것만 남겨 다음 flush 에 전송
+ * - 모든 입찰 메시지에 상품별 단조 증가 sequence 와 병합된 입찰 수(foldedCount)를 담아
+ *   클라이언트가 누락을 감지하고 재동기화할 수 있게 함
+ * - Redis 장애로 sequence 를 발급하지 못하면 노드 로컬 번호를 만들지 않고 unordered 로 표시해 전송
+ *   (노드마다 다른 번호가 섞이면 클라이언트가 순서를 잘못 판단하므로, 스냅샷으로 재동기화하게 함)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidBroadcastConflater {
+
+    private static final String SEQUENCE_KEY_PREFIX = "bid:seq:";
+    private static final long IDLE_STATE_EVICT_MS = 60_000;
+
+    private final WebSocketBrokerBridge brokerBridge;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${websocket.bid-conflation.enabled:false}")
+    private boolean enabled;
+
+    @Value("${websocket.bid-conflation.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    private final Map<Long, ProductState> states = new ConcurrentHashMap<>();
+
+    private static class ProductState {
+        private Object pending;
+        private int foldedCount;
+        private long lastSentAt;
+        private boolean evicted;
+    }
+
+    // 입찰 업데이트 제출 (병합 비활성화 시 즉시 전송)
+    public void submit(Long productId, Object bidData) {
+        if (!enabled) {
+            send(productId, bidData, 1);
+            return;
+        }
+
+        while (true) {
+            ProductState state = states.computeIfAbsent(productId, key -> new ProductState());
+            synchronized (state) {
+                if (state.evicted) {
+                    continue; // flush 에서 정리된 상태면 새로 생성
+                }
+                long now = System.currentTimeMillis();
+                if (state.pending != null || now - state.lastSentAt < flushIntervalMs) {
+                    state.pending = bidData;
+                    state.foldedCount++;
+                    return;
+                }
+                state.lastSentAt = now;
+            }
+            send(productId, bidData, 1);
+            return;
+        }
+    }
+
+    // 주기마다 병합된 최신 입찰 전송
+    @Scheduled(fixedDelayString = "${websocket.bid-conflation.flush-interval-ms:200}")
+    public void flush() {
+        if (!enabled || states.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        states.forEach((productId, state) -> {
+            Object latest;
+            int foldedCount;
+            synchronized (state) {
+                if (state.pending == null) {
+                    // 오래 유휴 상태인 상품은 정리
+                    if (now - state.lastSentAt > IDLE_STATE_EVICT_MS) {
+                        state.evicted = true;
+                        states.remove(productId, state);
+                    }
+                    return;
+                }
+                latest = state.pending;
+                foldedCount = state.foldedCount;
+                state.pending = null;
+                state.foldedCount = 0;
+                state.lastSentAt = now;
+            }
+            send(productId, latest, foldedCount);
+        });
+    }
+
+    // 마지막으로 발급된 sequence (구독 시점 스냅샷용, 발급 이력이 없으면 0, 조회 실패 시 null)
+    public Long currentSequence(Long productId) {
+        try {
+            Object sequence = redisTemplate.opsForValue().get(SEQUENCE_KEY_PREFIX + productId);
+            return sequence != null ? Long.parseLong(sequence.toString()) : 0L;
+        } catch (Exception e) {
+            log.warn("입찰 sequence 조회 실패 - 상품: {}", productId, e);
+            return null;
+        }
+    }
+
+    // ======================================= helper methods ======================================= //
+    private void send(Long productId, Object bidData, int foldedCount) {
+        WebSocketMessage message = WebSocketMessage.of(
+                WebSocketMessage.MessageType.BID,
+                "system",
+                "새로운 입찰이 등록되었습니다.",
+                bidData
+        );
+        Long sequence = nextSequence(productId);
+        message.setSequence(sequence);
+        message.setFoldedCount(foldedCount);
+        if (sequence == null) {
+            message.setUnordered(true);
+        }
+
+        try {
+            brokerBridge.publishToTopic("/topic/bid/" + productId, message);
+        } catch (Exception e) {
+            log.error("입찰 브로드캐스트 실패 - 상품: {}", productId, e);
+        }
+    }
+
+    // 상품별 단조 증가 sequence (노드 간 공유를 위해 Redis INCR, 발급 실패 시 null)
+    private Long nextSequence(Long productId) {
+        try {
+            return redisTemplate.opsForValue().increment(SEQUENCE_KEY_PREFIX + productId);
+        } catch (Exception e) {
+            log.warn("입찰 sequence 발급 실패 - unordered 로 전송: 상품 {}", productId, e);
+            return null;
+        }
+    }
+}
@@ -1,9 +1,9 @@
 package com.backend.global.websocket.service;
 
+import com.backend.global.websocket.bridge.WebSocketBrokerBridge;
 import com.backend.global.websocket.dto.WebSocketMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
@@ -12,28 +12,43 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketService {
-    
-    private final SimpMessagingTemplate messagingTemplate;
+
+    private static final String BID_TOPIC_PREFIX = "/topic/bid/";
+
+    private final WebSocketBrokerBridge brokerBridge;
+    private final BidBroadcastConflater bidBroadcastConflater;
+
+    // 상품 토픽 구독자(시청자)가 있는지 - 없으면 브로드캐스트 메시지 생성/전송 생략
+    public boolean hasWatchers(Long productId) {
+        return brokerBridge.hasSubscribers(BID_TOPIC_PREFIX + productId);
+    }
+
+    // 상품을 지금 보고 있는 사용자 수 (상품 토픽 구독 수)
+    public long getWatcherCount(Long productId) {
+        return brokerBridge.countSubscribers(BID_TOPIC_PREFIX + productId);
+    }
+
     
     // 특정 토픽에 메시지 브로드캐스트
     public void sendToTopic(String topic, WebSocketMessage message) {
-        log.info("토픽 {} 에 메시지 전송: {}", topic, message);
-        messagingTemplate.convertAndSend("/topic/" + topic, message);
+        log.debug("토픽 {} 에 메시지 전송: type={}", topic, message.getType());
+        brokerBridge.publishToTopic("/topic/" + topic, message);
     }
 
     // 입찰 정보 브로드캐스트 (상품별)
+    // - 입찰 경쟁 시 최신 입찰만 주기적으로 전송 (BidBroadcastConflater), sequence/foldedCount 포함
+    // - 구독자 확인은 호출 측에서 메시지 생성 전에 hasWatchers 로 수행
     public void broadcastBidUpdate(Long productId, Object bidData) {
-        WebSocketMessage message = WebSocketMessage.of(
-                WebSocketMessage.MessageType.BID,
-                "system",
-                "새로운 입찰이 등록되었습니다.",
-                bidData
-        );
-        sendToTopic("bid/" + productId, message);
+        bidBroadcastConflater.submit(productId, bidData);
     }
 
     // 경매 종료 임박 알림 브로드캐스트
     public void broadcastAuctionEndingSoon(Long productId, String productName) {
+        if (!hasWatchers(productId)) {
+            log.debug("구독자가 없어 브로드캐스트 생략 - 상품: {}", productId);
+            return;
+        }
+
         String content = String.format("'%s' 경매가 10분 후 종료됩니다!", productName);
             
         Object data = Map.of(
@@ -59,12 +74,24 @@ public class WebSocketService {
                 message,
                 data
         );
-        messagingTemplate.convertAndSendToUser(userEmail, "/queue/notifications", webSocketMessage);
+        brokerBridge.publishToUser(userEmail, "/queue/notifications", webSocketMessage);
         log.info("개인 알림 전송 - 사용자: {}, 메시지: {}", userEmail, message);
     }
 
+    // 읽지 않은 알림 개수 전송 (특정 사용자) - 클라이언트 폴링 대체
+    public void sendUnreadCountToUser(String userEmail, int unreadCount) {
+        brokerBridge.publishToUser(userEmail, "/queue/notifications/unread-count",
+                Map.of("unreadCount", unreadCount));
+        log.debug("읽지 않은 알림 개수 전송 - 사용자: {}, 개수: {}", userEmail, unreadCount);
+    }
+
     // 경매 종료 알림 브로드캐스트
     public void broadcastAuctionEnd(Long productId, boolean isSuccessful, Long finalPrice) {
+        if (!hasWatchers(productId)) {
+            log.debug("구독자가 없어 브로드캐스트 생략 - 상품: {}", productId);
+            return;
+        }
+
         String content = isSuccessful ? 
             "경매가 종료되었습니다! 낙찰가: " + finalPrice.toString() + "원" : 
             "경매가 종료되었습니다. 입찰이 없어 유찰되었습니다.";
@@ -89,6 +116,11 @@ public class WebSocketService {
      * 경매 시작 알림 브로드캐스트
      */
     public void broadcastAuctionStart(Long productId, String productName) {
+        if (!hasWatchers(productId)) {
+            log.debug("구독자가 없어 브로드캐스트 생략 - 상품: {}", productId);
+            return;
+        }
+
         String content = String.format("'%s' 경매가 시작되었습니다!", productName);
 
         Object data = Map.of(
@@ -0,0 +1,153 @@
+package com.backend.global.websocket.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 노드(서버 인스턴스) 로컬 구독 레지스트리
+ * - 이 노드에 연결된 세션들의 토픽 구독 수와 사용자별 세션 수를 관리
+ * - 구독자가 0 → 1, 1 → 0 으로 바뀌는 시점에 리스너에 알려
+ *   브로커 브리지가 해당 채널만 구독/해제할 수 있게 함 (구독자가 있는 노드로만 메시지 전달)
+ */
+@Component
+public class WebSocketSubscriptionRegistry {
+
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // destination -> 로컬 구독 수
+    private final Map<String, Integer> destinationCounts = new ConcurrentHashMap<>();
+    // sessionId -> userEmail
+    private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
+    // userEmail -> 로컬 세션 수
+    private final Map<String, Integer> userSessionCounts = new ConcurrentHashMap<>();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 구독 상태 변경 리스너
+     * 동시 변경 시 호출 순서가 뒤바뀔 수 있으므로 구현체는 콜백 시점의 레지스트리 상태를 다시 확인해야 함
+     */
+    public interface Listener {
+        default void onDestinationChanged(String destination) {}
+        default void onUserChanged(String userEmail) {}
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    // ======================================= session methods ======================================= //
+    public void registerSession(String sessionId, String userEmail) {
+        if (sessionId == null || userEmail == null) {
+            return;
+        }
+        if (sessionUsers.putIfAbsent(sessionId, userEmail) != null) {
+            return;
+        }
+        if (increment(userSessionCounts, userEmail)) {
+            listeners.forEach(listener -> listener.onUserChanged(userEmail));
+        }
+    }
+
+    // 세션 종료 시 해당 세션의 모든 구독과 사용자 세션 정리
+    public void removeSession(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        Map<String, String> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::releaseDestination);
+        }
+
+        String userEmail = sessionUsers.remove(sessionId);
+        if (userEmail != null && decrement(userSessionCounts, userEmail)) {
+            listeners.forEach(listener -> listener.onUserChanged(userEmail));
+        }
+    }
+
+    // ======================================= subscription methods ======================================= //
+    public void addSubscription(String sessionId, String subscriptionId, String destination) {
+        if (sessionId == null || subscriptionId == null || destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return;
+        }
+        String previous = sessionSubscriptions
+                .computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (destination.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            releaseDestination(previous);
+        }
+        if (increment(destinationCounts, destination)) {
+            listeners.forEach(listener -> listener.onDestinationChanged(destination));
+        }
+    }
+
+    public void removeSubscription(String sessionId, String subscriptionId) {
+        if (sessionId == null || subscriptionId == null) {
+            return;
+        }
+        Map<String, String> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) {
+            return;
+        }
+        String destination = subscriptions.remove(subscriptionId);
+        if (destination != null) {
+            releaseDestination(destination);
+        }
+    }
+
+    // ======================================= find/get methods ======================================= //
+    public int getSubscriberCount(String destination) {
+        return destinationCounts.getOrDefault(destination, 0);
+    }
+
+    public boolean hasLocalSubscribers(String destination) {
+        return getSubscriberCount(destination) > 0;
+    }
+
+    public boolean hasLocalUser(String userEmail) {
+        return userEmail != null && userSessionCounts.containsKey(userEmail);
+    }
+
+    public Set<String> getActiveDestinations() {
+        return Set.copyOf(destinationCounts.keySet());
+    }
+
+    public Set<String> getActiveUsers() {
+        return Set.copyOf(userSessionCounts.keySet());
+    }
+
+    // ======================================= helper methods ======================================= //
+    private void releaseDestination(String destination) {
+        if (decrement(destinationCounts, destination)) {
+            listeners.forEach(listener -> listener.onDestinationChanged(destination));
+        }
+    }
+
+    // 0 → 1 이 되었으면 true
+    private boolean increment(Map<String, Integer> counts, String key) {
+        return counts.merge(key, 1, Integer::sum) == 1;
+    }
+
+    // 1 → 0 이 되었으면 true (0 이 되면 키 제거)
+    private boolean decrement(Map<String, Integer> counts, String key) {
+        boolean[] removed = {false};
+        counts.computeIfPresent(key, (k, count) -> {
+            if (count <= 1) {
+                removed[0] = true;
+                return null;
+            }
+            return count - 1;
+        });
+        return removed[0];
+    }
+}
@@ -1,6 +1,9 @@
 package com.backend.domain.bid.controller;
 
 import com.backend.domain.bid.dto.BidRequestDto;
+import com.backend.domain.bid.entity.Bid;
+import com.backend.domain.bid.enums.BidStatus;
+import com.backend.domain.bid.repository.BidRepository;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.repository.MemberRepository;
 import com.backend.domain.product.entity.Product;
@@ -28,6 +31,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -56,6 +60,9 @@ class ApiV1BidControllerTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private BidRepository bidRepository;
+
     private Member bidder1;
     private Member bidder2;
     private Member seller;
@@ -296,4 +303,39 @@ class ApiV1BidControllerTest {
                 .andExpect(jsonPath("$.data.currentPage").value(page))
                 .andExpect(jsonPath("$.data.pageSize").value(size));
     }
+
+    @Test
+    @DisplayName("내 입찰 내역 커서 조회 - nextCursor 로 이어서 조회 후 마지막 페이지")
+    void t9() throws Exception {
+        // Given
+        List<Bid> bids = bidRepository.saveAll(List.of(
+                Bid.builder().bidPrice(1100000L).status(BidStatus.BIDDING).product(activeProduct).member(bidder1).build(),
+                Bid.builder().bidPrice(1200000L).status(BidStatus.BIDDING).product(activeProduct).member(bidder1).build(),
+                Bid.builder().bidPrice(1300000L).status(BidStatus.BIDDING).product(activeProduct).member(bidder1).build()
+        ));
+
+        // When & Then - 첫 페이지 (커서 없음)
+        mockMvc.perform(get("/api/v1/bids/me/cursor")
+                        .param("size", "2")
+                        .with(user(String.valueOf(bidder1.getId()))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].bidId").value(bids.get(2).getId()))
+                .andExpect(jsonPath("$.data.content[1].bidId").value(bids.get(1).getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(bids.get(1).getId()));
+
+        // When & Then - 마지막 페이지
+        mockMvc.perform(get("/api/v1/bids/me/cursor")
+                        .param("cursor", String.valueOf(bids.get(1).getId()))
+                        .param("size", "2")
+                        .with(user(String.valueOf(bidder1.getId()))))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].bidId").value(bids.get(0).getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
 }
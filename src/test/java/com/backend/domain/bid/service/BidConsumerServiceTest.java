@@ -0,0 +1,122 @@
+package com.backend.domain.bid.service;
+
+import com.backend.domain.bid.dto.BidMessageDto;
+import com.backend.domain.bid.repository.BidRepository;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.entity.StandardProduct;
+import com.backend.domain.product.enums.AuctionStatus;
+import com.backend.domain.product.enums.DeliveryMethod;
+import com.backend.domain.product.enums.ProductCategory;
+import com.backend.domain.product.event.ProductPriceChangedEvent;
+import com.backend.domain.product.repository.jpa.ProductRepository;
+import com.backend.global.outbox.entity.OutboxEvent;
+import com.backend.global.outbox.repository.OutboxEventRepository;
+import com.backend.global.redis.TestRedisConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@ActiveProfiles("bidtest")
+@Import({TestRedisConfiguration.class})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class BidConsumerServiceTest {
+
+    @Autowired
+    private BidConsumerService bidConsumerService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private Product product;
+    private Member bidder;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.builder()
+                .email("consumer-seller@test.com")
+                .password("password")
+                .nickname("큐판매자")
+                .phoneNumber("01011112222")
+                .address("서울시 강남구")
+                .authority("ROLE_USER")
+                .build());
+        bidder = memberRepository.save(Member.builder()
+                .email("consumer-bidder@test.com")
+                .password("password")
+                .nickname("큐입찰자")
+                .phoneNumber("01033334444")
+                .address("서울시 강남구")
+                .authority("ROLE_USER")
+                .build());
+
+        product = productRepository.save(StandardProduct.testBuilder()
+                .productName("큐입찰상품")
+                .description("입찰 큐 처리 테스트용 상품")
+                .category(ProductCategory.DIGITAL_ELECTRONICS)
+                .initialPrice(10000L)
+                .currentPrice(10000L)
+                .status(AuctionStatus.BIDDING.getDisplayName())
+                .startTime(LocalDateTime.now().minusDays(1))
+                .endTime(LocalDateTime.now().plusDays(7))
+                .duration(192)
+                .deliveryMethod(DeliveryMethod.DELIVERY)
+                .location("서울시")
+                .seller(seller)
+                .testBuild());
+    }
+
+    @Test
+    @DisplayName("bid_queue 로 들어온 입찰은 입찰 저장과 같은 트랜잭션에서 아웃박스 이벤트를 남김")
+    void consumeBidQueue_writesOutboxEvent() throws Exception {
+        // given
+        BidMessageDto message = new BidMessageDto(product.getId(), bidder.getId(), 15000L);
+        stringRedisTemplate.opsForList().rightPush("bid_queue", objectMapper.writeValueAsString(message));
+
+        // when (스케줄러가 먼저 꺼내 처리할 수도 있으므로 결과가 보일 때까지 직접 소비하며 대기)
+        List<OutboxEvent> events = List.of();
+        for (int i = 0; i < 50 && events.isEmpty(); i++) {
+            bidConsumerService.consumeBidQueue();
+            events = outboxEventRepository.findAll();
+            if (events.isEmpty()) {
+                Thread.sleep(100);
+            }
+        }
+
+        // then
+        assertThat(bidRepository.findHighestBidPrice(product.getId())).contains(15000L);
+        assertThat(events)
+                .extracting(OutboxEvent::getAggregateId, OutboxEvent::getEventType)
+                .contains(tuple(product.getId(), ProductPriceChangedEvent.class.getSimpleName()));
+    }
+}
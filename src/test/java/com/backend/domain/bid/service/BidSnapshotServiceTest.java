@@ -0,0 +1,105 @@
+package com.backend.domain.bid.service;
+
+import com.backend.domain.bid.dto.BidCurrentResponseDto;
+import com.backend.domain.bid.dto.BidSnapshotDto;
+import com.backend.global.response.RsData;
+import com.backend.global.websocket.service.BidBroadcastConflater;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidSnapshotServiceTest {
+
+    @Mock
+    private BidService bidService;
+
+    @Mock
+    private BidBroadcastConflater bidBroadcastConflater;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private BidSnapshotService bidSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        bidSnapshotService = new BidSnapshotService(bidService, bidBroadcastConflater, redisTemplate, objectMapper);
+        ReflectionTestUtils.setField(bidSnapshotService, "ttlSeconds", 3L);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 sequence 를 먼저 읽고 입찰 현황을 조회해서 캐시")
+    void getSnapshot_cacheMiss() {
+        // given
+        BidCurrentResponseDto status = bidStatus(15000L);
+        when(valueOperations.get("bid:snapshot:1")).thenReturn(null);
+        when(bidBroadcastConflater.currentSequence(1L)).thenReturn(7L);
+        when(bidService.getBidStatus(1L)).thenReturn(RsData.ok("입찰 현황이 조회되었습니다.", status));
+
+        // when
+        BidSnapshotDto snapshot = bidSnapshotService.getSnapshot(1L);
+
+        // then
+        assertThat(snapshot.sequence()).isEqualTo(7L);
+        assertThat(snapshot.bidStatus().currentPrice()).isEqualTo(15000L);
+
+        InOrder inOrder = inOrder(bidBroadcastConflater, bidService);
+        inOrder.verify(bidBroadcastConflater).currentSequence(1L);
+        inOrder.verify(bidService).getBidStatus(1L);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq("bid:snapshot:1"), json.capture(), eq(Duration.ofSeconds(3)));
+        assertThat(json.getValue()).contains("\"sequence\":7");
+    }
+
+    @Test
+    @DisplayName("캐시가 있으면 DB 조회 없이 캐시된 스냅샷 반환")
+    void getSnapshot_cacheHit() throws Exception {
+        // given
+        BidSnapshotDto cached = new BidSnapshotDto(3L, bidStatus(12000L));
+        when(valueOperations.get("bid:snapshot:1")).thenReturn(objectMapper.writeValueAsString(cached));
+
+        // when
+        BidSnapshotDto snapshot = bidSnapshotService.getSnapshot(1L);
+
+        // then
+        assertThat(snapshot.sequence()).isEqualTo(3L);
+        assertThat(snapshot.bidStatus().currentPrice()).isEqualTo(12000L);
+        verify(bidService, never()).getBidStatus(anyLong());
+        verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+    }
+
+    private BidCurrentResponseDto bidStatus(Long currentPrice) {
+        return new BidCurrentResponseDto(
+                1L, "테스트 상품", currentPrice, 10000L, 2, "경매 중",
+                LocalDateTime.now().plusDays(1),
+                List.of(new BidCurrentResponseDto.RecentBid(currentPrice, LocalDateTime.now(), "입*자"))
+        );
+    }
+}
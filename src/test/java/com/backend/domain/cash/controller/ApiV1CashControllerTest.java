@@ -132,6 +132,32 @@ class ApiV1CashControllerTest {
                 .andExpect(jsonPath("$.data.items[1].related.id", is(101)));
     }
 
+    // ============ /api/v1/cash/transactions/cursor ============
+    @Test
+    @WithMockUser(username = "me@test.com")
+    void 내_원장_커서_목록_200_다음커서_마지막페이지() throws Exception {
+        // 첫 페이지: 최신(출금) 1건 + 다음 커서
+        mvc.perform(get("/api/v1/cash/transactions/cursor")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].transactionId", is(txWithdraw.getId().intValue())))
+                .andExpect(jsonPath("$.data.hasNext", is(true)))
+                .andExpect(jsonPath("$.data.nextCursor", is(txWithdraw.getId().intValue())));
+
+        // 마지막 페이지: 입금 1건, 다음 커서 없음 (다른 사람 원장은 섞이지 않음)
+        mvc.perform(get("/api/v1/cash/transactions/cursor")
+                        .param("cursor", String.valueOf(txWithdraw.getId()))
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].transactionId", is(txDeposit.getId().intValue())))
+                .andExpect(jsonPath("$.data.hasNext", is(false)))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
     @Test
     void 내_원장_목록_인증없으면_401() throws Exception {
         mvc.perform(get("/api/v1/cash/transactions"))
@@ -0,0 +1,137 @@
+package com.backend.domain.member.service;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+import com.backend.global.config.NodeIdentity;
+import com.backend.global.elasticsearch.TestElasticsearchConfiguration;
+import com.backend.global.redis.TestRedisConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import({TestElasticsearchConfiguration.class, TestRedisConfiguration.class})
+class UserPresenceServiceTest {
+
+    @Autowired
+    private UserPresenceService userPresenceService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Autowired
+    private NodeIdentity nodeIdentity;
+
+    private Member bidder1;
+    private Member bidder2;
+
+    @BeforeEach
+    void setUp() {
+        Set<String> keys = stringRedisTemplate.keys("presence:*");
+        if (keys != null && !keys.isEmpty()) {
+            stringRedisTemplate.delete(keys);
+        }
+        userPresenceService.startNode();
+        bidder1 = memberRepository.findByNickname("입찰자1").get();
+        bidder2 = memberRepository.findByNickname("입찰자2").get();
+    }
+
+    @Test
+    @DisplayName("마지막 세션이 끊길 때만 오프라인 처리")
+    void setUserOffline_keepsOnlineWhileOtherSessionExists() {
+        // given
+        userPresenceService.setUserOnline(bidder1.getEmail(), "session-1");
+        userPresenceService.setUserOnline(bidder1.getEmail(), "session-2");
+
+        // when
+        userPresenceService.setUserOffline("session-1");
+
+        // then
+        assertThat(userPresenceService.isUserOnlineById(bidder1.getId())).isTrue();
+
+        // when
+        userPresenceService.setUserOffline("session-2");
+
+        // then
+        assertThat(userPresenceService.isUserOnlineById(bidder1.getId())).isFalse();
+        assertThat(userPresenceService.getOnlineUserCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("온라인 상태는 lease 가 살아있는 노드들의 합집합")
+    void getOnlineMemberIds_unionOfLiveNodes() {
+        // given - 이 노드에 입찰자1, 다른 살아있는 노드에 입찰자2, lease 가 만료된 노드에 입찰자2
+        userPresenceService.setUserOnline(bidder1.getEmail(), "session-1");
+        registerRemoteNode("node-live", bidder2.getId(), true);
+        registerRemoteNode("node-dead", bidder1.getId() + 1000, false);
+
+        try {
+            // when
+            Set<Long> onlineIds = userPresenceService.getOnlineMemberIds(
+                    List.of(bidder1.getId(), bidder2.getId(), bidder1.getId() + 1000));
+
+            // then
+            assertThat(onlineIds).containsExactlyInAnyOrder(bidder1.getId(), bidder2.getId());
+            assertThat(userPresenceService.getOnlineUserCount()).isEqualTo(2L);
+        } finally {
+            userPresenceService.setUserOffline("session-1");
+        }
+    }
+
+    @Test
+    @DisplayName("lease 가 만료된 노드의 접속 상태만 정리")
+    void reapDeadNodes() {
+        // given
+        registerRemoteNode("node-live", bidder1.getId(), true);
+        registerRemoteNode("node-dead", bidder2.getId(), false);
+
+        // when
+        int reaped = userPresenceService.reapDeadNodes();
+
+        // then
+        assertThat(reaped).isEqualTo(1);
+        assertThat(stringRedisTemplate.hasKey("presence:node:node-dead")).isFalse();
+        assertThat(stringRedisTemplate.opsForSet().members("presence:nodes"))
+                .containsExactlyInAnyOrder("node-live", nodeIdentity.getNodeId());
+    }
+
+    @Test
+    @DisplayName("노드 재시작 시 자기 노드의 이전 접속 기록만 정리")
+    void startNode_reapsOnlyOwnStaleSessions() {
+        // given - 이전 실행에서 남은 이 노드의 접속 기록과 다른 노드의 접속 기록
+        stringRedisTemplate.opsForValue().setBit("presence:node:" + nodeIdentity.getNodeId(), bidder1.getId(), true);
+        registerRemoteNode("node-live", bidder2.getId(), true);
+
+        // when
+        userPresenceService.startNode();
+
+        // then
+        assertThat(userPresenceService.isUserOnlineById(bidder1.getId())).isFalse();
+        assertThat(userPresenceService.isUserOnlineById(bidder2.getId())).isTrue();
+    }
+
+    private void registerRemoteNode(String nodeId, Long memberId, boolean alive) {
+        stringRedisTemplate.opsForValue().setBit("presence:node:" + nodeId, memberId, true);
+        stringRedisTemplate.opsForSet().add("presence:nodes", nodeId);
+        if (alive) {
+            stringRedisTemplate.opsForValue().set("presence:lease:" + nodeId, "1", Duration.ofSeconds(30));
+        }
+    }
+}
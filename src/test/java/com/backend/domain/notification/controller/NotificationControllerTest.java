@@ -9,6 +9,9 @@ import com.backend.domain.product.repository.jpa.ProductRepository;
 import com.backend.global.elasticsearch.TestElasticsearchConfiguration;
 import com.backend.global.redis.TestRedisConfiguration;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,8 +25,12 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -53,6 +60,9 @@ class NotificationControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Member testMember;
     private Product testProduct;
     private Notification readNotification;
@@ -329,4 +339,125 @@ class NotificationControllerTest {
                 .andExpect(jsonPath("$.data.content.length()").value(3)) // 여전히 3개만
                 .andExpect(jsonPath("$.data.totalElements").value(3));
     }
+
+    @Test
+    @DisplayName("커서 기반 알림 목록 조회 - 최신순으로 이어서 조회")
+    void getNotificationsByCursor_Success() throws Exception {
+        // 첫 페이지 (커서 없음)
+        mockMvc.perform(get("/notifications/cursor")
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].id").value(unreadNotification2.getId()))
+                .andExpect(jsonPath("$.data.content[1].id").value(unreadNotification1.getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value(unreadNotification1.getId()))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
+
+        // 다음 페이지 (마지막 페이지)
+        mockMvc.perform(get("/notifications/cursor")
+                        .param("cursor", String.valueOf(unreadNotification1.getId()))
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(readNotification.getId()))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("커서 기반 알림 목록 조회 - 읽음 상태 필터")
+    void getNotificationsByCursor_UnreadFilter() throws Exception {
+        mockMvc.perform(get("/notifications/cursor")
+                        .param("size", "10")
+                        .param("isRead", "false")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[*].isRead").value(everyItem(is(false))))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("커서 기반 알림 목록 조회 - 범위를 벗어난 size 는 기본값으로 보정")
+    void getNotificationsByCursor_SizeCapped() throws Exception {
+        mockMvc.perform(get("/notifications/cursor")
+                        .param("size", "100000")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(20))
+                .andExpect(jsonPath("$.data.content.length()").value(3))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("커서 기반 알림 목록 조회 - 1,000페이지 깊이의 커서도 첫 페이지와 같은 비용으로 조회")
+    void getNotificationsByCursor_DeepCursor() throws Exception {
+        int size = 2;
+        int pages = 1_000;
+
+        // 알림 2,000건 추가 생성 (size 2 기준 1,000페이지 분량)
+        List<Notification> bulk = new ArrayList<>();
+        for (int i = 0; i < size * pages; i++) {
+            Notification notification = new Notification();
+            notification.setMessage("커서 테스트 알림 " + i);
+            notification.setNotificationType("BID_SUCCESS");
+            notification.setIsRead(true);
+            notification.setMember(testMember);
+            notification.setQueueStatus(Notification.QueueStatus.SENT);
+            notification.setRetryCount(0);
+            bulk.add(notification);
+        }
+        notificationRepository.saveAll(bulk);
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        // 첫 페이지 (커서 없음)
+        resetPersistenceContext(statistics);
+        mockMvc.perform(get("/notifications/cursor")
+                        .param("size", String.valueOf(size))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(size))
+                .andExpect(jsonPath("$.data.content[0].message").value("커서 테스트 알림 1999"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+        long firstPageLoads = statistics.getEntityStatistics(Notification.class.getName()).getLoadCount();
+        long firstPageStatements = statistics.getPrepareStatementCount();
+
+        // 1,000번째 페이지 커서: 앞의 1,998건을 건너뛴 위치
+        Long deepCursor = bulk.get(size + 1).getId();
+        resetPersistenceContext(statistics);
+        mockMvc.perform(get("/notifications/cursor")
+                        .param("cursor", String.valueOf(deepCursor))
+                        .param("size", String.valueOf(size))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(size))
+                .andExpect(jsonPath("$.data.content[0].message").value("커서 테스트 알림 2"))
+                .andExpect(jsonPath("$.data.content[1].message").value("커서 테스트 알림 1"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+        long deepPageLoads = statistics.getEntityStatistics(Notification.class.getName()).getLoadCount();
+        long deepPageStatements = statistics.getPrepareStatementCount();
+
+        // 깊이와 무관하게 size + 1 건만 읽고, 쿼리 수도 첫 페이지와 동일 (OFFSET 스캔/COUNT 없음)
+        assertThat(firstPageLoads).isEqualTo(size + 1);
+        assertThat(deepPageLoads).isEqualTo(firstPageLoads);
+        assertThat(deepPageStatements).isEqualTo(firstPageStatements);
+    }
+
+    // 저장한 엔티티가 1차 캐시에서 재사용되지 않도록 비우고 통계를 초기화
+    private void resetPersistenceContext(Statistics statistics) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
 }
@@ -10,6 +10,7 @@ import com.backend.domain.product.repository.jpa.ProductRepository;
 import com.backend.global.elasticsearch.TestElasticsearchConfiguration;
 import com.backend.global.redis.TestRedisConfiguration;
 import com.backend.global.websocket.service.WebSocketService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -49,6 +50,9 @@ class BidNotificationServiceTest {
     @Autowired
     private ProductRepository productRepository;
     
+    @Autowired
+    private EntityManager entityManager;
+
     @MockitoBean
     private WebSocketService webSocketService;
 
@@ -114,6 +118,59 @@ class BidNotificationServiceTest {
         assertThat(savedNotification.getMessage()).contains("40,000"); // 천단위 구분자 포함
     }
 
+    @Test
+    @DisplayName("병합 윈도우 안의 반복 밀림 알림은 하나의 알림으로 병합")
+    void notifyBidOutbid_CoalescedWithinWindow() {
+        // Given
+        Member member = createTestMember();
+        Product product = createTestProduct();
+
+        // When - 입찰 경쟁으로 연속 밀림
+        bidNotificationService.notifyBidOutbid(member.getId(), product, 30000L, 40000L);
+        bidNotificationService.notifyBidOutbid(member.getId(), product, 30000L, 45000L);
+        bidNotificationService.notifyBidOutbid(member.getId(), product, 30000L, 52000L);
+        entityManager.clear();
+
+        // Then - 즉시 푸시/저장은 첫 번째만, 알림에는 최신 가격 반영
+        verify(webSocketService, times(1)).sendNotificationToUser(
+                eq(member.getEmail()),
+                contains("밀렸습니다"),
+                any()
+        );
+
+        List<Notification> notifications = notificationRepository.findAll();
+        assertThat(notifications).hasSize(1);
+
+        Notification coalesced = notifications.get(0);
+        assertThat(coalesced.getMessage()).contains("52,000");
+        assertThat(coalesced.getQueueStatus()).isEqualTo(Notification.QueueStatus.PENDING);
+        assertThat(coalesced.getScheduledTime()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("기존 알림을 읽었으면 병합하지 않고 새 알림 생성")
+    void notifyBidOutbid_NotCoalescedAfterRead() {
+        // Given
+        Member member = createTestMember();
+        Product product = createTestProduct();
+        bidNotificationService.notifyBidOutbid(member.getId(), product, 30000L, 40000L);
+
+        Notification first = notificationRepository.findAll().get(0);
+        first.setIsRead(true);
+        notificationRepository.saveAndFlush(first);
+
+        // When
+        bidNotificationService.notifyBidOutbid(member.getId(), product, 30000L, 45000L);
+
+        // Then
+        verify(webSocketService, times(2)).sendNotificationToUser(
+                eq(member.getEmail()),
+                contains("밀렸습니다"),
+                any()
+        );
+        assertThat(notificationRepository.findAll()).hasSize(2);
+    }
+
     @Test
     @DisplayName("낙찰 알림 테스트")
     void notifyAuctionWon() {
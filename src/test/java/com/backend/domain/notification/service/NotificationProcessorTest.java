@@ -0,0 +1,99 @@
+package com.backend.domain.notification.service;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.service.UserPresenceService;
+import com.backend.domain.notification.entity.Notification;
+import com.backend.global.websocket.service.WebSocketService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationProcessorTest {
+
+    @Mock
+    private UserPresenceService userPresenceService;
+
+    @Mock
+    private WebSocketService webSocketService;
+
+    @InjectMocks
+    private NotificationProcessor notificationProcessor;
+
+    @Test
+    @DisplayName("배치 수신자 온라인 상태는 한 번에 조회")
+    void resolveOnlineRecipients() {
+        // given
+        List<Notification> notifications = List.of(
+                createNotification(1L, "a@test.com"),
+                createNotification(2L, "b@test.com"),
+                createNotification(1L, "a@test.com")
+        );
+        when(userPresenceService.getOnlineMemberIds(anyList())).thenReturn(Set.of(1L));
+
+        // when
+        Set<Long> onlineMemberIds = notificationProcessor.resolveOnlineRecipients(notifications);
+
+        // then
+        assertThat(onlineMemberIds).containsExactly(1L);
+        verify(userPresenceService, times(1)).getOnlineMemberIds(anyList());
+        verify(userPresenceService, never()).isUserOnlineById(anyLong());
+    }
+
+    @Test
+    @DisplayName("미리 조회한 온라인 상태로 전송 - 온라인이면 WebSocket 전송")
+    void processNotification_online() {
+        // given
+        Notification notification = createNotification(1L, "a@test.com");
+
+        // when
+        boolean result = notificationProcessor.processNotification(notification, true);
+
+        // then
+        assertThat(result).isTrue();
+        verify(webSocketService, times(1)).sendNotificationToUser(eq("a@test.com"), eq("테스트 알림"), any());
+        verify(userPresenceService, never()).isUserOnlineById(anyLong());
+    }
+
+    @Test
+    @DisplayName("미리 조회한 온라인 상태로 전송 - 오프라인이면 전송하지 않고 성공 처리")
+    void processNotification_offline() {
+        // given
+        Notification notification = createNotification(2L, "b@test.com");
+
+        // when
+        boolean result = notificationProcessor.processNotification(notification, false);
+
+        // then
+        assertThat(result).isTrue();
+        verify(webSocketService, never()).sendNotificationToUser(anyString(), anyString(), any());
+    }
+
+    private Notification createNotification(Long memberId, String email) {
+        Member member = Member.builder()
+                .id(memberId)
+                .email(email)
+                .nickname("테스트유저")
+                .build();
+
+        Notification notification = new Notification();
+        notification.setMember(member);
+        notification.setMessage("테스트 알림");
+        notification.setNotificationType("BID_SUCCESS");
+        return notification;
+    }
+}
@@ -0,0 +1,140 @@
+package com.backend.domain.notification.service;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.notification.entity.Notification;
+import com.backend.domain.notification.repository.NotificationArchiveRepository;
+import com.backend.domain.notification.repository.NotificationRepository;
+import com.backend.global.elasticsearch.TestElasticsearchConfiguration;
+import com.backend.global.redis.TestRedisConfiguration;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@Import({TestElasticsearchConfiguration.class, TestRedisConfiguration.class})
+class NotificationRetentionServiceTest {
+
+    @Autowired
+    private NotificationRetentionService notificationRetentionService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationArchiveRepository notificationArchiveRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository.deleteAll();
+        notificationArchiveRepository.deleteAll();
+        member = memberRepository.findByNickname("입찰자1").get();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 읽은 알림만 보관 테이블로 이동")
+    void processBatch_archivesOldReadNotifications() {
+        // given
+        Notification oldRead = createNotification(true, Notification.QueueStatus.SENT, 40);
+        Notification oldUnread = createNotification(false, Notification.QueueStatus.SENT, 40);
+        Notification recentRead = createNotification(true, Notification.QueueStatus.SENT, 1);
+        Notification oldPending = createNotification(true, Notification.QueueStatus.PENDING, 40);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        int processed = notificationRetentionService.processBatch(now.minusDays(30), now.minusDays(90), 100, true);
+        entityManager.clear();
+
+        // then
+        assertThat(processed).isEqualTo(1);
+        assertThat(notificationRepository.findById(oldRead.getId())).isEmpty();
+        assertThat(notificationRepository.findById(oldUnread.getId())).isPresent();
+        assertThat(notificationRepository.findById(recentRead.getId())).isPresent();
+        assertThat(notificationRepository.findById(oldPending.getId())).isPresent();
+
+        assertThat(notificationArchiveRepository.findById(oldRead.getId()))
+                .hasValueSatisfying(archived -> {
+                    assertThat(archived.getMemberId()).isEqualTo(member.getId());
+                    assertThat(archived.getMessage()).isEqualTo(oldRead.getMessage());
+                    assertThat(archived.getArchivedAt()).isNotNull();
+                });
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림은 더 긴 보관 기간 이후 정리, purge 모드는 보관 테이블에 남기지 않음")
+    void processBatch_purgesOldUnreadNotifications() {
+        // given
+        Notification veryOldUnread = createNotification(false, Notification.QueueStatus.SENT, 100);
+        Notification exhaustedFailed = createNotification(false, Notification.QueueStatus.FAILED, 100);
+        exhaustedFailed.setRetryCount(3);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        int processed = notificationRetentionService.processBatch(now.minusDays(30), now.minusDays(90), 100, false);
+        entityManager.clear();
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        assertThat(notificationRepository.findById(veryOldUnread.getId())).isEmpty();
+        assertThat(notificationArchiveRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼만 처리")
+    void processBatch_respectsBatchSize() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            createNotification(true, Notification.QueueStatus.SENT, 40);
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        int first = notificationRetentionService.processBatch(now.minusDays(30), now.minusDays(90), 3, true);
+        int second = notificationRetentionService.processBatch(now.minusDays(30), now.minusDays(90), 3, true);
+
+        // then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(2);
+        assertThat(notificationArchiveRepository.count()).isEqualTo(5);
+    }
+
+    private Notification createNotification(boolean isRead, Notification.QueueStatus status, int daysAgo) {
+        Notification notification = new Notification();
+        notification.setMessage("보관 테스트 알림");
+        notification.setNotificationType("BID_SUCCESS");
+        notification.setIsRead(isRead);
+        notification.setMember(member);
+        notification.setQueueStatus(status);
+        notification.setRetryCount(0);
+        notificationRepository.saveAndFlush(notification);
+
+        // 생성일은 감사(Auditing) 필드라 직접 갱신
+        entityManager.createNativeQuery("UPDATE notifications SET create_date = ? WHERE id = ?")
+                .setParameter(1, LocalDateTime.now().minusDays(daysAgo))
+                .setParameter(2, notification.getId())
+                .executeUpdate();
+        return notification;
+    }
+}
@@ -0,0 +1,119 @@
+package com.backend.domain.notification.service;
+
+import com.backend.domain.notification.repository.NotificationRepository;
+import com.backend.global.websocket.service.WebSocketService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationUnreadCounterTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private WebSocketService webSocketService;
+
+    @InjectMocks
+    private NotificationUnreadCounter notificationUnreadCounter;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("캐시 히트 시 DB COUNT 없이 반환")
+    void getUnreadCount_hit() {
+        // given
+        when(valueOperations.get("notification:unread:1")).thenReturn("7");
+
+        // when
+        int count = notificationUnreadCounter.getUnreadCount(1L);
+
+        // then
+        assertThat(count).isEqualTo(7);
+        verify(notificationRepository, never()).countUnreadNotifications(anyLong());
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 DB에서 재계산 후 캐싱")
+    void getUnreadCount_miss() {
+        // given
+        when(valueOperations.get("notification:unread:1")).thenReturn(null);
+        when(notificationRepository.countUnreadNotifications(1L)).thenReturn(3);
+
+        // when
+        int count = notificationUnreadCounter.getUnreadCount(1L);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        verify(valueOperations).setIfAbsent(eq("notification:unread:1"), eq("3"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("증가 시 변경된 개수를 사용자 큐로 전송")
+    @SuppressWarnings("unchecked")
+    void increment_pushesCount() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("notification:unread:1")), eq("1")))
+                .thenReturn(4L);
+
+        // when (트랜잭션 밖에서는 즉시 반영)
+        notificationUnreadCounter.increment(1L, "a@test.com");
+
+        // then
+        verify(webSocketService).sendUnreadCountToUser("a@test.com", 4);
+        verify(notificationRepository, never()).countUnreadNotifications(anyLong());
+    }
+
+    @Test
+    @DisplayName("키가 없을 때 증가하면 DB에서 재계산한 값을 전송")
+    @SuppressWarnings("unchecked")
+    void increment_missRecomputes() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any())).thenReturn(-1L);
+        when(notificationRepository.countUnreadNotifications(1L)).thenReturn(5);
+
+        // when
+        notificationUnreadCounter.increment(1L, "a@test.com");
+
+        // then
+        verify(webSocketService).sendUnreadCountToUser("a@test.com", 5);
+    }
+
+    @Test
+    @DisplayName("전체 읽음 처리 시 0으로 초기화")
+    void reset() {
+        // when
+        notificationUnreadCounter.reset(1L, "a@test.com");
+
+        // then
+        verify(valueOperations).set(eq("notification:unread:1"), eq("0"), any(Duration.class));
+        verify(webSocketService).sendUnreadCountToUser("a@test.com", 0);
+    }
+}
@@ -188,6 +188,49 @@ class ApiV1PaymentControllerTest {
                 .andExpect(jsonPath("$.data.items[0].status", notNullValue()));
     }
 
+    // 내 결제 목록 커서 조회 (다음 커서 → 마지막 페이지)
+    @Test
+    @WithMockUser(username = "pay@test.com")
+    void get_my_payments_by_cursor() throws Exception {
+        given(tossBillingClientService.charge(eq(billingKey), anyLong(), anyString(), anyString()))
+                .willReturn(PgChargeResultResponse.builder().success(true).transactionId("k-cursor").build());
+
+        // 결제 2건 생성 (1,000원 → 2,000원 순)
+        for (long amount : new long[]{1_000L, 2_000L}) {
+            PaymentRequest req = new PaymentRequest();
+            req.setPaymentMethodId(pmCard.getId());
+            req.setAmount(amount);
+            req.setIdempotencyKey("idem-cursor-" + amount);
+
+            mockMvc.perform(post("/api/v1/payments")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(om.writeValueAsString(req)))
+                    .andExpect(status().isCreated());
+        }
+
+        // 첫 페이지: 최신 결제(2,000원) + 다음 커서
+        String body = mockMvc.perform(get("/api/v1/payments/me/cursor")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].amount", is(2_000)))
+                .andExpect(jsonPath("$.data.hasNext", is(true)))
+                .andExpect(jsonPath("$.data.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+
+        long nextCursor = om.readTree(body).path("data").path("nextCursor").asLong();
+
+        // 마지막 페이지: 이전 결제(1,000원), 다음 커서 없음
+        mockMvc.perform(get("/api/v1/payments/me/cursor")
+                        .param("cursor", String.valueOf(nextCursor))
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].amount", is(1_000)))
+                .andExpect(jsonPath("$.data.hasNext", is(false)))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
     // 4) 내 결제 단건 상세
     @Test
     @WithMockUser(username = "pay@test.com")
@@ -0,0 +1,101 @@
+package com.backend.domain.product.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCountCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        countQueries.set(0);
+    }
+
+    @Test
+    @DisplayName("캐시에 있으면 COUNT 쿼리 없이 캐시 값 반환")
+    void get_hit() {
+        // given
+        ProductCountCache cache = new ProductCountCache(stringRedisTemplate, new SimpleMeterRegistry(), 30);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn("42");
+
+        // when
+        long count = cache.get("search|k=아이폰", this::count);
+
+        // then
+        assertThat(count).isEqualTo(42L);
+        assertThat(countQueries).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 COUNT 후 TTL 로 저장")
+    void get_missStoresWithTtl() {
+        // given
+        ProductCountCache cache = new ProductCountCache(stringRedisTemplate, new SimpleMeterRegistry(), 30);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        long count = cache.get("search|k=아이폰", this::count);
+
+        // then
+        assertThat(count).isEqualTo(7L);
+        verify(valueOperations).set(startsWith("product:count:"), eq("7"), eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 직접 COUNT")
+    void get_redisFailure() {
+        // given
+        ProductCountCache cache = new ProductCountCache(stringRedisTemplate, new SimpleMeterRegistry(), 30);
+        when(stringRedisTemplate.opsForValue()).thenThrow(new IllegalStateException("Redis 연결 실패"));
+
+        // when
+        long count = cache.get("search|k=아이폰", this::count);
+
+        // then
+        assertThat(count).isEqualTo(7L);
+        assertThat(countQueries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("TTL 이 0 이면 캐시하지 않음")
+    void get_disabled() {
+        // given
+        ProductCountCache cache = new ProductCountCache(stringRedisTemplate, new SimpleMeterRegistry(), 0);
+
+        // when
+        cache.get("search|k=아이폰", this::count);
+
+        // then
+        assertThat(countQueries).hasValue(1);
+        verifyNoInteractions(stringRedisTemplate);
+    }
+
+    private long count() {
+        countQueries.incrementAndGet();
+        return 7L;
+    }
+}
@@ -0,0 +1,169 @@
+package com.backend.domain.product.cache;
+
+import com.backend.domain.product.dto.response.ProductResponse;
+import com.backend.domain.product.dto.response.component.SellerDto;
+import com.backend.global.config.NodeIdentity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductDetailCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private SimpleMeterRegistry meterRegistry;
+    private ProductDetailCache productDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productDetailCache = new ProductDetailCache(stringRedisTemplate, objectMapper, new NodeIdentity("node-a"),
+                meterRegistry, 10, 60, 100);
+    }
+
+    @Test
+    @DisplayName("로컬 TTL 이 지난 evict 기록은 주기 정리에서 제거")
+    void pruneExpired_removesOldEvictRecords() {
+        // given - 로컬 TTL 0초: evict 기록이 바로 정리 대상
+        ProductDetailCache cache = new ProductDetailCache(stringRedisTemplate, objectMapper, new NodeIdentity("node-a"),
+                new SimpleMeterRegistry(), 0, 60, 100);
+        for (long productId = 1; productId <= 50; productId++) {
+            cache.evict(productId);
+        }
+        Map<?, ?> evictedAt = (Map<?, ?>) ReflectionTestUtils.getField(cache, "evictedAt");
+        assertThat(evictedAt).hasSize(50);
+
+        // when
+        cache.pruneExpired();
+
+        // then
+        assertThat(evictedAt).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 한 번만 조회하고 로컬/Redis 에 저장")
+    void get_loadsOnceAndCaches() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        productDetailCache.get(1L, () -> {
+            loads.incrementAndGet();
+            return product(1L, 1000L);
+        });
+        ProductResponse second = productDetailCache.get(1L, () -> {
+            loads.incrementAndGet();
+            return product(1L, 1000L);
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.currentPrice()).isEqualTo(1000L);
+        verify(valueOperations).set(eq("product:detail:1"), anyString(), eq(Duration.ofSeconds(60)));
+        assertThat(meterRegistry.counter("product.detail.cache", "result", "local").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("product.detail.cache", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis 에 있으면 DB 조회 없이 반환")
+    void get_returnsRedisValue() throws Exception {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("product:detail:2")).thenReturn(objectMapper.writeValueAsString(product(2L, 2000L)));
+
+        // when
+        ProductResponse response = productDetailCache.get(2L, () -> {
+            throw new AssertionError("DB 조회가 발생하면 안 됨");
+        });
+
+        // then
+        assertThat(response.currentPrice()).isEqualTo(2000L);
+        assertThat(meterRegistry.counter("product.detail.cache", "result", "redis").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("조회 중 evict 되면 조회 결과를 캐시하지 않음")
+    void get_skipsCachingWhenEvictedDuringLoad() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        productDetailCache.get(3L, () -> {
+            productDetailCache.evict(3L);
+            return product(3L, 1000L);
+        });
+
+        // then
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        verify(stringRedisTemplate).delete("product:detail:3");
+        verify(stringRedisTemplate).convertAndSend(ProductDetailCache.INVALIDATE_CHANNEL, "node-a:3");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 로컬 캐시 제거, 자기 노드 메시지는 무시")
+    void onMessage_evictsLocalEntryFromOtherNode() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        AtomicInteger loads = new AtomicInteger();
+        productDetailCache.get(4L, () -> {
+            loads.incrementAndGet();
+            return product(4L, 1000L);
+        });
+
+        // when
+        productDetailCache.onMessage(message("node-a:4"), null);
+        productDetailCache.get(4L, () -> {
+            loads.incrementAndGet();
+            return product(4L, 1000L);
+        });
+        productDetailCache.onMessage(message("node-b:4"), null);
+        productDetailCache.get(4L, () -> {
+            loads.incrementAndGet();
+            return product(4L, 1500L);
+        });
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    // ======================================= helper methods ======================================= //
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(ProductDetailCache.INVALIDATE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ProductResponse product(Long productId, Long currentPrice) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ProductResponse(productId, "상품" + productId, "설명", "디지털기기", 1000L, currentPrice,
+                now, now.plusHours(24), 24, "경매 중", 0, "DELIVERY", null, List.of(),
+                new SellerDto(1L, "판매자", 50, null, 0), now, now);
+    }
+}
@@ -0,0 +1,207 @@
+package com.backend.domain.product.repository;
+
+import com.backend.domain.product.enums.Location;
+import com.backend.global.querydsl.FullTextExpressions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 키워드/지역 검색 LIKE vs FULLTEXT(ngram) 벤치마크 (MySQL 전용, 기본 실행 제외)
+ * - 별도 테이블(product_search_bench)에 products 와 같은 검색 컬럼/인덱스로 데이터를 채우고
+ *   ProductRepositoryImpl 이 만드는 두 가지 WHERE 절을 같은 조건으로 비교 (목록 20건 + count)
+ * - 실행: ./gradlew test --tests '*ProductFullTextBenchmarkTest' \
+ *     -Dbenchmark.mysql.url='jdbc:mysql://localhost:3306/bench' -Dbenchmark.mysql.username=root -Dbenchmark.mysql.password=...
+ *   (-Dbenchmark.* 는 build.gradle.kts 의 test 태스크가 테스트 JVM 으로 전달, 행 수는 -Dbenchmark.rows, 기본 1,000,000)
+ */
+@EnabledIfSystemProperty(named = "benchmark.mysql.url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductFullTextBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFullTextBenchmarkTest.class);
+    private static final String TABLE = "product_search_bench";
+    private static final int INSERT_BATCH_SIZE = 5000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    private static final String[] PRODUCT_TYPES = {"아이폰", "갤럭시", "맥북", "에어팟", "아이패드", "노트북",
+            "스마트워치", "태블릿", "헤드폰", "마우스", "키보드", "모니터"};
+    private static final String[] BRANDS = {"Apple", "Samsung", "LG"};
+    private static final String[] STATUSES = {"경매 중", "경매 중", "경매 중", "낙찰", "유찰"};
+
+    private Connection connection;
+
+    @BeforeAll
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("benchmark.mysql.url"),
+                System.getProperty("benchmark.mysql.username", "root"),
+                System.getProperty("benchmark.mysql.password", ""));
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (" +
+                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                    "product_name VARCHAR(255) NOT NULL, " +
+                    "location VARCHAR(255), " +
+                    "status VARCHAR(255) NOT NULL, " +
+                    "create_date DATETIME(6) NOT NULL, " +
+                    "INDEX idx_status_create (status, create_date DESC), " +
+                    "INDEX idx_location_status_create (location, status, create_date DESC)" +
+                    ") DEFAULT CHARSET = utf8mb4");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        seed(rows);
+        log.info("[benchmark] {} rows seeded in {}ms", String.format("%,d", rows), System.currentTimeMillis() - startedAt);
+
+        startedAt = System.currentTimeMillis();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+            statement.execute("ALTER TABLE " + TABLE + " ADD FULLTEXT INDEX ft_name (product_name) WITH PARSER ngram");
+            statement.execute("ALTER TABLE " + TABLE + " ADD FULLTEXT INDEX ft_location (location) WITH PARSER ngram");
+            statement.execute("ANALYZE TABLE " + TABLE);
+        }
+        log.info("[benchmark] FULLTEXT indexes built in {}ms", System.currentTimeMillis() - startedAt);
+    }
+
+    @AfterAll
+    void tearDown() throws SQLException {
+        if (connection == null) {
+            return;
+        }
+        if (!Boolean.getBoolean("benchmark.keep-table")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            }
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("키워드 검색 - LIKE 와 FULLTEXT 의 결과 수가 같고 응답 시간 비교")
+    void keywordSearch() throws SQLException {
+        for (String keyword : List.of("아이폰", "스마트워치", "Samsung", "에어팟")) {
+            String query = FullTextExpressions.phrases(List.of(keyword));
+
+            compare("keyword '" + keyword + "'",
+                    "product_name LIKE ?", List.of("%" + keyword + "%"),
+                    "MATCH(product_name) AGAINST(? IN BOOLEAN MODE)", List.of(query));
+        }
+    }
+
+    @Test
+    @DisplayName("지역 검색 - LIKE OR 조건과 FULLTEXT 의 결과 수가 같고 응답 시간 비교")
+    void locationSearch() throws SQLException {
+        List<String> terms = List.of(Location.SEOUL.getDisplayName(), Location.SEOUL.getShortName(),
+                Location.JEJU.getDisplayName(), Location.JEJU.getShortName());
+        String likeWhere = String.join(" OR ", terms.stream().map(term -> "location LIKE ?").toList());
+
+        compare("location 서울/제주",
+                "(" + likeWhere + ")", terms.stream().map(term -> "%" + term + "%").toList(),
+                "MATCH(location) AGAINST(? IN BOOLEAN MODE)", List.of(FullTextExpressions.phrases(terms)));
+    }
+
+    // ======================================= helper methods ======================================= //
+    private void seed(int rows) throws SQLException {
+        Random random = new Random(42);
+        Location[] locations = Location.values();
+        LocalDateTime now = LocalDateTime.now();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (product_name, location, status, create_date) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                Location location = locations[random.nextInt(locations.length)];
+                insert.setString(1, PRODUCT_TYPES[random.nextInt(PRODUCT_TYPES.length)] + " " +
+                        BRANDS[random.nextInt(BRANDS.length)] + " " + (random.nextInt(99) + 1));
+                insert.setString(2, (random.nextBoolean() ? location.getDisplayName() : location.getShortName()) +
+                        " " + (random.nextInt(25) + 1) + "구");
+                insert.setString(3, STATUSES[random.nextInt(STATUSES.length)]);
+                insert.setTimestamp(4, Timestamp.valueOf(now.minusSeconds(random.nextInt(30 * 24 * 3600))));
+                insert.addBatch();
+
+                if (i % INSERT_BATCH_SIZE == 0 || i == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void compare(String label, String likeWhere, List<String> likeParams,
+                         String fullTextWhere, List<String> fullTextParams) throws SQLException {
+        Result like = measure(likeWhere, likeParams);
+        Result fullText = measure(fullTextWhere, fullTextParams);
+
+        log.info(String.format("[benchmark] %-22s LIKE     median %6dms  p95 %6dms  total %,d",
+                label, like.median(), like.p95(), like.total()));
+        log.info(String.format("[benchmark] %-22s FULLTEXT median %6dms  p95 %6dms  total %,d",
+                label, fullText.median(), fullText.p95(), fullText.total()));
+
+        assertThat(fullText.total()).isEqualTo(like.total());
+    }
+
+    // 목록 조회(최신순 20건) + count 를 한 번의 요청으로 보고 반복 측정
+    private Result measure(String where, List<String> params) throws SQLException {
+        String listSql = "SELECT id, product_name FROM " + TABLE + " WHERE " + where +
+                " AND status = '경매 중' ORDER BY create_date DESC LIMIT 20";
+        String countSql = "SELECT COUNT(*) FROM " + TABLE + " WHERE " + where + " AND status = '경매 중'";
+
+        long total = 0;
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+            long startedAt = System.nanoTime();
+            query(listSql, params);
+            total = query(countSql, params);
+            if (i >= WARMUP) {
+                elapsed[i - WARMUP] = (System.nanoTime() - startedAt) / 1_000_000;
+            }
+        }
+
+        Arrays.sort(elapsed);
+        return new Result(elapsed[ITERATIONS / 2], elapsed[(int) Math.ceil(ITERATIONS * 0.95) - 1], total);
+    }
+
+    // 마지막 행의 첫 번째 컬럼 값 반환 (count 쿼리면 개수)
+    private long query(String sql, List<String> params) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.size(); i++) {
+                statement.setString(i + 1, params.get(i));
+            }
+            long last = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    last = resultSet.getLong(1);
+                }
+            }
+            return last;
+        }
+    }
+
+    private record Result(long median, long p95, long total) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.backend.domain.product.repository;
 
+import com.backend.domain.product.cache.ProductCountCache;
 import com.backend.domain.product.dto.ProductSearchDto;
 import com.backend.domain.product.entity.Product;
 import com.backend.domain.product.enums.AuctionStatus;
@@ -16,12 +17,18 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.util.List;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -30,6 +37,9 @@ class ProductRepositoryTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @MockitoSpyBean
+    private ProductCountCache productCountCache;
+
     @Test
     @DisplayName("키워드로 상품을 검색할 수 있다 - 아이폰")
     void findByKeywordIphone() {
@@ -311,6 +321,38 @@ class ProductRepositoryTest {
                 );
     }
 
+    @Test
+    @DisplayName("슬라이스 조회 - 전체 개수 없이 다음 페이지 여부를 판단한다")
+    void findBySearchSliced() {
+        // given
+        ProductSearchDto searchDto = new ProductSearchDto(null, null, null, null, AuctionStatus.BIDDING);
+
+        // when
+        Slice<Product> first = productRepository.findBySearchSliced(PageRequest.of(0, 5), searchDto);
+        Slice<Product> last = productRepository.findBySearchSliced(PageRequest.of(1, 5), searchDto);
+
+        // then
+        assertThat(first.getContent()).hasSize(5);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(2);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("특정 회원의 상품을 슬라이스로 조회할 수 있다")
+    void findByMemberSliced() {
+        // given
+        Long sellerId = 5L;
+
+        // when
+        Slice<Product> result = productRepository.findByMemberSliced(PageRequest.of(0, 10), sellerId, null);
+
+        // then
+        assertThat(result.getContent()).isNotEmpty();
+        assertThat(result.getContent())
+                .allMatch(product -> product.getSeller().getId().equals(sellerId));
+    }
+
     @Test
     @DisplayName("특정 회원의 모든 상품을 조회할 수 있다")
     void findByMemberAll() {
@@ -431,4 +473,22 @@ class ProductRepositoryTest {
                 .allMatch(product -> product.getSeller().getId().equals(sellerId))
                 .allMatch(product -> product.getStatus().equals(AuctionStatus.BIDDING.getDisplayName()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("회원별 상품 목록은 개수 캐시 없이 정확한 개수를 센다")
+    void findByMemberPaged_exactCount() {
+        // given
+        Long sellerId = 1L;
+        Pageable pageable = PageRequest.of(0, 1); // 첫 페이지를 꽉 채워 count 쿼리가 실행되도록
+
+        // when
+        Page<Product> result = productRepository.findByMemberPaged(pageable, sellerId, null);
+
+        // then
+        long expected = productRepository.findAll().stream()
+                .filter(product -> product.getSeller().getId().equals(sellerId))
+                .count();
+        assertThat(result.getTotalElements()).isEqualTo(expected);
+        verify(productCountCache, never()).get(anyString(), any());
+    }
+}
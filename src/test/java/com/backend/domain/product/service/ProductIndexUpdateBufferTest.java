@@ -0,0 +1,170 @@
+package com.backend.domain.product.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductIndexUpdateBufferTest {
+
+    @Mock
+    private ElasticsearchClient elasticsearchClient;
+
+    private ProductIndexUpdateBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ProductIndexUpdateBuffer(elasticsearchClient, new SimpleMeterRegistry(), 100, 1000, 3);
+    }
+
+    @Test
+    @DisplayName("같은 상품의 변경은 필드별 마지막 값으로 병합해 한 번의 bulk 로 전송")
+    void flush_mergesUpdatesPerProduct() throws IOException {
+        // given
+        when(elasticsearchClient.bulk(any(BulkRequest.class))).thenReturn(response());
+        buffer.submit(1L, "currentPrice", 1000L);
+        buffer.submit(1L, "bidderCount", 1);
+        buffer.submit(1L, "currentPrice", 2000L);
+        buffer.submit(2L, "status", "경매 중");
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(elasticsearchClient, times(1)).bulk(captor.capture());
+        List<BulkOperation> operations = captor.getValue().operations();
+        assertThat(operations).hasSize(2);
+
+        BulkOperation first = operations.stream().filter(op -> "1".equals(op.update().id())).findFirst().orElseThrow();
+        assertThat((Map<?, ?>) first.update().action().doc())
+                .isEqualTo(Map.of("currentPrice", 2000L, "bidderCount", 1));
+    }
+
+    @Test
+    @DisplayName("실패한 문서는 다음 flush 에 재시도하고, 문서가 없는 경우는 버림")
+    void flush_requeuesFailedDocuments() throws IOException {
+        // given
+        when(elasticsearchClient.bulk(any(BulkRequest.class)))
+                .thenReturn(response(failedItem("1", 429), failedItem("2", 404)))
+                .thenReturn(response());
+        buffer.submit(1L, "currentPrice", 1000L);
+        buffer.submit(2L, "currentPrice", 3000L);
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(elasticsearchClient, times(2)).bulk(captor.capture());
+        List<BulkOperation> retried = captor.getAllValues().get(1).operations();
+        assertThat(retried).hasSize(1);
+        assertThat(retried.get(0).update().id()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("재시도 중 들어온 새 값이 실패한 값보다 우선")
+    void flush_keepsNewerValueOverFailedValue() throws IOException {
+        // given
+        when(elasticsearchClient.bulk(any(BulkRequest.class)))
+                .thenThrow(new IOException("connection refused"))
+                .thenReturn(response());
+        buffer.submit(1L, "currentPrice", 1000L);
+        buffer.flush();
+
+        // when
+        buffer.submit(1L, "currentPrice", 5000L);
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(elasticsearchClient, times(2)).bulk(captor.capture());
+        assertThat((Map<?, ?>) captor.getAllValues().get(1).operations().get(0).update().action().doc())
+                .isEqualTo(Map.of("currentPrice", 5000L));
+    }
+
+    @Test
+    @DisplayName("실패한 값보다 나중 값이 이미 전송됐으면 실패한 값은 재전송하지 않음")
+    void flush_dropsFailedValueSupersededBySentValue() throws IOException {
+        // given
+        when(elasticsearchClient.bulk(any(BulkRequest.class)))
+                .thenAnswer(invocation -> {
+                    // 첫 bulk 가 진행 중일 때 새 가격이 들어오고, 같은 flush 안에서 먼저 전송됨
+                    buffer.submit(1L, "currentPrice", 5000L);
+                    throw new IOException("connection refused");
+                })
+                .thenReturn(response());
+        buffer.submit(1L, "currentPrice", 1000L);
+        buffer.submit(1L, "bidderCount", 1);
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(elasticsearchClient, times(3)).bulk(captor.capture());
+        assertThat((Map<?, ?>) captor.getAllValues().get(1).operations().get(0).update().action().doc())
+                .isEqualTo(Map.of("currentPrice", 5000L));
+        // 재시도는 새 값으로 대체되지 않은 필드만
+        assertThat((Map<?, ?>) captor.getAllValues().get(2).operations().get(0).update().action().doc())
+                .isEqualTo(Map.of("bidderCount", 1));
+    }
+
+    @Test
+    @DisplayName("flushNow 는 실패한 문서가 있으면 false 를 반환하고 실패분은 다음 flushNow 에서 재전송")
+    void flushNow_reportsFailures() throws IOException {
+        // given
+        when(elasticsearchClient.bulk(any(BulkRequest.class)))
+                .thenReturn(response(failedItem("1", 429)))
+                .thenReturn(response());
+        buffer.submit(1L, "currentPrice", 1000L);
+
+        // when
+        boolean first = buffer.flushNow();
+        boolean second = buffer.flushNow();
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        verify(elasticsearchClient, times(2)).bulk(any(BulkRequest.class));
+    }
+
+    // ======================================= helper methods ======================================= //
+    private BulkResponse response(BulkResponseItem... items) {
+        return BulkResponse.of(b -> b
+                .errors(items.length > 0)
+                .took(1)
+                .items(List.of(items)));
+    }
+
+    private BulkResponseItem failedItem(String id, int status) {
+        return BulkResponseItem.of(i -> i
+                .operationType(OperationType.Update)
+                .index("products")
+                .id(id)
+                .status(status)
+                .error(e -> e.type(status == 404 ? "document_missing_exception" : "es_rejected_execution_exception")
+                        .reason("failed")));
+    }
+}
@@ -0,0 +1,193 @@
+package com.backend.domain.product.service;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.product.document.ProductDocument;
+import com.backend.domain.product.dto.ProductSyncSnapshot;
+import com.backend.domain.product.dto.response.ReconcileResponse;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.entity.StandardProduct;
+import com.backend.domain.product.enums.AuctionStatus;
+import com.backend.domain.product.enums.DeliveryMethod;
+import com.backend.domain.product.enums.ProductCategory;
+import com.backend.domain.product.repository.jpa.ProductRepository;
+import com.backend.domain.review.repository.ReviewRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReconciliationServiceTest {
+
+    private static final String BIDDING = AuctionStatus.BIDDING.getDisplayName();
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciliationService = new ProductReconciliationService(productRepository, reviewRepository, elasticsearchOperations,
+                transactionManager, meterRegistry, 2, 30, true);
+    }
+
+    @Test
+    @DisplayName("전체 검사 - 값이 다른 문서만 다시 색인하고 DB 에 없는 문서는 삭제")
+    void reconcileAll_repairsDriftAndDeletesOrphans() {
+        // given
+        LocalDateTime settled = LocalDateTime.now().minusHours(1);
+        when(productRepository.findSnapshotsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new ProductSyncSnapshot(1L, 20000L, BIDDING, 3, settled),
+                new ProductSyncSnapshot(2L, 10000L, BIDDING, 1, settled)));
+        when(productRepository.findSnapshotsAfter(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        SearchHits<ProductDocument> firstRange = hits(document(1L, 15000L, BIDDING, 2), document(2L, 10000L, BIDDING, 1));
+        SearchHits<ProductDocument> lastRange = hits(document(3L, 5000L, BIDDING, 0));
+        when(elasticsearchOperations.search(any(Query.class), eq(ProductDocument.class), any(IndexCoordinates.class)))
+                .thenReturn(firstRange, lastRange);
+        when(productRepository.findAllWithSellerByIdIn(List.of(1L))).thenReturn(List.of(createTestProduct(1L)));
+        when(productRepository.findIdsByIdIn(List.of(3L))).thenReturn(List.of());
+
+        // when
+        ReconcileResponse response = reconciliationService.reconcileAll();
+
+        // then
+        assertThat(response.checked()).isEqualTo(2L);
+        assertThat(response.drifted()).isEqualTo(1L);
+        assertThat(response.repaired()).isEqualTo(1L);
+        assertThat(response.orphans()).isEqualTo(1L);
+        verify(elasticsearchOperations).bulkIndex(anyList(), any(IndexCoordinates.class));
+        verify(elasticsearchOperations).delete(eq("3"), any(IndexCoordinates.class));
+        assertThat(meterRegistry.counter("search.reconcile.drift", "type", "price").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("search.reconcile.drift", "type", "bidder_count").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("search.reconcile.drift", "type", "orphan").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("증분 검사 - 문서가 없는 상품은 다시 색인하고 유예 시간 안에 수정된 상품은 비교하지 않음")
+    void reconcileModifiedSince_repairsMissingAndSkipsUnsettled() {
+        // given
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        when(productRepository.findModifiedSnapshotsAfter(eq(since), eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new ProductSyncSnapshot(5L, 10000L, BIDDING, 0, since.plusMinutes(1)),
+                new ProductSyncSnapshot(6L, 12000L, BIDDING, 1, LocalDateTime.now())));
+        SearchHits<ProductDocument> empty = hits();
+        when(elasticsearchOperations.search(any(Query.class), eq(ProductDocument.class), any(IndexCoordinates.class)))
+                .thenReturn(empty);
+        when(productRepository.findAllWithSellerByIdIn(List.of(5L))).thenReturn(List.of(createTestProduct(5L)));
+
+        // when
+        ReconcileResponse response = reconciliationService.reconcileModifiedSince(since);
+
+        // then
+        assertThat(response.checked()).isEqualTo(1L);
+        assertThat(response.drifted()).isEqualTo(1L);
+        assertThat(response.repaired()).isEqualTo(1L);
+        assertThat(response.orphans()).isZero();
+        verify(productRepository, times(1)).findModifiedSnapshotsAfter(any(), any(), any(Pageable.class));
+        verify(elasticsearchOperations, never()).delete(any(String.class), any(IndexCoordinates.class));
+        assertThat(meterRegistry.counter("search.reconcile.drift", "type", "missing").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("복구 비활성화 시 불일치만 집계하고 색인/삭제하지 않음")
+    void reconcileAll_reportOnlyWhenRepairDisabled() {
+        // given
+        reconciliationService = new ProductReconciliationService(productRepository, reviewRepository, elasticsearchOperations,
+                transactionManager, meterRegistry, 2, 30, false);
+        LocalDateTime settled = LocalDateTime.now().minusHours(1);
+        when(productRepository.findSnapshotsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                new ProductSyncSnapshot(1L, 10000L, "낙찰", 3, settled)));
+        SearchHits<ProductDocument> range = hits(document(1L, 10000L, BIDDING, 3));
+        when(elasticsearchOperations.search(any(Query.class), eq(ProductDocument.class), any(IndexCoordinates.class)))
+                .thenReturn(range);
+
+        // when
+        ReconcileResponse response = reconciliationService.reconcileAll();
+
+        // then
+        assertThat(response.drifted()).isEqualTo(1L);
+        assertThat(response.repaired()).isZero();
+        verify(productRepository, never()).findAllWithSellerByIdIn(anyList());
+        verify(elasticsearchOperations, never()).bulkIndex(anyList(), any(IndexCoordinates.class));
+        assertThat(meterRegistry.counter("search.reconcile.drift", "type", "status").count()).isEqualTo(1.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SearchHits<ProductDocument> hits(ProductDocument... documents) {
+        List<SearchHit<ProductDocument>> searchHits = new ArrayList<>();
+        for (ProductDocument document : documents) {
+            SearchHit<ProductDocument> hit = mock(SearchHit.class);
+            when(hit.getContent()).thenReturn(document);
+            searchHits.add(hit);
+        }
+        SearchHits<ProductDocument> hits = mock(SearchHits.class);
+        when(hits.getSearchHits()).thenReturn(searchHits);
+        when(hits.getTotalHits()).thenReturn((long) documents.length);
+        return hits;
+    }
+
+    private ProductDocument document(Long productId, Long currentPrice, String status, Integer bidderCount) {
+        return ProductDocument.builder()
+                .id(String.valueOf(productId))
+                .productId(productId)
+                .currentPrice(currentPrice)
+                .status(status)
+                .bidderCount(bidderCount)
+                .build();
+    }
+
+    private Product createTestProduct(Long id) {
+        Member seller = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .nickname("판매자")
+                .build();
+
+        return StandardProduct.testBuilder()
+                .id(id)
+                .productName("테스트 상품 " + id)
+                .description("설명")
+                .category(ProductCategory.DIGITAL_ELECTRONICS)
+                .initialPrice(100000L)
+                .currentPrice(100000L)
+                .startTime(LocalDateTime.now())
+                .endTime(LocalDateTime.now().plusDays(1))
+                .status(AuctionStatus.BIDDING.getDisplayName())
+                .deliveryMethod(DeliveryMethod.BOTH)
+                .location("서울")
+                .seller(seller)
+                .testBuild();
+    }
+}
@@ -0,0 +1,264 @@
+package com.backend.domain.product.service;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.product.dto.response.ReindexResponse;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.entity.StandardProduct;
+import com.backend.domain.product.enums.AuctionStatus;
+import com.backend.domain.product.enums.DeliveryMethod;
+import com.backend.domain.product.enums.ProductCategory;
+import com.backend.domain.product.repository.elasticsearch.ProductIndexManager;
+import com.backend.domain.product.repository.jpa.ProductRepository;
+import com.backend.domain.review.repository.ReviewRepository;
+import com.backend.global.exception.ServiceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReindexServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ProductIndexManager productIndexManager;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductReindexService productReindexService;
+
+    @BeforeEach
+    void setUp() {
+        productReindexService = new ProductReindexService(productRepository, reviewRepository, productIndexManager,
+                elasticsearchOperations, redisTemplate, transactionManager, 2, 2, "1s", "1", 0.01, true);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @DisplayName("키셋 청크 단위로 새 인덱스에 bulk 색인 후 alias 교체")
+    void reindexAll_bulkIndexesAndSwapsAlias() {
+        // given
+        when(productRepository.count()).thenReturn(3L);
+        when(productIndexManager.createBuildIndex()).thenReturn("products_20250101000000");
+        when(productRepository.findChunkAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(createTestProduct(1L), createTestProduct(2L)));
+        when(productRepository.findChunkAfter(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(createTestProduct(3L)));
+        when(productRepository.findChunkAfter(eq(3L), any(Pageable.class))).thenReturn(List.of());
+        when(productRepository.findModifiedChunkAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(productIndexManager.swapAlias("products_20250101000000")).thenReturn(Set.of("products_old"));
+
+        // when
+        ReindexResponse response = productReindexService.reindexAll();
+
+        // then
+        assertThat(response.indexed()).isEqualTo(3L);
+        assertThat(response.failed()).isZero();
+        assertThat(response.swapped()).isTrue();
+        verify(elasticsearchOperations, times(2))
+                .bulkIndex(anyList(), any(IndexCoordinates.class));
+        verify(productRepository, never()).findAll(any(Pageable.class));
+        // 판매자 리뷰 수는 청크마다 한 번의 집계 쿼리로 조회
+        verify(reviewRepository, times(2)).countByReviewerIds(Set.of(1L));
+        verify(productIndexManager).finishBuild("products_20250101000000", "1s", "1");
+        verify(productIndexManager).deleteIndices(Set.of("products_old"));
+    }
+
+    @Test
+    @DisplayName("실패 비율을 넘으면 alias 를 교체하지 않고 빌드 인덱스 삭제")
+    void reindexAll_skipsSwapWhenTooManyFailures() {
+        // given
+        when(productRepository.count()).thenReturn(2L);
+        when(productIndexManager.createBuildIndex()).thenReturn("products_20250101000000");
+        when(productRepository.findChunkAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(createTestProduct(1L), createTestProduct(2L)));
+        when(productRepository.findChunkAfter(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(productRepository.findModifiedChunkAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(elasticsearchOperations.bulkIndex(anyList(), any(IndexCoordinates.class)))
+                .thenThrow(new RuntimeException("Elasticsearch error"));
+
+        // when
+        ReindexResponse response = productReindexService.reindexAll();
+
+        // then
+        assertThat(response.failed()).isEqualTo(2L);
+        assertThat(response.swapped()).isFalse();
+        verify(productIndexManager, never()).swapAlias(any());
+        verify(productIndexManager).deleteIndices(Set.of("products_20250101000000"));
+    }
+
+    @Test
+    @DisplayName("alias 교체 후 따라잡기 이후 수정분을 다시 반영하고 빌드 중 삭제된 상품을 새 인덱스에서 삭제")
+    void reindexAll_catchesUpAndReplaysDeletionsAfterSwap() {
+        // given
+        when(productRepository.count()).thenReturn(1L);
+        when(productIndexManager.createBuildIndex()).thenReturn("products_20250101000000");
+        when(productRepository.findChunkAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(createTestProduct(1L)));
+        when(productRepository.findChunkAfter(eq(1L), any(Pageable.class))).thenReturn(List.of());
+        when(productRepository.findModifiedChunkAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(), List.of(createTestProduct(1L)));
+        when(productRepository.findModifiedChunkAfter(eq(1L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(productIndexManager.swapAlias("products_20250101000000")).thenReturn(Set.of());
+        when(setOperations.members("search:reindex:deleted")).thenReturn(Set.of("7"));
+
+        // when
+        ReindexResponse response = productReindexService.reindexAll();
+
+        // then - 교체 이후에 한 번 더 따라잡고, 삭제 기록을 새 인덱스에 반영
+        assertThat(response.swapped()).isTrue();
+        InOrder inOrder = inOrder(productIndexManager, productRepository, elasticsearchOperations);
+        inOrder.verify(productIndexManager).swapAlias("products_20250101000000");
+        inOrder.verify(productRepository).findModifiedChunkAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class));
+        inOrder.verify(elasticsearchOperations).bulkIndex(anyList(), argThat(buildIndex()));
+        inOrder.verify(elasticsearchOperations).delete(eq("7"), argThat(buildIndex()));
+        verify(valueOperations).set(eq("search:reindex:building"), eq("1"), any());
+        verify(redisTemplate).delete(List.of("search:reindex:building", "search:reindex:deleted", "search:reindex:sellers"));
+    }
+
+    @Test
+    @DisplayName("빌드 중 정보가 바뀐 판매자의 상품을 alias 교체 후 새 인덱스에 다시 색인")
+    void reindexAll_reindexesUpdatedSellersAfterSwap() {
+        // given
+        when(productRepository.count()).thenReturn(1L);
+        when(productIndexManager.createBuildIndex()).thenReturn("products_20250101000000");
+        when(productRepository.findChunkAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(createTestProduct(1L)));
+        when(productRepository.findChunkAfter(eq(1L), any(Pageable.class))).thenReturn(List.of());
+        when(productRepository.findModifiedChunkAfter(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(productIndexManager.swapAlias("products_20250101000000")).thenReturn(Set.of());
+        when(setOperations.members("search:reindex:sellers")).thenReturn(Set.of("1"));
+        when(productRepository.findSellerChunkAfter(eq(List.of(1L)), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(createTestProduct(1L)));
+        when(productRepository.findSellerChunkAfter(eq(List.of(1L)), eq(1L), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        // when
+        ReindexResponse response = productReindexService.reindexAll();
+
+        // then - 전체 색인 1회 + 교체 후 판매자 상품 재색인 1회
+        assertThat(response.swapped()).isTrue();
+        InOrder inOrder = inOrder(productIndexManager, productRepository, elasticsearchOperations);
+        inOrder.verify(productIndexManager).swapAlias("products_20250101000000");
+        inOrder.verify(productRepository).findSellerChunkAfter(eq(List.of(1L)), eq(0L), any(Pageable.class));
+        inOrder.verify(elasticsearchOperations).bulkIndex(anyList(), argThat(buildIndex()));
+        verify(elasticsearchOperations, times(2)).bulkIndex(anyList(), argThat(buildIndex()));
+    }
+
+    @Test
+    @DisplayName("재인덱싱 중일 때만 정보가 바뀐 판매자를 기록")
+    void recordSellerUpdate_onlyWhileBuilding() {
+        // given
+        when(redisTemplate.hasKey("search:reindex:building")).thenReturn(true, false);
+
+        // when
+        productReindexService.recordSellerUpdate(1L);
+        productReindexService.recordSellerUpdate(2L);
+
+        // then
+        verify(setOperations).add("search:reindex:sellers", "1");
+        verify(setOperations, never()).add("search:reindex:sellers", "2");
+    }
+
+    @Test
+    @DisplayName("재인덱싱 중일 때만 삭제된 상품을 기록")
+    void recordDeletion_onlyWhileBuilding() {
+        // given
+        when(redisTemplate.hasKey("search:reindex:building")).thenReturn(true, false);
+
+        // when
+        productReindexService.recordDeletion(7L);
+        productReindexService.recordDeletion(8L);
+
+        // then
+        verify(setOperations).add("search:reindex:deleted", "7");
+        verify(setOperations, never()).add("search:reindex:deleted", "8");
+    }
+
+    @Test
+    @DisplayName("이미 재인덱싱 중이면 백그라운드 재인덱싱을 시작하지 않음")
+    void startReindex_conflictWhileRunning() {
+        // given
+        ((AtomicBoolean) ReflectionTestUtils.getField(productReindexService, "running")).set(true);
+
+        // when & then
+        assertThatThrownBy(() -> productReindexService.startReindex())
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("409");
+        verify(productIndexManager, never()).createBuildIndex();
+    }
+
+    private ArgumentMatcher<IndexCoordinates> buildIndex() {
+        return index -> "products_20250101000000".equals(index.getIndexName());
+    }
+
+    private Product createTestProduct(Long id) {
+        Member seller = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .nickname("판매자")
+                .build();
+
+        return StandardProduct.testBuilder()
+                .id(id)
+                .productName("테스트 상품 " + id)
+                .description("설명")
+                .category(ProductCategory.DIGITAL_ELECTRONICS)
+                .initialPrice(100000L)
+                .currentPrice(100000L)
+                .startTime(LocalDateTime.now())
+                .endTime(LocalDateTime.now().plusDays(1))
+                .status(AuctionStatus.BIDDING.getDisplayName())
+                .deliveryMethod(DeliveryMethod.BOTH)
+                .location("서울")
+                .seller(seller)
+                .testBuild();
+    }
+}
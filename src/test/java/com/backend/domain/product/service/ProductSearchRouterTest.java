@@ -0,0 +1,168 @@
+package com.backend.domain.product.service;
+
+import com.backend.domain.product.document.ProductDocument;
+import com.backend.domain.product.dto.ProductSearchDto;
+import com.backend.domain.product.dto.response.ProductListItemDto;
+import com.backend.domain.product.entity.Product;
+import com.backend.domain.product.enums.AuctionStatus;
+import com.backend.domain.product.enums.ProductSearchSortType;
+import com.backend.domain.product.mapper.ProductMapper;
+import com.backend.global.circuitbreaker.LatencyCircuitBreaker;
+import com.backend.global.exception.ServiceException;
+import com.backend.global.page.dto.PageDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchRouterTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductSearchService productSearchService;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductSearchRouter router;
+
+    private final PageDto<ProductListItemDto> esResult = PageDto.fromPage(new PageImpl<>(List.of()));
+    private final PageDto<ProductListItemDto> jpaResult = PageDto.fromPage(new PageImpl<>(List.of()));
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 타임아웃 200ms, 최근 2건 모두 실패하면 OPEN
+        router = new ProductSearchRouter(productService, productSearchService, productMapper, transactionManager,
+                meterRegistry, 200, 2, 2, 2, 1.0, 100, 1.0, 60000, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        router.shutdown();
+    }
+
+    @Test
+    @DisplayName("키워드 검색은 ES 로 조회")
+    void search_keywordGoesToElasticsearch() {
+        // given
+        ProductSearchDto search = new ProductSearchDto("아이폰", null, null, null, AuctionStatus.BIDDING);
+        Page<ProductDocument> documents = new PageImpl<>(List.of());
+        when(productSearchService.searchProducts(1, 20, ProductSearchSortType.LATEST, search)).thenReturn(documents);
+        when(productMapper.toListResponseFromDocument(documents)).thenReturn(esResult);
+
+        // when
+        PageDto<ProductListItemDto> result = router.search(1, 20, ProductSearchSortType.LATEST, search);
+
+        // then
+        assertThat(result).isSameAs(esResult);
+        verify(productService, never()).findBySearchPaged(anyInt(), anyInt(), any(), any());
+        assertThat(meterRegistry.timer("search.backend.latency", "backend", "es", "outcome", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키워드 없는 필터 조회는 ES 를 거치지 않고 MySQL 로 조회")
+    void search_filterOnlyGoesToJpa() {
+        // given
+        ProductSearchDto search = new ProductSearchDto(" ", new Integer[]{1}, null, null, AuctionStatus.BIDDING);
+        stubJpa(search);
+
+        // when
+        PageDto<ProductListItemDto> result = router.search(1, 20, ProductSearchSortType.LATEST, search);
+
+        // then
+        assertThat(result).isSameAs(jpaResult);
+        verifyNoInteractions(productSearchService);
+    }
+
+    @Test
+    @DisplayName("ES 오류/타임아웃이면 MySQL 로 대체하고, 계속 실패하면 서킷을 열어 ES 호출 생략")
+    void search_fallsBackAndOpensCircuit() {
+        // given
+        ProductSearchDto search = new ProductSearchDto("아이폰", null, null, null, AuctionStatus.BIDDING);
+        stubJpa(search);
+        when(productSearchService.searchProducts(1, 20, ProductSearchSortType.LATEST, search))
+                .thenThrow(new IllegalStateException("ES 연결 실패"))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(1000);
+                    return new PageImpl<ProductDocument>(List.of());
+                });
+
+        // when
+        PageDto<ProductListItemDto> first = router.search(1, 20, ProductSearchSortType.LATEST, search);
+        PageDto<ProductListItemDto> second = router.search(1, 20, ProductSearchSortType.LATEST, search);
+        PageDto<ProductListItemDto> third = router.search(1, 20, ProductSearchSortType.LATEST, search);
+
+        // then
+        assertThat(List.of(first, second, third)).allMatch(result -> result == jpaResult);
+        assertThat(router.circuitState()).isEqualTo(LatencyCircuitBreaker.State.OPEN);
+        verify(productSearchService, times(2)).searchProducts(anyInt(), anyInt(), any(), any());
+        assertThat(meterRegistry.counter("search.router.fallback", "reason", "error").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("search.router.fallback", "reason", "timeout").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("search.router.fallback", "reason", "circuit_open").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("ES 4xx(잘못된 요청)는 MySQL 로 대체하되 서킷 실패로 기록하지 않음")
+    void search_clientErrorDoesNotOpenCircuit() {
+        // given
+        ProductSearchDto search = new ProductSearchDto("아이폰", null, null, null, AuctionStatus.BIDDING);
+        stubJpa(search);
+        when(productSearchService.searchProducts(1, 20, ProductSearchSortType.LATEST, search))
+                .thenThrow(new UncategorizedElasticsearchException("Result window is too large", 400, null, null));
+
+        // when
+        PageDto<ProductListItemDto> first = router.search(1, 20, ProductSearchSortType.LATEST, search);
+        PageDto<ProductListItemDto> second = router.search(1, 20, ProductSearchSortType.LATEST, search);
+        PageDto<ProductListItemDto> third = router.search(1, 20, ProductSearchSortType.LATEST, search);
+
+        // then
+        assertThat(List.of(first, second, third)).allMatch(result -> result == jpaResult);
+        assertThat(router.circuitState()).isEqualTo(LatencyCircuitBreaker.State.CLOSED);
+        verify(productSearchService, times(3)).searchProducts(anyInt(), anyInt(), any(), any());
+        assertThat(meterRegistry.counter("search.router.fallback", "reason", "client_error").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("from+size 가 10,000건을 넘는 키워드 검색은 ES 호출 전에 거절하고 서킷에 영향 없음")
+    void search_rejectsPageBeyondResultWindow() {
+        // given
+        ProductSearchDto search = new ProductSearchDto("아이폰", null, null, null, AuctionStatus.BIDDING);
+
+        // when & then
+        assertThatThrownBy(() -> router.search(501, 20, ProductSearchSortType.LATEST, search))
+                .isInstanceOf(ServiceException.class);
+        verifyNoInteractions(productSearchService, productService);
+        assertThat(router.circuitState()).isEqualTo(LatencyCircuitBreaker.State.CLOSED);
+    }
+
+    private void stubJpa(ProductSearchDto search) {
+        Page<Product> products = new PageImpl<>(List.of());
+        when(productService.findBySearchPaged(eq(1), eq(20), eq(ProductSearchSortType.LATEST), eq(search))).thenReturn(products);
+        when(productMapper.toListResponse(products)).thenReturn(jpaResult);
+    }
+}
@@ -1,25 +1,39 @@
 package com.backend.domain.product.service;
 
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import com.backend.domain.product.document.ProductDocument;
+import com.backend.domain.product.dto.ProductSearchCursor;
 import com.backend.domain.product.dto.ProductSearchDto;
 import com.backend.domain.product.enums.AuctionStatus;
 import com.backend.domain.product.enums.ProductSearchSortType;
 import com.backend.domain.product.repository.elasticsearch.ProductElasticRepository;
+import com.backend.global.exception.ServiceException;
+import com.backend.global.page.dto.SearchAfterPageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -29,9 +43,19 @@ class ProductSearchServiceTest {
     @Mock
     private ProductElasticRepository productElasticRepository;
 
-    @InjectMocks
+    @Mock
+    private ElasticsearchClient elasticsearchClient;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     private ProductSearchService productSearchService;
 
+    @BeforeEach
+    void setUp() {
+        productSearchService = new ProductSearchService(productElasticRepository, elasticsearchClient, objectMapper, 60);
+    }
+
     @Test
     @DisplayName("상품 검색 - 정상 동작")
     void searchProducts() {
@@ -96,6 +120,105 @@ class ProductSearchServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("커서 검색 - 첫 페이지는 size + 1 건 조회 후 다음 커서 반환")
+    void searchProductsByCursor_firstPage() {
+        // given
+        ProductSearchDto searchDto = new ProductSearchDto(null, null, null, null, AuctionStatus.BIDDING);
+        SearchHits<ProductDocument> searchHits = hits(null, 3L, 2L, 1L);
+        when(productElasticRepository.searchProductsAfter(eq(searchDto), any(Sort.class), eq(3), isNull(), isNull(), any(Duration.class)))
+                .thenReturn(searchHits);
+
+        // when
+        SearchAfterPageDto<ProductDocument> result = productSearchService.searchProductsByCursor(
+                2, ProductSearchSortType.LATEST, searchDto, null, false
+        );
+
+        // then
+        assertThat(result.content()).extracting(ProductDocument::getProductId).containsExactly(3L, 2L);
+        assertThat(result.hasNext()).isTrue();
+        ProductSearchCursor next = ProductSearchCursor.decode(result.nextCursor(), "LATEST", objectMapper);
+        assertThat(next.searchAfter()).containsExactly(2);
+        assertThat(next.pitId()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 커서의 정렬 값을 search_after 로 전달")
+    void searchProductsByCursor_nextPage() {
+        // given
+        ProductSearchDto searchDto = new ProductSearchDto(null, null, null, null, AuctionStatus.BIDDING);
+        String cursor = new ProductSearchCursor("LATEST", List.of(2), null).encode(objectMapper);
+        SearchHits<ProductDocument> searchHits = hits(null, 1L);
+        when(productElasticRepository.searchProductsAfter(eq(searchDto), any(Sort.class), eq(3), eq(List.of(2)), isNull(), any(Duration.class)))
+                .thenReturn(searchHits);
+
+        // when
+        SearchAfterPageDto<ProductDocument> result = productSearchService.searchProductsByCursor(
+                2, ProductSearchSortType.LATEST, searchDto, cursor, false
+        );
+
+        // then
+        assertThat(result.content()).extracting(ProductDocument::getProductId).containsExactly(1L);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("커서 검색 - 정렬 기준이 다른 커서는 거부")
+    void searchProductsByCursor_sortMismatch() {
+        // given
+        ProductSearchDto searchDto = new ProductSearchDto(null, null, null, null, AuctionStatus.BIDDING);
+        String cursor = new ProductSearchCursor("LATEST", List.of(2), null).encode(objectMapper);
+
+        // when & then
+        assertThatThrownBy(() -> productSearchService.searchProductsByCursor(
+                2, ProductSearchSortType.PRICE_LOW, searchDto, cursor, false))
+                .isInstanceOf(ServiceException.class)
+                .hasMessageContaining("정렬 기준");
+        verify(productElasticRepository, never()).searchProductsAfter(any(), any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("커서 검색 - PIT 사용 시 마지막 페이지에서 PIT 해제")
+    void searchProductsByCursor_closesPointInTimeOnLastPage() {
+        // given
+        ProductSearchDto searchDto = new ProductSearchDto(null, null, null, null, AuctionStatus.BIDDING);
+        when(productElasticRepository.openPointInTime(any(Duration.class))).thenReturn("pit-1");
+        SearchHits<ProductDocument> searchHits = hits("pit-2", 1L);
+        when(productElasticRepository.searchProductsAfter(eq(searchDto), any(Sort.class), eq(3), isNull(), eq("pit-1"), any(Duration.class)))
+                .thenReturn(searchHits);
+
+        // when
+        SearchAfterPageDto<ProductDocument> result = productSearchService.searchProductsByCursor(
+                2, ProductSearchSortType.LATEST, searchDto, null, true
+        );
+
+        // then
+        assertThat(result.hasNext()).isFalse();
+        verify(productElasticRepository).closePointInTime("pit-2");
+    }
+
+    @Test
+    @DisplayName("커서 검색 - PIT 를 열 수 없으면 PIT 없이 조회")
+    void searchProductsByCursor_continuesWithoutPointInTimeWhenOpenFails() {
+        // given
+        ProductSearchDto searchDto = new ProductSearchDto(null, null, null, null, AuctionStatus.BIDDING);
+        when(productElasticRepository.openPointInTime(any(Duration.class)))
+                .thenThrow(new RuntimeException("Trying to create too many point in time contexts"));
+        SearchHits<ProductDocument> searchHits = hits(null, 1L);
+        when(productElasticRepository.searchProductsAfter(eq(searchDto), any(Sort.class), eq(3), isNull(), isNull(), any(Duration.class)))
+                .thenReturn(searchHits);
+
+        // when
+        SearchAfterPageDto<ProductDocument> result = productSearchService.searchProductsByCursor(
+                2, ProductSearchSortType.LATEST, searchDto, null, true
+        );
+
+        // then
+        assertThat(result.content()).hasSize(1);
+        verify(productElasticRepository, never()).closePointInTime(any());
+    }
+
     @Test
     @DisplayName("상품 인덱싱")
     void indexProduct() {
@@ -128,4 +251,19 @@ class ProductSearchServiceTest {
         // then
         verify(productElasticRepository, times(1)).deleteById(productId);
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    private SearchHits<ProductDocument> hits(String pointInTimeId, Long... productIds) {
+        List<SearchHit<ProductDocument>> searchHits = new ArrayList<>();
+        for (Long productId : productIds) {
+            SearchHit<ProductDocument> hit = mock(SearchHit.class);
+            lenient().when(hit.getContent()).thenReturn(ProductDocument.builder().productId(productId).build());
+            lenient().when(hit.getSortValues()).thenReturn(List.of(productId.intValue()));
+            searchHits.add(hit);
+        }
+        SearchHits<ProductDocument> hits = mock(SearchHits.class);
+        when(hits.getSearchHits()).thenReturn(searchHits);
+        lenient().when(hits.getPointInTimeId()).thenReturn(pointInTimeId);
+        return hits;
+    }
+}
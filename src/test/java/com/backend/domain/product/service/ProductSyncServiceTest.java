@@ -1,37 +1,45 @@
 package com.backend.domain.product.service;
 
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
 import com.backend.domain.product.document.ProductDocument;
 import com.backend.domain.product.entity.Product;
 import com.backend.domain.product.entity.StandardProduct;
 import com.backend.domain.product.enums.AuctionStatus;
 import com.backend.domain.product.enums.DeliveryMethod;
 import com.backend.domain.product.enums.ProductCategory;
-import com.backend.domain.product.repository.jpa.ProductRepository;
+import com.backend.domain.review.repository.ReviewRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ProductSyncServiceTest {
 
     @Mock
-    private ProductRepository productRepository;
+    private ProductSearchService productSearchService;
 
     @Mock
-    private ProductSearchService productSearchService;
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ProductReindexService productReindexService;
 
     @InjectMocks
     private ProductSyncService productSyncService;
@@ -97,101 +105,84 @@ class ProductSyncServiceTest {
     }
 
     @Test
-    @DisplayName("전체 상품 재인덱싱 - 성공")
+    @DisplayName("전체 상품 재인덱싱 - 재인덱싱 서비스에 위임")
     void reindexAllProducts() {
-        // given
-        List<Product> products = List.of(
-                createTestProduct(1L),
-                createTestProduct(2L),
-                createTestProduct(3L)
-        );
-        Page<Product> productPage = new PageImpl<>(products);
-
-        when(productRepository.count()).thenReturn(3L);
-        when(productRepository.findAll(any(PageRequest.class))).thenReturn(productPage);
-        doNothing().when(productSearchService).indexProduct(any(ProductDocument.class));
-
         // when
         productSyncService.indexAllProducts();
 
         // then
-        verify(productRepository, times(1)).count();
-        verify(productRepository, times(1)).findAll(any(PageRequest.class));
-        verify(productSearchService, times(3)).indexProduct(any(ProductDocument.class));
+        verify(productReindexService, times(1)).reindexAll();
     }
 
     @Test
-    @DisplayName("전체 상품 재인덱싱 - 상품 없음")
-    void reindexAllProducts_withNoProducts() {
+    @DisplayName("전체 상품 재인덱싱 - 실패 시 예외를 로그만 남기고 전파하지 않음")
+    void reindexAllProducts_withException() {
         // given
-        when(productRepository.count()).thenReturn(0L);
+        when(productReindexService.reindexAll()).thenThrow(new IllegalStateException("이미 상품 재인덱싱이 진행 중입니다."));
 
-        // when
+        // when & then (예외가 전파되지 않아야 함)
         productSyncService.indexAllProducts();
 
-        // then
-        verify(productRepository, times(1)).count();
-        verify(productRepository, never()).findAll(any(PageRequest.class));
-        verify(productSearchService, never()).indexProduct(any(ProductDocument.class));
+        verify(productReindexService, times(1)).reindexAll();
     }
 
     @Test
-    @DisplayName("전체 상품 재인덱싱 - 일부 실패")
-    void reindexAllProducts_withPartialFailure() {
+    @DisplayName("판매자 정보 변경 시 판매자 필드만 부분 업데이트")
+    void syncSellerUpdate() {
         // given
-        List<Product> products = List.of(
-                createTestProduct(1L),
-                createTestProduct(2L),
-                createTestProduct(3L)
-        );
-        Page<Product> productPage = new PageImpl<>(products);
-
-        when(productRepository.count()).thenReturn(3L);
-        when(productRepository.findAll(any(PageRequest.class))).thenReturn(productPage);
-
-        // 두 번째 상품 인덱싱 시 예외 발생
-        doNothing()
-                .doThrow(new RuntimeException("Indexing failed"))
-                .doNothing()
-                .when(productSearchService).indexProduct(any(ProductDocument.class));
+        Member seller = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .nickname("새닉네임")
+                .profileImageUrl("https://image/profile.png")
+                .creditScore(70)
+                .build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(seller));
+        when(reviewRepository.countByReviewerId(1L)).thenReturn(3L);
 
         // when
-        productSyncService.indexAllProducts();
-
-        // then
-        verify(productRepository, times(1)).count();
-        verify(productRepository, times(1)).findAll(any(PageRequest.class));
-        verify(productSearchService, times(3)).indexProduct(any(ProductDocument.class));
+        productSyncService.syncSellerUpdate(1L);
+
+        // then - 리뷰 수는 reviews 컬렉션 대신 COUNT 쿼리로 조회
+        verify(productSearchService, times(1)).updateSellerInfo(1L, Map.of(
+                "sellerNickname", "새닉네임",
+                "sellerProfileImageUrl", "https://image/profile.png",
+                "sellerCreditScore", 70,
+                "sellerReviewCount", 3
+        ));
+        // 재인덱싱 중이면 교체 후 새 인덱스에도 반영되도록 기록
+        verify(productReindexService).recordSellerUpdate(1L);
     }
 
     @Test
-    @DisplayName("전체 상품 재인덱싱 - 대용량 데이터 (여러 페이지)")
-    void reindexAllProducts_withMultiplePages() {
+    @DisplayName("판매자 정보 동기화 - 존재하지 않는 회원은 건너뜀")
+    void syncSellerUpdate_withUnknownMember() {
         // given
-        when(productRepository.count()).thenReturn(250L);
-
-        when(productRepository.findAll(any(PageRequest.class))).thenAnswer(invocation -> {
-            PageRequest pageRequest = invocation.getArgument(0);
-            int pageNumber = pageRequest.getPageNumber();
-
-            if (pageNumber == 0) {
-                return new PageImpl<>(List.of(createTestProduct(1L), createTestProduct(2L)), pageRequest, 250);
-            } else if (pageNumber == 1) {
-                return new PageImpl<>(List.of(createTestProduct(3L)), pageRequest, 250 );
-            } else {
-                return new PageImpl<>(List.of(), pageRequest, 250);
-            }
-        });
-
-        doNothing().when(productSearchService).indexProduct(any());
+        when(memberRepository.findById(99L)).thenReturn(Optional.empty());
 
         // when
-        productSyncService.indexAllProducts();
+        productSyncService.syncSellerUpdate(99L);
 
         // then
-        verify(productRepository, times(1)).count();
-        verify(productRepository, times(3)).findAll(any(PageRequest.class));
-        verify(productSearchService, times(3)).indexProduct(any(ProductDocument.class));
+        verify(productSearchService, never()).updateSellerInfo(any(), anyMap());
+    }
+
+    @Test
+    @DisplayName("판매자 정보 동기화 실패 시 예외 전파 (아웃박스 릴레이 재시도)")
+    void syncSellerUpdate_propagatesFailure() {
+        // given
+        Member seller = Member.builder()
+                .id(1L)
+                .email("test@example.com")
+                .nickname("판매자")
+                .build();
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(seller));
+        doThrow(new RuntimeException("Elasticsearch error"))
+                .when(productSearchService).updateSellerInfo(eq(1L), anyMap());
+
+        // when & then
+        assertThatThrownBy(() -> productSyncService.syncSellerUpdate(1L))
+                .isInstanceOf(RuntimeException.class);
     }
 
     private Product createTestProduct(Long id) {
@@ -1,6 +1,7 @@
 package com.backend.domain.product.service;
 
 import com.backend.domain.member.entity.Member;
+import com.backend.domain.product.cache.ProductDetailCache;
 import com.backend.domain.product.dto.request.ProductCreateRequest;
 import com.backend.domain.product.dto.request.ProductModifyRequest;
 import com.backend.domain.product.entity.Product;
@@ -46,6 +47,9 @@ class StandardProductServiceTest {
     @Mock
     private ProductImageService productImageService;
 
+    @Mock
+    private ProductDetailCache productDetailCache;
+
     @InjectMocks
     private StandardProductService productService;
 
@@ -200,6 +204,7 @@ class StandardProductServiceTest {
         // ProductService의 책임만 검증
         verify(mockProduct).modify(any(ProductModifyRequest.class));
         verify(productImageService).validateAndModifyImages(mockProduct, images, deleteImageIds);
+        verify(productDetailCache).evict(any());
     }
 
     @Test
@@ -299,6 +304,7 @@ class StandardProductServiceTest {
         // then
         verify(productImageService).deleteAllProductImages(mockProduct);
         verify(productRepository).delete(mockProduct);
+        verify(productDetailCache).evict(any());
     }
 
     @Test
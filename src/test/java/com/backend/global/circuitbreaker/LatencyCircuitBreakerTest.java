@@ -0,0 +1,117 @@
+package com.backend.global.circuitbreaker;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    @DisplayName("실패율이 기준 이상이면 OPEN, 유지 시간 동안 호출 차단")
+    void opensOnFailureRate() {
+        // given
+        LatencyCircuitBreaker breaker = breaker();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            if (i % 2 == 0) breaker.onFailure();
+            else breaker.onSuccess(10);
+        }
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(LatencyCircuitBreaker.State.OPEN);
+        now.addAndGet(999);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 기준 이상이면 OPEN")
+    void opensOnSlowCallRate() {
+        // given
+        LatencyCircuitBreaker breaker = breaker();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onSuccess(i == 0 ? 10 : 300);
+        }
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(LatencyCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지나면 시험 호출 수만큼만 허용, 모두 정상이면 CLOSED")
+    void halfOpenThenCloses() {
+        // given
+        LatencyCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+        now.addAndGet(1000);
+
+        // when
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        breaker.onSuccess(10);
+        breaker.onSuccess(10);
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(LatencyCircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("무시한 호출은 결과로 기록하지 않고 시험 호출 권한만 반납")
+    void ignoredCallReleasesHalfOpenPermit() {
+        // given
+        LatencyCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+        now.addAndGet(1000);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        // when
+        breaker.onIgnored();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(LatencyCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 OPEN")
+    void halfOpenFailureReopens() {
+        // given
+        LatencyCircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+        now.addAndGet(1000);
+
+        // when
+        breaker.tryAcquire();
+        breaker.onFailure();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(LatencyCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    // 최근 10건 중 4건 이상, 실패율 50% 또는 느린 호출(200ms 이상) 75% 이상이면 1초간 OPEN, 시험 호출 2건
+    private LatencyCircuitBreaker breaker() {
+        return new LatencyCircuitBreaker("test", 10, 4, 0.5, 200, 0.75, 1000, 2, now::get);
+    }
+}
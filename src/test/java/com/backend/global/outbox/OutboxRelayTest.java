@@ -0,0 +1,259 @@
+package com.backend.global.outbox;
+
+import com.backend.domain.member.event.MemberProfileChangedEvent;
+import com.backend.domain.product.event.ProductPriceChangedEvent;
+import com.backend.global.outbox.entity.OutboxConsumerOffset;
+import com.backend.global.outbox.entity.OutboxEvent;
+import com.backend.global.outbox.enums.AggregateType;
+import com.backend.global.outbox.repository.OutboxConsumerOffsetRepository;
+import com.backend.global.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxConsumerOffsetRepository offsetRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private OutboxTransactionTracker transactionTracker;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("오프셋 이후 이벤트를 id 순으로 전달하고 마지막 처리 위치까지 오프셋 저장")
+    void relayOnce_dispatchesInOrderAndAdvancesOffset() throws Exception {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(0);
+        OutboxRelay relay = createRelay(consumer, 3, 10000);
+        when(offsetRepository.findById("test-consumer")).thenReturn(Optional.empty());
+        when(outboxEventRepository.findBatchAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                event(1L, new ProductPriceChangedEvent(10L, 1000L, 2000L)),
+                event(2L, new MemberProfileChangedEvent(5L)),
+                event(3L, new ProductPriceChangedEvent(10L, 2000L, 3000L))));
+
+        // when
+        boolean more = relay.relayOnce();
+
+        // then
+        assertThat(consumer.received).extracting(ProductPriceChangedEvent::newPrice).containsExactly(2000L, 3000L);
+        assertThat(savedOffset().getLastEventId()).isEqualTo(3L);
+        assertThat(more).isFalse();
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 오프셋을 올리지 않고 재시도, 한도를 넘으면 해당 이벤트만 건너뜀")
+    void relayOnce_retriesThenSkipsFailingEvent() throws Exception {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(2);
+        OutboxRelay relay = createRelay(consumer, 2, 10000);
+        when(offsetRepository.findById("test-consumer")).thenReturn(Optional.empty());
+        when(outboxEventRepository.findBatchAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                event(1L, new ProductPriceChangedEvent(10L, 1000L, 2000L)),
+                event(2L, new ProductPriceChangedEvent(10L, 2000L, 3000L))));
+
+        // when
+        relay.relayOnce();
+
+        // then - 첫 실패: 오프셋 유지
+        verify(offsetRepository, never()).save(any());
+        assertThat(consumer.received).isEmpty();
+
+        // when - 두 번째 실패: 한도 도달로 1번 건너뛰고 2번 처리
+        relay.relayOnce();
+
+        // then
+        assertThat(consumer.received).extracting(ProductPriceChangedEvent::newPrice).containsExactly(3000L);
+        assertThat(savedOffset().getLastEventId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("id 사이에 빈 곳이 있으면 대기 시간 동안 그 앞까지만 전달")
+    void relayOnce_waitsForGapBeforeSkippingIt() throws Exception {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(0);
+        OutboxRelay relay = createRelay(consumer, 3, 10000);
+        when(offsetRepository.findById("test-consumer")).thenReturn(Optional.empty());
+        when(outboxEventRepository.findBatchAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                event(1L, new ProductPriceChangedEvent(10L, 1000L, 2000L)),
+                event(3L, new ProductPriceChangedEvent(10L, 2000L, 3000L))));
+
+        // when
+        relay.relayOnce();
+
+        // then
+        assertThat(consumer.received).extracting(ProductPriceChangedEvent::newPrice).containsExactly(2000L);
+        assertThat(savedOffset().getLastEventId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("빈 곳을 처음 봤을 때 진행 중이던 트랜잭션이 모두 끝나면 대기 시간 전에도 건너뜀")
+    void relayOnce_skipsGapOnceSurroundingTransactionsFinished() throws Exception {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(0);
+        OutboxRelay relay = createRelay(consumer, 3, 60000);
+        when(offsetRepository.findById("test-consumer")).thenReturn(Optional.empty());
+        when(outboxEventRepository.findBatchAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                event(1L, new ProductPriceChangedEvent(10L, 1000L, 2000L)),
+                event(3L, new ProductPriceChangedEvent(10L, 2000L, 3000L))));
+        when(transactionTracker.snapshot()).thenReturn(Set.of("tx-a"));
+        when(transactionTracker.anyInFlight(Set.of("tx-a"))).thenReturn(false);
+
+        // when - 1회차: 빈 곳 발견, 2회차: 트랜잭션 종료 확인, 3회차: 다시 읽은 배치에도 없으므로 건너뜀
+        relay.relayOnce();
+        relay.relayOnce();
+        relay.relayOnce();
+
+        // then
+        assertThat(consumer.received).extracting(ProductPriceChangedEvent::newPrice).endsWith(2000L, 3000L);
+        assertThat(lastSavedOffset().getLastEventId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("빈 곳을 둘러싼 트랜잭션이 진행 중이면 계속 대기")
+    void relayOnce_holdsGapWhileTransactionInFlight() throws Exception {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(0);
+        OutboxRelay relay = createRelay(consumer, 3, 60000);
+        when(offsetRepository.findById("test-consumer")).thenReturn(Optional.empty());
+        when(outboxEventRepository.findBatchAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                event(1L, new ProductPriceChangedEvent(10L, 1000L, 2000L)),
+                event(3L, new ProductPriceChangedEvent(10L, 2000L, 3000L))));
+        when(transactionTracker.snapshot()).thenReturn(Set.of("tx-a"));
+        when(transactionTracker.anyInFlight(Set.of("tx-a"))).thenReturn(true);
+
+        // when
+        relay.relayOnce();
+        relay.relayOnce();
+        relay.relayOnce();
+
+        // then
+        assertThat(consumer.received).extracting(ProductPriceChangedEvent::newPrice).doesNotContain(3000L);
+        assertThat(lastSavedOffset().getLastEventId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("컨슈머 flush 가 실패하면 오프셋을 올리지 않고 배치를 처음부터 다시 전달")
+    void relayOnce_keepsOffsetUntilFlushSucceeds() throws Exception {
+        // given
+        RecordingConsumer consumer = new RecordingConsumer(0);
+        consumer.flushFailures = 1;
+        OutboxRelay relay = createRelay(consumer, 3, 10000);
+        when(offsetRepository.findById("test-consumer")).thenReturn(Optional.empty());
+        when(outboxEventRepository.findBatchAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(
+                event(1L, new ProductPriceChangedEvent(10L, 1000L, 2000L)),
+                event(2L, new ProductPriceChangedEvent(10L, 2000L, 3000L))));
+
+        // when
+        relay.relayOnce();
+
+        // then - flush 실패: 오프셋 유지
+        verify(offsetRepository, never()).save(any());
+
+        // when - 재전달 후 flush 성공
+        relay.relayOnce();
+
+        // then
+        assertThat(consumer.received).extracting(ProductPriceChangedEvent::newPrice)
+                .containsExactly(2000L, 3000L, 2000L, 3000L);
+        assertThat(consumer.flushed).isEqualTo(1);
+        assertThat(savedOffset().getLastEventId()).isEqualTo(2L);
+    }
+
+    private OutboxRelay createRelay(OutboxConsumer consumer, int maxAttempts, long gapTimeoutMillis) {
+        return new OutboxRelay(outboxEventRepository, offsetRepository, List.of(consumer), objectMapper,
+                redissonClient, transactionTracker, transactionManager, new SimpleMeterRegistry(),
+                true, 100, maxAttempts, 0, gapTimeoutMillis, 24);
+    }
+
+    private OutboxEvent event(Long id, Object payload) throws Exception {
+        OutboxEvent event = new OutboxEvent(AggregateType.PRODUCT, 10L,
+                payload.getClass().getSimpleName(), objectMapper.writeValueAsString(payload));
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    private OutboxConsumerOffset savedOffset() {
+        ArgumentCaptor<OutboxConsumerOffset> captor = ArgumentCaptor.forClass(OutboxConsumerOffset.class);
+        verify(offsetRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private OutboxConsumerOffset lastSavedOffset() {
+        ArgumentCaptor<OutboxConsumerOffset> captor = ArgumentCaptor.forClass(OutboxConsumerOffset.class);
+        verify(offsetRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+
+    /**
+     * 가격 변경 이벤트만 처리하는 테스트 컨슈머 (처음 failures 번은 예외, flush 는 처음 flushFailures 번 예외)
+     */
+    private static class RecordingConsumer implements OutboxConsumer {
+        private final List<ProductPriceChangedEvent> received = new ArrayList<>();
+        private int failures;
+        private int flushFailures;
+        private int flushed;
+
+        private RecordingConsumer(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public String name() {
+            return "test-consumer";
+        }
+
+        @Override
+        public Set<Class<?>> eventTypes() {
+            return Set.of(ProductPriceChangedEvent.class);
+        }
+
+        @Override
+        public void handle(Object event) {
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("처리 실패");
+            }
+            received.add((ProductPriceChangedEvent) event);
+        }
+
+        @Override
+        public void flush() {
+            if (flushFailures > 0) {
+                flushFailures--;
+                throw new IllegalStateException("반영 실패");
+            }
+            flushed++;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.backend.global.querydsl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FullTextExpressionsTest {
+
+    @Test
+    @DisplayName("검색어를 구문으로 감싸고 BOOLEAN MODE 연산자는 제거")
+    void phrases_quotesTermsAndStripsOperators() {
+        // when
+        String query = FullTextExpressions.phrases(List.of("  아이폰   +15 ", "서울*특별시\""));
+
+        // then
+        assertThat(query).isEqualTo("\"아이폰 15\" \"서울 특별시\"");
+    }
+
+    @Test
+    @DisplayName("ngram 토큰보다 짧은 단어가 있으면 null (LIKE 로 처리)")
+    void phrases_returnsNullForShortWords() {
+        // when & then
+        assertThat(FullTextExpressions.phrases(List.of("갤럭시 S"))).isNull();
+        assertThat(FullTextExpressions.phrases(List.of("서울", "폰"))).isNull();
+        assertThat(FullTextExpressions.phrases(List.of("+-"))).isNull();
+    }
+}
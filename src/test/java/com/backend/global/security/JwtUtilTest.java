@@ -0,0 +1,61 @@
+package com.backend.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-unit-test-0123456789";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 30, 7, 100);
+
+    @Test
+    @DisplayName("한 번의 검증으로 subject, jti, 만료 시각 반환")
+    void verify_returnsClaims() {
+        // given
+        String token = jwtUtil.generateAccessToken("a@test.com");
+
+        // when
+        Optional<JwtUtil.VerifiedToken> verified = jwtUtil.verify(token);
+
+        // then
+        assertThat(verified).isPresent();
+        assertThat(verified.get().subject()).isEqualTo("a@test.com");
+        assertThat(verified.get().jti()).isNotBlank();
+        assertThat(verified.get().remainingMillis()).isPositive();
+    }
+
+    @Test
+    @DisplayName("이미 검증된 토큰은 캐시된 결과 재사용")
+    void verify_reusesCachedResult() {
+        // given
+        String token = jwtUtil.generateAccessToken("a@test.com");
+        JwtUtil.VerifiedToken first = jwtUtil.verify(token).get();
+
+        // when
+        JwtUtil.VerifiedToken second = jwtUtil.verify(token).get();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 다르거나 만료된 토큰은 검증 실패")
+    void verify_rejectsInvalidTokens() {
+        // given
+        String token = jwtUtil.generateAccessToken("a@test.com");
+        String otherKeyToken = new JwtUtil("another-secret-key-for-jwt-util-unit-test-98765", 30, 7, 100)
+                .generateAccessToken("a@test.com");
+        String expiredToken = new JwtUtil(SECRET, 0, 7, 100).generateAccessToken("a@test.com");
+
+        // when & then
+        assertThat(jwtUtil.verify(token.substring(0, token.length() - 2) + "xx")).isEmpty();
+        assertThat(jwtUtil.verify(otherKeyToken)).isEmpty();
+        assertThat(jwtUtil.verify(expiredToken)).isEmpty();
+        assertThat(jwtUtil.verify(null)).isEmpty();
+    }
+}
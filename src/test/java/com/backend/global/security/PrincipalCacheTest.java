@@ -0,0 +1,93 @@
+package com.backend.global.security;
+
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        principalCache = new PrincipalCache(memberRepository, meterRegistry, 30, 2);
+    }
+
+    @Test
+    @DisplayName("같은 이메일은 한 번만 조회하고 이후 캐시 적중")
+    void getUser_cachesPrincipal() {
+        // given
+        when(memberRepository.findByEmail("a@test.com")).thenReturn(Optional.of(member("a@test.com")));
+
+        // when
+        Optional<User> first = principalCache.getUser("a@test.com");
+        Optional<User> second = principalCache.getUser("a@test.com");
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(second.get().getUsername()).isEqualTo("a@test.com");
+        verify(memberRepository, times(1)).findByEmail("a@test.com");
+        assertThat(meterRegistry.counter("auth.principal.cache", "result", "hit").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("auth.principal.cache", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("evict 후에는 다시 회원 조회")
+    void evict_reloadsPrincipal() {
+        // given
+        when(memberRepository.findByEmail("a@test.com")).thenReturn(Optional.of(member("a@test.com")));
+        principalCache.getUser("a@test.com");
+
+        // when
+        principalCache.evict("a@test.com");
+        principalCache.getUser("a@test.com");
+
+        // then
+        verify(memberRepository, times(2)).findByEmail("a@test.com");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원은 캐시하지 않고, 최대 크기를 넘지 않음")
+    void getUser_boundedAndSkipsMissing() {
+        // given
+        when(memberRepository.findByEmail(anyString()))
+                .thenAnswer(invocation -> Optional.of(member(invocation.getArgument(0))));
+        when(memberRepository.findByEmail("none@test.com")).thenReturn(Optional.empty());
+
+        // when
+        principalCache.getUser("none@test.com");
+        principalCache.getUser("a@test.com");
+        principalCache.getUser("b@test.com");
+        principalCache.getUser("c@test.com");
+
+        // then
+        assertThat(meterRegistry.get("auth.principal.cache.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    private Member member(String email) {
+        return Member.builder()
+                .email(email)
+                .password("encoded")
+                .nickname("테스트유저")
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.backend.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private TokenBlacklist tokenBlacklist;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklist = new TokenBlacklist(stringRedisTemplate, 1000, 0.01);
+    }
+
+    @Test
+    @DisplayName("Bloom filter 에 없는 jti 는 Redis 조회 없이 통과")
+    void isBlacklisted_skipsRedisWhenFilterMisses() {
+        // given
+        givenEmptyScan();
+        tokenBlacklist.rebuild();
+
+        // when
+        boolean blacklisted = tokenBlacklist.isBlacklisted("unknown-jti");
+
+        // then
+        assertThat(blacklisted).isFalse();
+        verify(stringRedisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("로그아웃한 jti 는 TTL 과 함께 저장하고 전파한 뒤 Redis 에서 확인")
+    void add_storesAndPublishes() {
+        // given
+        givenEmptyScan();
+        tokenBlacklist.rebuild();
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(stringRedisTemplate.hasKey("auth:blacklist:jti-1")).thenReturn(true);
+
+        // when
+        tokenBlacklist.add("jti-1", 60_000);
+
+        // then
+        verify(valueOperations).set("auth:blacklist:jti-1", "logout", Duration.ofMillis(60_000));
+        verify(stringRedisTemplate).convertAndSend(TokenBlacklist.CHANNEL, "jti-1");
+        assertThat(tokenBlacklist.isBlacklisted("jti-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 jti 는 로컬 Bloom filter 에 추가")
+    void onMessage_addsToLocalFilter() {
+        // given
+        givenEmptyScan();
+        tokenBlacklist.rebuild();
+        when(stringRedisTemplate.hasKey("auth:blacklist:jti-2")).thenReturn(true);
+
+        // when
+        tokenBlacklist.onMessage(new DefaultMessage(
+                TokenBlacklist.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "jti-2".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(tokenBlacklist.isBlacklisted("jti-2")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재구성 시 Redis 에 남아 있는 jti 를 Bloom filter 에 다시 채움")
+    void rebuild_loadsExistingKeys() {
+        // given
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn("auth:blacklist:jti-3");
+        when(stringRedisTemplate.hasKey("auth:blacklist:jti-3")).thenReturn(true);
+
+        // when
+        tokenBlacklist.rebuild();
+
+        // then
+        assertThat(tokenBlacklist.isBlacklisted("jti-3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Bloom filter 준비 전에는 Redis 를 직접 조회하고, 조회 실패 시 차단")
+    void isBlacklisted_failsClosedBeforeFilterReady() {
+        // given
+        when(stringRedisTemplate.hasKey("auth:blacklist:jti-4")).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        boolean blacklisted = tokenBlacklist.isBlacklisted("jti-4");
+
+        // then
+        assertThat(blacklisted).isTrue();
+    }
+
+    // ======================================= helper methods ======================================= //
+    private void givenEmptyScan() {
+        when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(false);
+    }
+}
@@ -0,0 +1,69 @@
+package com.backend.global.websocket.bridge;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PreSerializedMessageSenderTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private PreSerializedMessageSender messageSender;
+
+    @BeforeEach
+    void setUp() {
+        messageSender = new PreSerializedMessageSender(messagingTemplate, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("한 번 직렬화한 바이트를 그대로 JSON 메시지로 전송")
+    void sendToTopic_reusesSerializedBytes() {
+        // given
+        byte[] json = messageSender.serialize(Map.of("price", 10000));
+
+        // when
+        messageSender.sendToTopic("/topic/bid/1", json);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate).send(eq("/topic/bid/1"), captor.capture());
+
+        Message<byte[]> message = captor.getValue();
+        assertThat(message.getPayload()).isSameAs(json);
+        assertThat(new String(message.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"price\":10000}");
+        assertThat(SimpMessageHeaderAccessor.wrap(message).getContentType()).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    @DisplayName("사용자 메시지는 /user/{email}{destination} 경로로 전송")
+    void sendToUser_buildsUserDestination() {
+        // given
+        byte[] json = messageSender.serialize(Map.of("message", "outbid"));
+
+        // when
+        messageSender.sendToUser("user@test.com", "/queue/notifications", json);
+
+        // then
+        verify(messagingTemplate).send(eq("/user/user@test.com/queue/notifications"), any());
+    }
+}
@@ -0,0 +1,126 @@
+package com.backend.global.websocket.service;
+
+import com.backend.global.websocket.bridge.WebSocketBrokerBridge;
+import com.backend.global.websocket.dto.WebSocketMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidBroadcastConflaterTest {
+
+    @Mock
+    private WebSocketBrokerBridge brokerBridge;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @InjectMocks
+    private BidBroadcastConflater conflater;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(valueOperations.increment(anyString())).thenAnswer(invocation -> sequence.incrementAndGet());
+        ReflectionTestUtils.setField(conflater, "enabled", true);
+        ReflectionTestUtils.setField(conflater, "flushIntervalMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("첫 입찰은 즉시 전송, 주기 안의 입찰은 최신 것만 병합해서 flush 시 전송")
+    void conflatesWithinInterval() {
+        // when
+        conflater.submit(1L, "bid-1");
+        conflater.submit(1L, "bid-2");
+        conflater.submit(1L, "bid-3");
+        conflater.submit(1L, "bid-4");
+
+        // then - 즉시 전송은 첫 입찰 1건
+        ArgumentCaptor<WebSocketMessage> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(brokerBridge, times(1)).publishToTopic(eq("/topic/bid/1"), captor.capture());
+
+        // when
+        conflater.flush();
+
+        // then - 최신 입찰 1건, 병합 수 3
+        verify(brokerBridge, times(2)).publishToTopic(eq("/topic/bid/1"), captor.capture());
+        List<WebSocketMessage> messages = captor.getAllValues();
+        WebSocketMessage first = messages.get(0);
+        WebSocketMessage flushed = messages.get(messages.size() - 1);
+
+        assertThat(first.getData()).isEqualTo("bid-1");
+        assertThat(first.getSequence()).isEqualTo(1L);
+        assertThat(first.getFoldedCount()).isEqualTo(1);
+
+        assertThat(flushed.getData()).isEqualTo("bid-4");
+        assertThat(flushed.getSequence()).isEqualTo(2L);
+        assertThat(flushed.getFoldedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("병합할 입찰이 없으면 flush 시 전송하지 않음")
+    void flushWithoutPending() {
+        // given
+        conflater.submit(1L, "bid-1");
+
+        // when
+        conflater.flush();
+
+        // then
+        verify(brokerBridge, times(1)).publishToTopic(eq("/topic/bid/1"), any());
+    }
+
+    @Test
+    @DisplayName("병합 비활성화 시 입찰마다 즉시 전송")
+    void disabled() {
+        // given
+        ReflectionTestUtils.setField(conflater, "enabled", false);
+
+        // when
+        conflater.submit(1L, "bid-1");
+        conflater.submit(1L, "bid-2");
+
+        // then
+        verify(brokerBridge, times(2)).publishToTopic(eq("/topic/bid/1"), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 sequence 발급 실패 시 로컬 번호 없이 unordered 로 전송")
+    void unorderedWhenSequenceUnavailable() {
+        // given
+        when(valueOperations.increment(anyString())).thenThrow(new RuntimeException("redis down"));
+
+        // when
+        conflater.submit(1L, "bid-1");
+
+        // then
+        ArgumentCaptor<WebSocketMessage> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(brokerBridge).publishToTopic(eq("/topic/bid/1"), captor.capture());
+        WebSocketMessage message = captor.getValue();
+
+        assertThat(message.getData()).isEqualTo("bid-1");
+        assertThat(message.getSequence()).isNull();
+        assertThat(message.getUnordered()).isTrue();
+    }
+}
@@ -0,0 +1,53 @@
+package com.backend.global.websocket.service;
+
+import com.backend.global.websocket.bridge.WebSocketBrokerBridge;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebSocketServiceTest {
+
+    @Mock
+    private WebSocketBrokerBridge brokerBridge;
+
+    @Mock
+    private BidBroadcastConflater bidBroadcastConflater;
+
+    @InjectMocks
+    private WebSocketService webSocketService;
+
+    @Test
+    @DisplayName("상품 토픽 구독자가 없으면 경매 브로드캐스트를 생략")
+    void broadcastAuctionEnd_skipsWithoutWatchers() {
+        // given
+        when(brokerBridge.hasSubscribers("/topic/bid/1")).thenReturn(false);
+
+        // when
+        webSocketService.broadcastAuctionEnd(1L, true, 10000L);
+
+        // then
+        verify(brokerBridge, never()).publishToTopic(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("상품 토픽 구독자가 있으면 경매 브로드캐스트 전송")
+    void broadcastAuctionEnd_sendsWithWatchers() {
+        // given
+        when(brokerBridge.hasSubscribers("/topic/bid/1")).thenReturn(true);
+
+        // when
+        webSocketService.broadcastAuctionEnd(1L, true, 10000L);
+
+        // then
+        verify(brokerBridge).publishToTopic(eq("/topic/bid/1"), any());
+    }
+}
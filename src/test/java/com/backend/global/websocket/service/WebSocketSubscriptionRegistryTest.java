@@ -0,0 +1,91 @@
+package com.backend.global.websocket.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebSocketSubscriptionRegistryTest {
+
+    private WebSocketSubscriptionRegistry registry;
+    private List<String> changedDestinations;
+    private List<String> changedUsers;
+
+    @BeforeEach
+    void setUp() {
+        registry = new WebSocketSubscriptionRegistry();
+        changedDestinations = new ArrayList<>();
+        changedUsers = new ArrayList<>();
+        registry.addListener(new WebSocketSubscriptionRegistry.Listener() {
+            @Override
+            public void onDestinationChanged(String destination) {
+                changedDestinations.add(destination);
+            }
+
+            @Override
+            public void onUserChanged(String userEmail) {
+                changedUsers.add(userEmail);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("첫 구독과 마지막 구독 해제 시에만 리스너 호출")
+    void subscriptionTransitions() {
+        // when
+        registry.addSubscription("s1", "sub-1", "/topic/bid/1");
+        registry.addSubscription("s2", "sub-1", "/topic/bid/1");
+
+        // then
+        assertThat(registry.getSubscriberCount("/topic/bid/1")).isEqualTo(2);
+        assertThat(changedDestinations).containsExactly("/topic/bid/1");
+
+        // when
+        registry.removeSubscription("s1", "sub-1");
+        registry.removeSubscription("s2", "sub-1");
+
+        // then
+        assertThat(registry.hasLocalSubscribers("/topic/bid/1")).isFalse();
+        assertThat(changedDestinations).containsExactly("/topic/bid/1", "/topic/bid/1");
+    }
+
+    @Test
+    @DisplayName("세션 종료 시 해당 세션의 구독과 사용자 세션 정리")
+    void removeSession() {
+        // given
+        registry.registerSession("s1", "a@test.com");
+        registry.registerSession("s2", "a@test.com");
+        registry.addSubscription("s1", "sub-1", "/topic/bid/1");
+        registry.addSubscription("s1", "sub-2", "/topic/bid/2");
+
+        // when
+        registry.removeSession("s1");
+
+        // then
+        assertThat(registry.getActiveDestinations()).isEmpty();
+        assertThat(registry.hasLocalUser("a@test.com")).isTrue(); // s2 가 남아있음
+        assertThat(changedUsers).containsExactly("a@test.com");
+
+        // when
+        registry.removeSession("s2");
+
+        // then
+        assertThat(registry.hasLocalUser("a@test.com")).isFalse();
+        assertThat(changedUsers).containsExactly("a@test.com", "a@test.com");
+    }
+
+    @Test
+    @DisplayName("토픽이 아닌 대상(/user/..)은 추적하지 않음")
+    void ignoreNonTopicDestinations() {
+        // when
+        registry.addSubscription("s1", "sub-1", "/user/queue/notifications");
+
+        // then
+        assertThat(registry.getActiveDestinations()).isEmpty();
+        assertThat(changedDestinations).isEmpty();
+    }
+}